@@ -1,6 +1,10 @@
 package com.test.automation.base;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -22,6 +26,8 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import com.test.automation.utils.ConfigReader;
 import com.test.automation.utils.Logger;
+import com.test.automation.utils.TimedWait;
+import com.test.automation.utils.WaitUtils;
 import com.test.automation.utils.WebDriverManager;
 
 /**
@@ -34,6 +40,8 @@ public class BaseElement implements WebElement {
     protected By locator;
     protected WebElement element = null;
     protected Integer explicitWait;
+    protected long snapshotCacheMillis;
+    private ElementSnapshot cachedSnapshot;
     
     /**
      * Constructor for BaseElement with locator only
@@ -42,9 +50,9 @@ public class BaseElement implements WebElement {
     public BaseElement(By locator) {
         this.driver = WebDriverManager.getDriver();
         this.locator = locator;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(
-            ConfigReader.getIntProperty("explicit.wait")));
-        Logger.debug("Created element with locator: " + locator);
+        this.wait = new TimedWait(driver, ConfigReader.get().getExplicitWait());
+        this.snapshotCacheMillis = ConfigReader.get().getElementSnapshotCacheMillis();
+        Logger.debug("Created element with locator: {}", locator);
     }
     
     /**
@@ -54,8 +62,8 @@ public class BaseElement implements WebElement {
     public BaseElement(WebElement element) {
         this.driver = WebDriverManager.getDriver();
         this.element = element;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(
-            ConfigReader.getIntProperty("explicit.wait")));
+        this.wait = new TimedWait(driver, ConfigReader.get().getExplicitWait());
+        this.snapshotCacheMillis = ConfigReader.get().getElementSnapshotCacheMillis();
         Logger.debug("Created element from existing WebElement");
     }
     
@@ -79,13 +87,158 @@ public class BaseElement implements WebElement {
         }
     }
     
+    /**
+     * Capture text, state and rectangle of the element in a single script call
+     * @return ElementSnapshot of the element
+     */
+    public ElementSnapshot snapshot() {
+        return snapshot(Collections.emptyList(), Collections.emptyList());
+    }
+    
+    /**
+     * Capture text, state, rectangle and the given attributes in a single script call
+     * @param attributes Attribute names to capture (getAttribute semantics)
+     * @return ElementSnapshot of the element
+     */
+    public ElementSnapshot snapshot(String... attributes) {
+        return snapshot(Arrays.asList(attributes), Collections.emptyList());
+    }
+    
+    /**
+     * Capture text, state, rectangle, attributes and CSS values in a single script call
+     * A cached snapshot is reused while it is younger than the snapshot cache timeout
+     * and covers the requested properties; any interaction invalidates it
+     * @param attributes Attribute names to capture (getAttribute semantics)
+     * @param cssProperties CSS property names to capture
+     * @return ElementSnapshot of the element
+     */
+    public ElementSnapshot snapshot(Collection<String> attributes, Collection<String> cssProperties) {
+        try {
+            ElementSnapshot cached = cachedSnapshot;
+            if (cached != null && cached.getAgeMillis() < snapshotCacheMillis
+                    && cached.covers(attributes, cssProperties)) {
+                return cached;
+            }
+            ElementSnapshot fresh = ElementSnapshot.fromScriptResult(((JavascriptExecutor) driver).executeScript(
+                ElementScripts.SNAPSHOT, getElement(), attributes, cssProperties));
+            if (snapshotCacheMillis > 0) {
+                cachedSnapshot = fresh;
+            }
+            return fresh;
+        } catch (Exception e) {
+            Logger.error("Failed to capture element snapshot", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Capture a snapshot of the element, waiting for visibility only if it is not displayed yet
+     * @param attributes Attribute names to capture
+     * @return ElementSnapshot of the visible element
+     */
+    protected ElementSnapshot visibleSnapshot(String... attributes) {
+        ElementSnapshot snapshot = snapshot(attributes);
+        if (!snapshot.isDisplayed()) {
+            waitForVisible();
+            invalidateSnapshot();
+            snapshot = snapshot(attributes);
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Discard the cached snapshot so the next snapshot() call reads from the page
+     */
+    public void invalidateSnapshot() {
+        cachedSnapshot = null;
+    }
+    
+    /**
+     * Set how long a snapshot may be reused before it is read again
+     * @param snapshotCacheMillis Cache timeout in milliseconds, 0 disables caching
+     */
+    public void setSnapshotCacheMillis(long snapshotCacheMillis) {
+        this.snapshotCacheMillis = snapshotCacheMillis;
+        invalidateSnapshot();
+    }
+    
+    /**
+     * Read properties of every child matching a locator in a single script call
+     * Supported properties are "text", "tagName", "displayed" and any attribute name (getAttribute semantics)
+     * @param childLocator Locator of the children, relative to this element
+     * @param properties Properties to read for each child
+     * @return One list of values per matching child, in the order of the requested properties
+     */
+    public List<List<String>> bulkRead(By childLocator, String... properties) {
+        return bulkRead(null, childLocator, Arrays.asList(properties));
+    }
+    
+    /**
+     * Read a single property of every child matching a locator in a single script call
+     * @param childLocator Locator of the children, relative to this element
+     * @param property Property to read ("text", "tagName", "displayed" or an attribute name)
+     * @return Values of the property, one per matching child
+     */
+    public List<String> bulkReadValues(By childLocator, String property) {
+        List<List<String>> rows = bulkRead(null, childLocator, Collections.singletonList(property));
+        List<String> values = new ArrayList<>(rows.size());
+        for (List<String> row : rows) {
+            values.add(row.get(0));
+        }
+        return values;
+    }
+    
+    /**
+     * Read properties of every child matching a locator inside the first match of a scope locator
+     * Falls back to locating the children through the driver when a locator cannot be evaluated in the page
+     * @param scopeLocator Locator whose first match becomes the search root, null to search this element
+     * @param childLocator Locator of the children
+     * @param properties Properties to read for each child
+     * @return One list of values per matching child
+     */
+    @SuppressWarnings("unchecked")
+    protected List<List<String>> bulkRead(By scopeLocator, By childLocator, List<String> properties) {
+        try {
+            List<String> scopeArgument = scopeLocator != null ? ElementScripts.locatorArgument(scopeLocator) : null;
+            List<String> childArgument = ElementScripts.locatorArgument(childLocator);
+            Object result;
+            if (childArgument != null && (scopeLocator == null || scopeArgument != null)) {
+                result = ((JavascriptExecutor) driver).executeScript(ElementScripts.BULK_READ,
+                    getElement(), scopeArgument, childArgument, null, properties);
+            } else {
+                List<WebElement> scopeElements = scopeLocator != null
+                    ? getElement().findElements(scopeLocator) : Collections.singletonList(getElement());
+                if (scopeElements.isEmpty()) {
+                    return new ArrayList<>();
+                }
+                List<WebElement> children = scopeElements.get(0).findElements(childLocator);
+                result = ((JavascriptExecutor) driver).executeScript(ElementScripts.BULK_READ,
+                    getElement(), null, null, children, properties);
+            }
+            List<List<String>> rows = new ArrayList<>();
+            for (Object row : (List<Object>) result) {
+                List<String> values = new ArrayList<>();
+                for (Object value : (List<Object>) row) {
+                    values.add(value == null ? null : String.valueOf(value));
+                }
+                rows.add(values);
+            }
+            Logger.debug("Bulk read {} elements with locator: {}", rows.size(), childLocator);
+            return rows;
+        } catch (Exception e) {
+            Logger.error("Failed to bulk read elements with locator: " + childLocator, e);
+            throw e;
+        }
+    }
+    
     /**
      * Type text into the element
      * @param text Text to type
      */
     public void type(String text) {
         try {
-            Logger.debug("Typing text: " + text);
+            Logger.debug("Typing text: {}", text);
+            invalidateSnapshot();
             waitForVisible();
             clear();
             sendKeys(text);
@@ -109,7 +262,8 @@ public class BaseElement implements WebElement {
      */
     public void setValue(String value) {
         try {
-            Logger.debug("Setting value: " + value);
+            Logger.debug("Setting value: {}", value);
+            invalidateSnapshot();
             waitForVisible();
             clear();
             sendKeys(value);
@@ -125,7 +279,8 @@ public class BaseElement implements WebElement {
      */
     public void setValueUsingAngular(String value) {
         try {
-            Logger.debug("Setting value using Angular: " + value);
+            Logger.debug("Setting value using Angular: {}", value);
+            invalidateSnapshot();
             waitForVisible();
             String script = "arguments[0].value=arguments[1];" +
                             "arguments[0].dispatchEvent(new Event('input'));" +
@@ -193,9 +348,7 @@ public class BaseElement implements WebElement {
      * @return true if the element is disabled
      */
     public boolean isElementDisabled() {
-        String disabled = getAttribute("disabled");
-        String ariaDisabled = getAttribute("aria-disabled");
-        return disabled != null || "true".equals(ariaDisabled);
+        return snapshot("disabled", "aria-disabled").isDisabled();
     }
     
     /**
@@ -218,6 +371,7 @@ public class BaseElement implements WebElement {
     public void changeStyleToDisplayHidden() {
         try {
             Logger.debug("Changing style to display:none");
+            invalidateSnapshot();
             ((JavascriptExecutor) driver).executeScript(
                 "arguments[0].style.display='none'", getElement());
         } catch (Exception e) {
@@ -232,6 +386,7 @@ public class BaseElement implements WebElement {
     public void changeStyleToDisplay() {
         try {
             Logger.debug("Changing style to display:block");
+            invalidateSnapshot();
             ((JavascriptExecutor) driver).executeScript(
                 "arguments[0].style.display='block'", getElement());
         } catch (Exception e) {
@@ -246,7 +401,7 @@ public class BaseElement implements WebElement {
      */
     public void removeEventHandler(String event) {
         try {
-            Logger.debug("Removing event handler: " + event);
+            Logger.debug("Removing event handler: {}", event);
             ((JavascriptExecutor) driver).executeScript(
                 "arguments[0].on" + event + " = null", getElement());
         } catch (Exception e) {
@@ -261,7 +416,7 @@ public class BaseElement implements WebElement {
      */
     public void preventDefault(String event) {
         try {
-            Logger.debug("Preventing default for event: " + event);
+            Logger.debug("Preventing default for event: {}", event);
             ((JavascriptExecutor) driver).executeScript(
                 "arguments[0].addEventListener('" + event + "', function(e) { e.preventDefault(); })",
                 getElement());
@@ -286,7 +441,7 @@ public class BaseElement implements WebElement {
     public void setExplicitWait(Integer explicitWait) {
         this.explicitWait = explicitWait;
         if (explicitWait != null) {
-            this.wait = new WebDriverWait(driver, Duration.ofSeconds(explicitWait));
+            this.wait = new TimedWait(driver, Duration.ofSeconds(explicitWait));
         }
     }
     
@@ -363,11 +518,7 @@ public class BaseElement implements WebElement {
                 getElement());
             
             // Small pause to allow the scroll to complete
-            try {
-                Thread.sleep(300);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            WaitUtils.sleep(300);
         } catch (Exception e) {
             Logger.error("Failed to scroll to element", e);
             throw e;
@@ -384,11 +535,7 @@ public class BaseElement implements WebElement {
                 "arguments[0].scrollIntoView(true);", getElement());
             
             // Small pause to allow the scroll to complete
-            try {
-                Thread.sleep(300);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            WaitUtils.sleep(300);
         } catch (Exception e) {
             Logger.error("Failed to scroll element into view", e);
             throw e;
@@ -401,6 +548,7 @@ public class BaseElement implements WebElement {
     public void hover() {
         try {
             Logger.debug("Hovering over element");
+            invalidateSnapshot();
             Actions actions = new Actions(driver);
             actions.moveToElement(getElement()).perform();
         } catch (Exception e) {
@@ -416,7 +564,8 @@ public class BaseElement implements WebElement {
      */
     public void hover(int offsetX, int offsetY) {
         try {
-            Logger.debug("Hovering over element with offset: " + offsetX + ", " + offsetY);
+            Logger.debug("Hovering over element with offset: {}, {}", offsetX, offsetY);
+            invalidateSnapshot();
             Actions actions = new Actions(driver);
             actions.moveToElement(getElement(), offsetX, offsetY).perform();
         } catch (Exception e) {
@@ -431,6 +580,7 @@ public class BaseElement implements WebElement {
     public void hoverUsingJavaScript() {
         try {
             Logger.debug("Hovering over element using JavaScript");
+            invalidateSnapshot();
             String script = 
                 "var element = arguments[0];" +
                 "var mouseoverEvent = new MouseEvent('mouseover', {" +
@@ -524,6 +674,7 @@ public class BaseElement implements WebElement {
     public void clear() {
         try {
             Logger.debug("Clearing element");
+            invalidateSnapshot();
             getElement().clear();
         } catch (Exception e) {
             Logger.error("Failed to clear element", e);
@@ -538,6 +689,7 @@ public class BaseElement implements WebElement {
     public void click() {
         try {
             Logger.debug("Clicking element");
+            invalidateSnapshot();
             waitForClickable();
             scrollTo();
             getElement().click();
@@ -553,6 +705,7 @@ public class BaseElement implements WebElement {
     public void clickWithoutScroll() {
         try {
             Logger.debug("Clicking element without scroll");
+            invalidateSnapshot();
             waitForClickable();
             getElement().click();
         } catch (Exception e) {
@@ -567,6 +720,7 @@ public class BaseElement implements WebElement {
     public void jsClick() {
         try {
             Logger.debug("Clicking element using JavaScript");
+            invalidateSnapshot();
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", getElement());
         } catch (Exception e) {
             Logger.error("Failed to click element using JavaScript", e);
@@ -580,6 +734,7 @@ public class BaseElement implements WebElement {
     public void clickUsingAngular() {
         try {
             Logger.debug("Clicking element using Angular");
+            invalidateSnapshot();
             String script = "angular.element(arguments[0]).triggerHandler('click')";
             ((JavascriptExecutor) driver).executeScript(script, getElement());
         } catch (Exception e) {
@@ -594,6 +749,7 @@ public class BaseElement implements WebElement {
     public void doubleClick() {
         try {
             Logger.debug("Double-clicking element");
+            invalidateSnapshot();
             waitForClickable();
             scrollTo();
             Actions actions = new Actions(driver);
@@ -610,6 +766,7 @@ public class BaseElement implements WebElement {
     public void moveToElementAndClick() {
         try {
             Logger.debug("Moving to element and clicking");
+            invalidateSnapshot();
             waitForVisible();
             Actions actions = new Actions(driver);
             actions.moveToElement(getElement()).click().build().perform();
@@ -626,6 +783,8 @@ public class BaseElement implements WebElement {
     public void dragAndDrop(BaseElement target) {
         try {
             Logger.debug("Dragging and dropping element");
+            invalidateSnapshot();
+            target.invalidateSnapshot();
             waitForVisible();
             target.waitForVisible();
             
@@ -645,6 +804,7 @@ public class BaseElement implements WebElement {
     public void sendKeys(CharSequence... keysToSend) {
         try {
             Logger.debug("Sending keys to element");
+            invalidateSnapshot();
             waitForVisible();
             getElement().sendKeys(keysToSend);
         } catch (Exception e) {
@@ -660,6 +820,7 @@ public class BaseElement implements WebElement {
     public void sendKeysWithoutClear(CharSequence... keysToSend) {
         try {
             Logger.debug("Sending keys without clear");
+            invalidateSnapshot();
             waitForVisible();
             getElement().sendKeys(keysToSend);
         } catch (Exception e) {
@@ -675,6 +836,7 @@ public class BaseElement implements WebElement {
     public void submit() {
         try {
             Logger.debug("Submitting element");
+            invalidateSnapshot();
             getElement().submit();
         } catch (Exception e) {
             Logger.error("Failed to submit element", e);
@@ -3,12 +3,17 @@ package com.test.automation.base;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 import com.test.automation.utils.ConfigReader;
 import com.test.automation.utils.Logger;
+import com.test.automation.utils.PageMetrics;
+import com.test.automation.utils.ScreenshotPipeline;
+import com.test.automation.utils.TimedWait;
 import com.test.automation.utils.WaitUtils;
 import com.test.automation.utils.WebDriverManager;
 
-import java.time.Duration;
 
 /**
  * Base class for all Page Objects in the framework
@@ -23,14 +28,14 @@ public abstract class BasePage {
      * Constructor for BasePage
      */
     public BasePage() {
-        this.pageName = this.getClass().getSimpleName();
+        this.pageName = Pages.pageType(getClass()).getSimpleName();
         this.driver = WebDriverManager.getDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getIntProperty("explicit.wait")));
+        this.wait = new TimedWait(driver, ConfigReader.get().getExplicitWait());
         this.waitUtils = new WaitUtils(driver);
         
-        Logger.debug("Initializing " + pageName);
+        Logger.debug("Initializing {}", pageName);
         initialize();
-        Logger.debug(pageName + " initialized");
+        Logger.debug("{} initialized", pageName);
     }
     
     /**
@@ -69,9 +74,10 @@ public abstract class BasePage {
      */
     protected void navigateTo(String url) {
         try {
-            Logger.debug("Navigating to: " + url);
+            Logger.debug("Navigating to: {}", url);
             driver.get(url);
             waitUtils.waitForPageToLoad();
+            recordPageMetrics("navigateTo");
         } catch (Exception e) {
             Logger.error("Failed to navigate to: " + url, e);
             throw e;
@@ -135,4 +141,21 @@ public abstract class BasePage {
             throw e;
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Capture a screenshot and store it in the background (see {@link ScreenshotPipeline})
+     * @param label Short description used in the file name
+     * @return Future of the stored screenshot file
+     */
+    protected CompletableFuture<Path> captureScreenshot(String label) {
+        return ScreenshotPipeline.get().capture(driver, pageName + " " + label, false);
+    }
+    
+    /**
+     * Record the timing metrics of the page transition that just completed (see {@link PageMetrics})
+     * @param destination Where the page navigated to, e.g. the tab name
+     */
+    protected void recordPageMetrics(String destination) {
+        PageMetrics.record(driver, pageName + " " + destination);
+    }
+}
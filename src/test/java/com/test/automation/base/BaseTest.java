@@ -1,36 +1,207 @@
 package com.test.automation.base;
 
+import org.openqa.selenium.NoAlertPresentException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
+import com.test.automation.data.RecordPool;
 import com.test.automation.utils.ConfigReader;
 import com.test.automation.utils.Logger;
+import com.test.automation.utils.SalesforceUtils;
+import com.test.automation.utils.WaitUtils;
 import com.test.automation.utils.WebDriverManager;
 
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Base class of browser tests. By default every test gets a fresh browser that is quit afterwards. Test classes
+ * that return {@link FixtureScope#WORKER} from {@link #getFixtureScope()} share one browser per worker thread
+ * instead: it is launched and {@link #signIn() signed in} before the first test, brought back to the home page by
+ * {@link #resetSession()} between tests, and only relaunched when a failure leaves it unusable. Worker browsers
+ * are quit after the suite. Set fixture.worker.scope=false to give every test a fresh browser again, e.g. to
+ * compare suite times.
+ */
 public class BaseTest {
+    /**
+     * How long a test's browser session lives
+     */
+    protected enum FixtureScope {
+        /** A fresh browser for every test method */
+        METHOD,
+        /** One signed-in browser per worker thread, reset between test methods */
+        WORKER
+    }
+
+    private static final Set<WebDriver> WORKER_DRIVERS = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<WorkerSession> WORKER_SESSION = new ThreadLocal<>();
+    private static final AtomicInteger LAUNCHES = new AtomicInteger();
+    private static final AtomicInteger REUSES = new AtomicInteger();
+
     protected WebDriver driver;
 
     @BeforeMethod
     @Parameters({"browser"})
     public void setUp(@Optional("chrome") String browser) {
+        if (!isWorkerScoped()) {
+            initializeDriver(browser);
+            configureDriver();
+            Logger.info("WebDriver initialized with browser: " + browser);
+            return;
+        }
+        WorkerSession session = WORKER_SESSION.get();
+        if (session != null && session.driver == WebDriverManager.getCurrentDriver()
+            && WORKER_DRIVERS.contains(session.driver)) {
+            driver = session.driver;
+            try {
+                resetSession();
+                REUSES.incrementAndGet();
+                Logger.info("Reusing the worker's browser session");
+                return;
+            } catch (WebDriverException e) {
+                Logger.warn("Worker browser session could not be reset, relaunching", e);
+                endWorkerSession();
+            }
+        }
         initializeDriver(browser);
         configureDriver();
-        Logger.info("WebDriver initialized with browser: " + browser);
+        if (driver == null) {
+            return;
+        }
+        try {
+            signIn();
+        } catch (RuntimeException | Error e) {
+            Logger.error("Error signing in the worker's browser session", e);
+            WebDriverManager.quitDriver();
+            driver = null;
+            throw e;
+        }
+        WORKER_DRIVERS.add(driver);
+        WORKER_SESSION.set(new WorkerSession(driver, driver.getWindowHandle(), driver.getCurrentUrl()));
+        LAUNCHES.incrementAndGet();
+        Logger.info("Worker browser session started with browser: " + browser);
     }
 
     @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
+    public void tearDown(ITestResult result) {
+        if (driver == null) {
+            return;
+        }
+        if (!isWorkerScoped()) {
             WebDriverManager.quitDriver();
             Logger.info("WebDriver quit successfully");
+        } else if (result.getStatus() == ITestResult.FAILURE && !isSessionUsable()) {
+            Logger.warn("Worker browser session is unusable after a failure, it will be relaunched");
+            endWorkerSession();
         }
     }
 
+    @AfterSuite(alwaysRun = true)
+    public void quitWorkerSessions() {
+        if (WORKER_DRIVERS.isEmpty()) {
+            return;
+        }
+        Logger.info("Worker browser sessions: " + LAUNCHES.get() + " launched, " + REUSES.get() + " tests reused one");
+        WebDriver current = WebDriverManager.getCurrentDriver();
+        if (current != null && WORKER_DRIVERS.remove(current)) {
+            WebDriverManager.quitDriver();
+        }
+        // Sessions of other workers; their threads have finished their tests
+        for (WebDriver workerDriver : WORKER_DRIVERS) {
+            try {
+                workerDriver.quit();
+            } catch (WebDriverException e) {
+                Logger.warn("Failed to quit a worker browser session", e);
+            }
+        }
+        WORKER_DRIVERS.clear();
+        WORKER_SESSION.remove();
+    }
+
+    /**
+     * Close the shared record pools, deleting the records tests released and those never handed out; fails the
+     * suite (as a configuration failure) if records could not be deleted and are left in the org
+     */
+    @AfterSuite(alwaysRun = true)
+    public void closeRecordPools() {
+        RecordPool.closeShared();
+    }
+
+    /**
+     * Get how long the browser sessions of this class live
+     * @return {@link FixtureScope#METHOD} unless overridden
+     */
+    protected FixtureScope getFixtureScope() {
+        return FixtureScope.METHOD;
+    }
+
+    /**
+     * Sign in a newly launched worker browser; the page it ends on is the home page {@link #resetSession()}
+     * returns to. Worker-scoped classes on the same thread share the session, so they must sign in the same user.
+     */
+    protected void signIn() {
+    }
+
+    /**
+     * Bring the worker's browser back to a known state between tests: accept any open alert (e.g. a leave-page
+     * prompt), close the windows opened by the previous test and reload the home page, which also discards open
+     * modals and unsaved forms
+     */
+    protected void resetSession() {
+        WorkerSession session = WORKER_SESSION.get();
+        acceptAlert();
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(session.mainWindow)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(session.mainWindow);
+        driver.get(session.homeUrl);
+        acceptAlert();
+        new WaitUtils(driver).waitForPageToLoad();
+        SalesforceUtils.waitForLightningPageLoad(driver);
+    }
+
+    private boolean isWorkerScoped() {
+        return getFixtureScope() == FixtureScope.WORKER && ConfigReader.get().isFixtureWorkerScope();
+    }
+
+    private boolean isSessionUsable() {
+        try {
+            driver.getWindowHandles();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private void acceptAlert() {
+        try {
+            driver.switchTo().alert().accept();
+        } catch (NoAlertPresentException e) {
+            // Nothing to dismiss
+        }
+    }
+
+    private void endWorkerSession() {
+        WORKER_DRIVERS.remove(driver);
+        WORKER_SESSION.remove();
+        try {
+            WebDriverManager.quitDriver();
+        } catch (WebDriverException e) {
+            Logger.warn("Failed to quit the worker browser session", e);
+        }
+        driver = null;
+    }
+
     private void initializeDriver(String browser) {
         try {
             WebDriverManager.initDriver(browser);
@@ -40,21 +211,36 @@ public class BaseTest {
             e.printStackTrace();
         }
     }
-    
+
     private void configureDriver() {
         if (driver != null) {
             // Set timeouts
-            int pageLoadTimeout = ConfigReader.getIntProperty("page.load.timeout");
-            int implicitWait = ConfigReader.getIntProperty("implicit.wait");
-            
+            Duration pageLoadTimeout = ConfigReader.get().getPageLoadTimeout();
+            Duration implicitWait = ConfigReader.get().getImplicitWait();
+
             // Configure timeouts
-            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
-            
+            driver.manage().timeouts().pageLoadTimeout(pageLoadTimeout);
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+
             // Maximize window
             driver.manage().window().maximize();
-            
-            Logger.info("Driver configured with timeouts - pageLoad: " + pageLoadTimeout + "s, implicit: " + implicitWait + "s");
+
+            Logger.info("Driver configured with timeouts - pageLoad: " + pageLoadTimeout.getSeconds() + "s, implicit: " + implicitWait.getSeconds() + "s");
+        }
+    }
+
+    /**
+     * Browser session of a worker thread and the state it is reset to
+     */
+    private static final class WorkerSession {
+        private final WebDriver driver;
+        private final String mainWindow;
+        private final String homeUrl;
+
+        private WorkerSession(WebDriver driver, String mainWindow, String homeUrl) {
+            this.driver = driver;
+            this.mainWindow = mainWindow;
+            this.homeUrl = homeUrl;
         }
     }
-} 
\ No newline at end of file
+}
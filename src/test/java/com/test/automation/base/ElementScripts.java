@@ -0,0 +1,166 @@
+package com.test.automation.base;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.openqa.selenium.By;
+
+/**
+ * JavaScript snippets injected by the element classes to read several properties in one round-trip
+ */
+public final class ElementScripts {
+
+    /**
+     * Reads an attribute with WebDriver getAttribute() semantics: the DOM property when it is a primitive,
+     * "true"/null for boolean attributes, otherwise the raw attribute
+     */
+    public static final String READ_ATTRIBUTE_FUNCTION =
+        "function __readAttr(el, name) {" +
+        "  var lower = name.toLowerCase();" +
+        "  var bools = ['async','autofocus','autoplay','checked','controls','defer','disabled','hidden'," +
+        "    'indeterminate','ismap','loop','multiple','muted','novalidate','open','readonly','required'," +
+        "    'reversed','selected'];" +
+        "  if (lower === 'style') { return el.getAttribute('style'); }" +
+        "  var prop = lower === 'class' ? 'className' : (lower === 'readonly' ? 'readOnly' : name);" +
+        "  if (bools.indexOf(lower) >= 0) {" +
+        "    return (el[prop] === true || el.hasAttribute(name)) ? 'true' : null;" +
+        "  }" +
+        "  var value = el[prop];" +
+        "  if (value === undefined || value === null || typeof value === 'object' || typeof value === 'function') {" +
+        "    return el.getAttribute(name);" +
+        "  }" +
+        "  return String(value);" +
+        "}";
+
+    /**
+     * Approximates WebDriver isDisplayed() without leaving the page
+     */
+    public static final String IS_SHOWN_FUNCTION =
+        "function __isShown(el) {" +
+        "  if (!el.isConnected) { return false; }" +
+        "  if (el.tagName === 'INPUT' && el.type === 'hidden') { return false; }" +
+        "  if (el.tagName === 'OPTION' || el.tagName === 'OPTGROUP') {" +
+        "    var select = el.closest('select');" +
+        "    return select ? __isShown(select) : false;" +
+        "  }" +
+        "  if (typeof el.checkVisibility === 'function' &&" +
+        "      !el.checkVisibility({opacityProperty: true, visibilityProperty: true})) { return false; }" +
+        "  for (var n = el; n && n.nodeType === 1; n = n.parentElement) {" +
+        "    var s = window.getComputedStyle(n);" +
+        "    if (s.display === 'none') { return false; }" +
+        "    if (n === el && (s.visibility === 'hidden' || s.visibility === 'collapse' || s.opacity === '0')) {" +
+        "      return false;" +
+        "    }" +
+        "  }" +
+        "  return el.getClientRects().length > 0;" +
+        "}";
+
+    /**
+     * Reads the rendered text of an element, empty when it is not displayed
+     */
+    public static final String READ_TEXT_FUNCTION =
+        "function __readText(el) {" +
+        "  if (!__isShown(el)) { return ''; }" +
+        "  var t = el.tagName === 'OPTION' ? el.text : (el.innerText !== undefined ? el.innerText : el.textContent);" +
+        "  return (t || '').replace(/\\u00a0/g, ' ').trim();" +
+        "}";
+
+    /**
+     * arguments[0] element, arguments[1] attribute names, arguments[2] CSS property names
+     */
+    public static final String SNAPSHOT =
+        READ_ATTRIBUTE_FUNCTION + IS_SHOWN_FUNCTION + READ_TEXT_FUNCTION +
+        "var el = arguments[0], attrs = arguments[1] || [], css = arguments[2] || [];" +
+        "var r = el.getBoundingClientRect();" +
+        "var style = window.getComputedStyle(el);" +
+        "var out = {" +
+        "  tag: el.tagName.toLowerCase()," +
+        "  text: __readText(el)," +
+        "  displayed: __isShown(el)," +
+        "  enabled: !(el.matches && el.matches(':disabled'))," +
+        "  selected: !!(el.checked || el.selected)," +
+        "  rect: [r.left + window.pageXOffset, r.top + window.pageYOffset, r.width, r.height]," +
+        "  attributes: {}," +
+        "  css: {}" +
+        "};" +
+        "for (var i = 0; i < attrs.length; i++) { out.attributes[attrs[i]] = __readAttr(el, attrs[i]); }" +
+        "for (var j = 0; j < css.length; j++) { out.css[css[j]] = style.getPropertyValue(css[j]); }" +
+        "return out;";
+
+    /**
+     * Finds elements under a root for a [using, value] pair produced by {@link #locatorArgument(By)}
+     */
+    public static final String FIND_ALL_FUNCTION =
+        "function __findAll(root, loc) {" +
+        "  var using = loc[0], value = loc[1], out = [], i;" +
+        "  if (using === 'css selector') { return Array.prototype.slice.call(root.querySelectorAll(value)); }" +
+        "  if (using === 'tag name') { return Array.prototype.slice.call(root.getElementsByTagName(value)); }" +
+        "  if (using === 'xpath') {" +
+        "    var found = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "    for (i = 0; i < found.snapshotLength; i++) {" +
+        "      if (found.snapshotItem(i).nodeType === 1) { out.push(found.snapshotItem(i)); }" +
+        "    }" +
+        "    return out;" +
+        "  }" +
+        "  if (using === 'link text' || using === 'partial link text') {" +
+        "    var links = root.querySelectorAll('a');" +
+        "    for (i = 0; i < links.length; i++) {" +
+        "      var linkText = __readText(links[i]);" +
+        "      if (using === 'link text' ? linkText === value : linkText.indexOf(value) >= 0) { out.push(links[i]); }" +
+        "    }" +
+        "    return out;" +
+        "  }" +
+        "  throw new Error('Unsupported locator strategy: ' + using);" +
+        "}";
+
+    /**
+     * Reads a property of an element: "text", "tagName", "displayed" or an attribute name
+     */
+    public static final String READ_PROPERTY_FUNCTION =
+        "function __readProperty(el, name) {" +
+        "  if (name === 'text') { return __readText(el); }" +
+        "  if (name === 'tagName') { return el.tagName.toLowerCase(); }" +
+        "  if (name === 'displayed') { return String(__isShown(el)); }" +
+        "  return __readAttr(el, name);" +
+        "}";
+
+    /**
+     * arguments[0] root element, arguments[1] optional scope locator (its first match becomes the root),
+     * arguments[2] child locator, arguments[3] pre-located children (used when the locator is not scriptable),
+     * arguments[4] property names; returns one array of values per child
+     */
+    public static final String BULK_READ =
+        READ_ATTRIBUTE_FUNCTION + IS_SHOWN_FUNCTION + READ_TEXT_FUNCTION + FIND_ALL_FUNCTION + READ_PROPERTY_FUNCTION +
+        "var root = arguments[0] || document, scope = arguments[1], props = arguments[4];" +
+        "if (scope) {" +
+        "  root = __findAll(root, scope)[0];" +
+        "  if (!root) { return []; }" +
+        "}" +
+        "var items = arguments[2] ? __findAll(root, arguments[2]) : arguments[3];" +
+        "var out = new Array(items.length);" +
+        "for (var i = 0; i < items.length; i++) {" +
+        "  var row = new Array(props.length);" +
+        "  for (var j = 0; j < props.length; j++) { row[j] = __readProperty(items[i], props[j]); }" +
+        "  out[i] = row;" +
+        "}" +
+        "return out;";
+
+    /**
+     * Convert a locator to the [using, value] pair understood by {@link #FIND_ALL_FUNCTION}
+     * @param by Locator to convert
+     * @return Locator argument, or null if the locator cannot be evaluated inside the page
+     */
+    public static List<String> locatorArgument(By by) {
+        if (!(by instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        if (!(parameters.value() instanceof String)) {
+            return null;
+        }
+        return Arrays.asList(parameters.using(), (String) parameters.value());
+    }
+
+    private ElementScripts() {
+    }
+}
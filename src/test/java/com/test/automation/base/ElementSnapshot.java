@@ -0,0 +1,208 @@
+package com.test.automation.base;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.Rectangle;
+
+/**
+ * Immutable view of an element's text, state, geometry, attributes and CSS values
+ * captured in a single script round-trip (see {@link BaseElement#snapshot(Collection, Collection)})
+ */
+public final class ElementSnapshot {
+    private final String tagName;
+    private final String text;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final Rectangle rect;
+    private final Map<String, String> attributes;
+    private final Map<String, String> cssValues;
+    private final long capturedAtMillis;
+
+    private ElementSnapshot(String tagName, String text, boolean displayed, boolean enabled, boolean selected,
+                            Rectangle rect, Map<String, String> attributes, Map<String, String> cssValues) {
+        this.tagName = tagName;
+        this.text = text;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.rect = rect;
+        this.attributes = Collections.unmodifiableMap(attributes);
+        this.cssValues = Collections.unmodifiableMap(cssValues);
+        this.capturedAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Build a snapshot from the object returned by {@link ElementScripts#SNAPSHOT}
+     * @param result Script result
+     * @return ElementSnapshot instance
+     */
+    @SuppressWarnings("unchecked")
+    static ElementSnapshot fromScriptResult(Object result) {
+        if (!(result instanceof Map)) {
+            throw new IllegalStateException("Unexpected snapshot script result: " + result);
+        }
+        Map<String, Object> map = (Map<String, Object>) result;
+        List<Object> rect = (List<Object>) map.get("rect");
+        return new ElementSnapshot(
+            (String) map.get("tag"),
+            (String) map.get("text"),
+            Boolean.TRUE.equals(map.get("displayed")),
+            Boolean.TRUE.equals(map.get("enabled")),
+            Boolean.TRUE.equals(map.get("selected")),
+            new Rectangle(toInt(rect.get(0)), toInt(rect.get(1)), toInt(rect.get(3)), toInt(rect.get(2))),
+            toStringMap((Map<String, Object>) map.get("attributes")),
+            toStringMap((Map<String, Object>) map.get("css")));
+    }
+
+    private static int toInt(Object value) {
+        return value == null ? 0 : (int) Math.round(((Number) value).doubleValue());
+    }
+
+    private static Map<String, String> toStringMap(Map<String, Object> source) {
+        Map<String, String> target = new LinkedHashMap<>();
+        if (source != null) {
+            for (Map.Entry<String, Object> entry : source.entrySet()) {
+                target.put(entry.getKey(), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Get the lower-case tag name
+     * @return Tag name
+     */
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Get the rendered text (empty when the element is not displayed)
+     * @return Text of the element
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Check if the element was displayed when captured
+     * @return true if displayed
+     */
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    /**
+     * Check if the element was enabled when captured
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check if the element was selected/checked when captured
+     * @return true if selected
+     */
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * Get the element rectangle in document coordinates
+     * @return Rectangle of the element
+     */
+    public Rectangle getRect() {
+        return rect;
+    }
+
+    /**
+     * Get a captured attribute value
+     * @param name Attribute name
+     * @return Attribute value, null if the element does not have it
+     * @throws IllegalArgumentException if the attribute was not requested for this snapshot
+     */
+    public String getAttribute(String name) {
+        if (!attributes.containsKey(name)) {
+            throw new IllegalArgumentException("Attribute '" + name + "' was not captured in this snapshot");
+        }
+        return attributes.get(name);
+    }
+
+    /**
+     * Get a captured CSS value
+     * @param propertyName CSS property name
+     * @return CSS value
+     * @throws IllegalArgumentException if the property was not requested for this snapshot
+     */
+    public String getCssValue(String propertyName) {
+        if (!cssValues.containsKey(propertyName)) {
+            throw new IllegalArgumentException("CSS property '" + propertyName + "' was not captured in this snapshot");
+        }
+        return cssValues.get(propertyName);
+    }
+
+    /**
+     * Get all captured attributes
+     * @return Unmodifiable map of attribute name to value
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Get all captured CSS values
+     * @return Unmodifiable map of property name to value
+     */
+    public Map<String, String> getCssValues() {
+        return cssValues;
+    }
+
+    /**
+     * Check if the element has a specific class (requires the "class" attribute)
+     * @param className Class name to check for
+     * @return true if the element has the class
+     */
+    public boolean hasClass(String className) {
+        String classes = getAttribute("class");
+        return classes != null && classes.contains(className);
+    }
+
+    /**
+     * Check if the element is disabled (requires the "disabled" and "aria-disabled" attributes)
+     * @return true if the element is disabled
+     */
+    public boolean isDisabled() {
+        return getAttribute("disabled") != null || "true".equals(getAttribute("aria-disabled"));
+    }
+
+    /**
+     * Check if this snapshot contains all the requested properties
+     * @param attributeNames Attribute names
+     * @param cssProperties CSS property names
+     * @return true if every requested property was captured
+     */
+    public boolean covers(Collection<String> attributeNames, Collection<String> cssProperties) {
+        return attributes.keySet().containsAll(attributeNames) && cssValues.keySet().containsAll(cssProperties);
+    }
+
+    /**
+     * Get the age of this snapshot
+     * @return Milliseconds since capture
+     */
+    public long getAgeMillis() {
+        return System.currentTimeMillis() - capturedAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementSnapshot{tag=" + tagName + ", displayed=" + displayed + ", enabled=" + enabled
+            + ", selected=" + selected + ", rect=" + rect.getX() + "," + rect.getY() + " "
+            + rect.getWidth() + "x" + rect.getHeight() + ", attributes=" + attributes + ", css=" + cssValues + "}";
+    }
+}
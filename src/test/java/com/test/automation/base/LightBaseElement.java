@@ -7,9 +7,9 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import com.test.automation.utils.ConfigReader;
 import com.test.automation.utils.Logger;
+import com.test.automation.utils.TimedWait;
 import com.test.automation.utils.WebDriverManager;
 
-import java.time.Duration;
 import java.util.List;
 
 /**
@@ -28,8 +28,7 @@ public class LightBaseElement {
     public LightBaseElement(By locator) {
         this.driver = WebDriverManager.getDriver();
         this.locator = locator;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(
-            ConfigReader.getIntProperty("explicit.wait")));
+        this.wait = new TimedWait(driver, ConfigReader.get().getExplicitWait());
     }
     
     /**
@@ -38,8 +37,7 @@ public class LightBaseElement {
     public LightBaseElement(WebElement element) {
         this.driver = WebDriverManager.getDriver();
         this.element = element;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(
-            ConfigReader.getIntProperty("explicit.wait")));
+        this.wait = new TimedWait(driver, ConfigReader.get().getExplicitWait());
     }
     
     /**
@@ -4,10 +4,10 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import com.test.automation.utils.ConfigReader;
+import com.test.automation.utils.TimedWait;
 import com.test.automation.utils.WaitUtils;
 import com.test.automation.utils.WebDriverManager;
 
-import java.time.Duration;
 
 /**
  * Lightweight base class for all Page Objects
@@ -24,14 +24,13 @@ public abstract class LightBasePage {
      */
     public LightBasePage() {
         // Set the page name to the class name
-        this.pageName = this.getClass().getSimpleName();
+        this.pageName = Pages.pageType(getClass()).getSimpleName();
         
         // Get the WebDriver instance
         this.driver = WebDriverManager.getDriver();
         
         // Set up wait utilities
-        int waitTimeout = ConfigReader.getIntProperty("explicit.wait");
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(waitTimeout));
+        this.wait = new TimedWait(driver, ConfigReader.get().getExplicitWait());
         this.waitUtils = new WaitUtils(driver);
         
         // Initialize the page
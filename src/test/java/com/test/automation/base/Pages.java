@@ -0,0 +1,98 @@
+package com.test.automation.base;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.isFinal;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.isStatic;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+
+import com.test.automation.utils.Logger;
+import com.test.automation.utils.StepTimer;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.SuperMethodCall;
+
+/**
+ * Creates page objects. When step timing is enabled, pages are instances of a generated subclass
+ * (&lt;page&gt;$Timed) whose public methods have {@link StepTimer} calls inlined around the original method, so
+ * timing needs no reflection or proxies per call. Subclasses are generated once per page class.
+ */
+public final class Pages {
+    private static final String TIMED_SUFFIX = "$Timed";
+
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return constructor(type);
+        }
+    };
+
+    private Pages() {
+    }
+
+    /**
+     * Create a page object
+     * @param type Page class, with a public no-argument constructor
+     * @param <T> Page type
+     * @return New page, timed if step timing is enabled
+     */
+    public static <T> T create(Class<T> type) {
+        try {
+            return type.cast(CONSTRUCTORS.get(type).invoke());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create page " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Get the page class of a page object, looking through the generated timing subclass
+     * @param type Class of a page object
+     * @return Page class
+     */
+    static Class<?> pageType(Class<?> type) {
+        return type.getName().endsWith(TIMED_SUFFIX) ? type.getSuperclass() : type;
+    }
+
+    private static MethodHandle constructor(Class<?> type) {
+        Class<?> created = type;
+        if (StepTimer.isEnabled() && !Modifier.isFinal(type.getModifiers())) {
+            try {
+                created = timed(type);
+            } catch (RuntimeException | LinkageError e) {
+                Logger.warn("Failed to generate the timed subclass of " + type.getName() + "; it is not timed", e);
+            }
+        }
+        try {
+            return MethodHandles.publicLookup().findConstructor(created, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Page " + type.getName() + " has no public no-argument constructor", e);
+        }
+    }
+
+    private static Class<?> timed(Class<?> type) {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("No access to the package of " + type.getName(), e);
+        }
+        return new ByteBuddy()
+            .subclass(type)
+            .name(type.getName() + TIMED_SUFFIX)
+            .method(isPublic().and(not(isStatic())).and(not(isFinal())).and(not(isDeclaredBy(Object.class))))
+            .intercept(Advice.to(TimingAdvice.class).wrap(SuperMethodCall.INSTANCE))
+            .make()
+            .load(type.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(lookup))
+            .getLoaded();
+    }
+}
@@ -0,0 +1,24 @@
+package com.test.automation.base;
+
+import com.test.automation.utils.StepTimer;
+
+import net.bytebuddy.asm.Advice;
+
+/**
+ * Code inlined around every public method of a timed page object (see {@link Pages})
+ */
+final class TimingAdvice {
+
+    private TimingAdvice() {
+    }
+
+    @Advice.OnMethodEnter
+    static int enter(@Advice.Origin("#t.#m") String method) {
+        return StepTimer.enter(method);
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class)
+    static void exit(@Advice.Enter int depth, @Advice.Thrown Throwable thrown) {
+        StepTimer.exit(depth, thrown != null);
+    }
+}
@@ -0,0 +1,36 @@
+package com.test.automation.benchmarks;
+
+import java.net.URL;
+
+/**
+ * Resolves the static HTML fixtures under src/test/resources/fixtures used by the benchmarks
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Get the URL of a fixture page
+     * @param name Fixture file name
+     * @param query Query string without the leading '?', may be empty
+     * @return URL the browser can load
+     */
+    public static String url(String name, String query) {
+        URL resource = BenchmarkFixtures.class.getResource("/fixtures/" + name);
+        if (resource == null) {
+            throw new IllegalArgumentException("Fixture not found on classpath: " + name);
+        }
+        String url = resource.toExternalForm();
+        return query == null || query.isEmpty() ? url : url + "?" + query;
+    }
+
+    /**
+     * Get the milliseconds elapsed since a System.nanoTime() reading
+     * @param startNanos Start time from System.nanoTime()
+     * @return Elapsed milliseconds
+     */
+    public static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,68 @@
+package com.test.automation.benchmarks;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.test.automation.base.BaseTest;
+import com.test.automation.elements.Dropdown;
+import com.test.automation.elements.LightningCombobox;
+import com.test.automation.utils.Logger;
+
+/**
+ * Compares the generic custom dropdown selection with LightningCombobox on a 2000 value picklist fixture
+ */
+public class ComboboxBenchmark extends BaseTest {
+    private static final By PICKLIST = By.id("picklist");
+    private static final By PICKLIST_TRIGGER = By.cssSelector("#picklist [role='combobox']");
+    private static final By LOOKUP = By.id("lookup");
+
+    @Test
+    public void benchmarkPicklistSelection() {
+        driver.get(BenchmarkFixtures.url("combobox.html", "options=2000"));
+        
+        long start = System.nanoTime();
+        new Dropdown(PICKLIST_TRIGGER).selectCustomDropdownOption("Value 1999");
+        long customMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        LightningCombobox picklist = new LightningCombobox(PICKLIST);
+        Assert.assertEquals(picklist.getSelectedValue(), "v1999");
+        
+        start = System.nanoTime();
+        picklist.selectByLabel("Value 1500");
+        long labelMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        start = System.nanoTime();
+        picklist.selectByValue("v42");
+        long valueMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        start = System.nanoTime();
+        int count = picklist.getOptionCount();
+        long firstReadMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        start = System.nanoTime();
+        boolean hasOption = picklist.hasOption("Value 1998");
+        long cachedReadMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        Logger.info("2000 option picklist - selectCustomDropdownOption: " + customMillis + " ms, selectByLabel: "
+            + labelMillis + " ms, selectByValue: " + valueMillis + " ms, options first read: " + firstReadMillis
+            + " ms, cached: " + cachedReadMillis + " ms");
+        Assert.assertEquals(picklist.getSelectedOption(), "Value 42");
+        Assert.assertEquals(count, 2000);
+        Assert.assertTrue(hasOption);
+    }
+
+    @Test
+    public void benchmarkTypeaheadSelection() {
+        driver.get(BenchmarkFixtures.url("combobox.html", "options=2000"));
+        LightningCombobox lookup = new LightningCombobox(LOOKUP);
+        
+        long start = System.nanoTime();
+        lookup.selectByLabel("Value 1999");
+        long typeaheadMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        Logger.info("2000 option lookup - typeahead selectByLabel: " + typeaheadMillis + " ms");
+        Assert.assertEquals(lookup.getSelectedValue(), "v1999");
+        Assert.assertEquals(lookup.getSelectedOption(), "Value 1999");
+    }
+}
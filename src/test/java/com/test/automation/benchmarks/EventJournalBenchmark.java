@@ -0,0 +1,64 @@
+package com.test.automation.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import com.test.automation.utils.EventJournal;
+import com.test.automation.utils.EventJournalReader;
+import com.test.automation.utils.Logger;
+
+/**
+ * Measures the cost of recording step and driver command events in the event journal on one worker thread,
+ * then reads the journal back and checks every event was recorded
+ */
+public class EventJournalBenchmark {
+    private static final int WARMUP_EVENTS = 200_000;
+    private static final int EVENTS = 1_000_000;
+
+    @Test
+    public void benchmarkEventRecording() throws IOException, InterruptedException {
+        if (!EventJournal.isEnabled()) {
+            throw new SkipException("Event journal is disabled (event.journal.enabled=false)");
+        }
+        long[] nanos = new long[2];
+        Thread worker = new Thread(() -> {
+            EventJournal.testStarted("EventJournalBenchmark#benchmarkEventRecording");
+            record(WARMUP_EVENTS);
+            long start = System.nanoTime();
+            for (int i = 0; i < EVENTS; i++) {
+                EventJournal.step("Benchmark step");
+            }
+            nanos[0] = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < EVENTS; i++) {
+                EventJournal.command("WebElement.click", 1500, null);
+            }
+            nanos[1] = System.nanoTime() - start;
+            EventJournal.testFinished("EventJournalBenchmark#benchmarkEventRecording", "PASSED", null);
+        }, "journal-bench");
+        worker.start();
+        worker.join();
+
+        Logger.info(String.format("Event journal - step: %.0f ns/event, command: %.0f ns/event",
+            (double) nanos[0] / EVENTS, (double) nanos[1] / EVENTS));
+
+        Map<String, List<EventJournalReader.Event>> timelines = EventJournalReader.timelines(EventJournal.getRunDirectory());
+        List<EventJournalReader.Event> events = timelines.get("EventJournalBenchmark#benchmarkEventRecording [journal-bench]");
+        Assert.assertNotNull(events, "Benchmark timeline should be readable, found " + timelines.keySet());
+        // Start, warm-up, measured events and end
+        Assert.assertEquals(events.size(), 1 + 2 * WARMUP_EVENTS + 2 * EVENTS + 1);
+        Assert.assertEquals(events.get(events.size() - 1).getDetail(), "PASSED");
+    }
+
+    private static void record(int count) {
+        for (int i = 0; i < count; i++) {
+            EventJournal.step("Benchmark step");
+            EventJournal.command("WebElement.click", 1500, null);
+        }
+    }
+}
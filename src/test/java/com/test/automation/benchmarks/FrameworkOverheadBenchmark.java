@@ -0,0 +1,180 @@
+package com.test.automation.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Date;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.test.automation.base.BaseElement;
+import com.test.automation.base.Pages;
+import com.test.automation.elements.TableElement;
+import com.test.automation.pages.LoginPage;
+import com.test.automation.utils.ConfigReader;
+import com.test.automation.utils.LightLogger;
+import com.test.automation.utils.Logger;
+import com.test.automation.utils.TimedWait;
+import com.test.automation.utils.WaitUtils;
+import com.test.automation.utils.WebDriverManager;
+
+/**
+ * Measures the framework's own cost per operation against an in-process {@link StubWebDriver}: logging, config
+ * access, element and page construction, table locator building and wait loops. Each benchmark also reports the
+ * driver commands one operation sends, i.e. the round-trips it would cost against a real browser. Results are
+ * logged as a table and written as JMH-compatible JSON to benchmark.results.dir, so runs can be compared over time.
+ */
+public class FrameworkOverheadBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final Duration ITERATION_TIME = Duration.ofMillis(200);
+    // Written log messages are bounded so the benchmark does not flood the log files
+    private static final int LOG_MESSAGES_PER_ITERATION = 1000;
+    // Recording a command and wrapping its element must stay far below a browser round-trip (first run: 9 ms
+    // per element with Selenium's EventFiringDecorator, which defines a proxy class per element)
+    private static final double MAX_RECORDING_NANOS = 100_000;
+
+    private final MicroBenchmark harness = new MicroBenchmark(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS,
+        ITERATION_TIME);
+    private StubWebDriver stub;
+    private WebDriver driver;
+
+    @BeforeClass
+    public void startStubDriver() {
+        stub = new StubWebDriver();
+        WebDriverManager.setDriver(stub);
+        driver = WebDriverManager.getCurrentDriver();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void writeResults() throws IOException {
+        WebDriverManager.quitDriver();
+        if (harness.getResults().isEmpty()) {
+            return;
+        }
+        Path file = harness.writeJson(Paths.get(ConfigReader.get().getBenchmarkResultsDir(), "framework-overhead-"
+            + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-" + ProcessHandle.current().pid()
+            + ".json"));
+        Logger.info("Framework overhead benchmarks\n" + harness.table() + "Results written to " + file);
+        Logger.flush();
+    }
+
+    @Test
+    public void benchmarkLogging() {
+        int[] counter = {0};
+        measure("Logger.debug (level disabled)", () -> {
+            Logger.debug("Created element with locator: {}", counter[0]++);
+            return counter;
+        });
+        measure("LightLogger.debug (level disabled)", () -> {
+            LightLogger.debug("Created element with locator: {}", counter[0]++);
+            return counter;
+        });
+        measure("Logger.info", LOG_MESSAGES_PER_ITERATION, () -> {
+            Logger.info("Overhead benchmark message {}", counter[0]++);
+            return counter;
+        });
+        measure("LightLogger.info", LOG_MESSAGES_PER_ITERATION, () -> {
+            LightLogger.info("Overhead benchmark message {}", counter[0]++);
+            return counter;
+        });
+        Logger.flush();
+    }
+
+    @Test
+    public void benchmarkConfigAccess() {
+        measure("ConfigReader.get().getExplicitWait()", () -> ConfigReader.get().getExplicitWait());
+        measure("ConfigReader.getProperty", () -> ConfigReader.getProperty("base.url"));
+    }
+
+    @Test
+    public void benchmarkConstruction() {
+        By locator = By.id("username");
+        measure("new BaseElement(By)", () -> new BaseElement(locator));
+        measure("new BaseElement(WebElement)", () -> new BaseElement(stub.getElement()));
+        measure("new LoginPage()", LoginPage::new);
+        measure("Pages.create(LoginPage.class)", () -> Pages.create(LoginPage.class));
+    }
+
+    @Test
+    public void benchmarkTableLocators() {
+        LocatorTable table = new LocatorTable();
+        int[] cell = {0};
+        measure("TableElement.getTdCss(row, col)", () -> table.tdCss(cell[0]++ % 50 + 1, 3));
+        measure("TableElement.getTdCss(row, col, css)", () -> table.tdCss(cell[0]++ % 50 + 1, 3, " a"));
+        measure("TableElement.getThCss(col)", () -> table.thCss(cell[0]++ % 10 + 1));
+    }
+
+    @Test
+    public void benchmarkCommandRecording() {
+        By locator = By.id("username");
+        MicroBenchmark.Result plain = measure("WebDriver.findElement (stub)", () -> stub.findElement(locator));
+        MicroBenchmark.Result recorded = measure("WebDriver.findElement (recorded)", () -> driver.findElement(locator));
+        Assert.assertTrue(recorded.getScore() - plain.getScore() < MAX_RECORDING_NANOS,
+            "Recording a driver command should cost less than " + MAX_RECORDING_NANOS + " ns, measured "
+                + (recorded.getScore() - plain.getScore()) + " ns");
+    }
+
+    @Test
+    public void benchmarkWaits() {
+        By locator = By.id("username");
+        measure("TimedWait.until (immediate)", () -> new TimedWait(driver, Duration.ofSeconds(5))
+            .until(ExpectedConditions.presenceOfElementLocated(locator)));
+        measure("TimedWait.until (10 polls)", () -> {
+            int[] polls = {0};
+            return new TimedWait(driver, Duration.ofSeconds(5)).pollingEvery(Duration.ZERO)
+                .until(d -> d.findElement(locator) != null && ++polls[0] == 10 ? Boolean.TRUE : null);
+        });
+        measure("WaitUtils.waitForPageToLoad", () -> {
+            new WaitUtils(driver).waitForPageToLoad();
+            return driver;
+        });
+    }
+
+    private MicroBenchmark.Result measure(String name, MicroBenchmark.Operation operation) {
+        return measure(name, 0, operation);
+    }
+
+    private MicroBenchmark.Result measure(String name, int opsPerIteration, MicroBenchmark.Operation operation) {
+        MicroBenchmark.Result result = opsPerIteration > 0 ? harness.run(name, opsPerIteration, operation)
+            : harness.run(name, operation);
+        long commands = stub.getCommandCount();
+        try {
+            operation.run();
+        } catch (Exception e) {
+            throw new IllegalStateException("Benchmark " + name + " failed", e);
+        }
+        result.addSecondary("driverCommands", stub.getCommandCount() - commands, " commands/op");
+        Assert.assertTrue(result.getScore() > 0, "Benchmark should measure a positive time: " + name);
+        return result;
+    }
+
+    /**
+     * Table exposing its locator builders
+     */
+    private static final class LocatorTable extends TableElement {
+        private LocatorTable() {
+            super(By.cssSelector("table"));
+        }
+
+        private String tdCss(int row, int column) {
+            return getTdCss(row, column);
+        }
+
+        private String tdCss(int row, int column, String css) {
+            return getTdCss(row, column, css);
+        }
+
+        private String thCss(int column) {
+            return getThCss(column);
+        }
+    }
+}
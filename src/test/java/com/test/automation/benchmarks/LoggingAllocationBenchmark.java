@@ -0,0 +1,100 @@
+package com.test.automation.benchmarks;
+
+import java.lang.management.ManagementFactory;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import com.test.automation.utils.LightLogger;
+import com.test.automation.utils.Logger;
+
+/**
+ * Measures the bytes allocated by the debug logging of one element interaction (create, type, read a value,
+ * read a table cell, hover with an offset) while debug logging is disabled: string concatenation at the call site
+ * against the parameterized overloads. Positions are primitive ints outside the Integer cache, as at the real call
+ * sites. Allocation is read from the current thread's allocation counter after warm-up.
+ */
+public class LoggingAllocationBenchmark {
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    @Test
+    public void benchmarkDisabledDebugAllocation() {
+        if (Logger.isDebugEnabled()) {
+            throw new SkipException("Debug logging is enabled, disabled-logging allocation cannot be measured");
+        }
+        By locator = By.xpath("//input[@name='company']");
+        String text = "Acme Corporation";
+        int row = 1000;
+        int column = 2000;
+
+        measure(() -> {
+            Logger.debug("Created Input element with locator: " + locator);
+            Logger.debug("Typing text: " + text);
+            Logger.debug("Input field value: " + text);
+            Logger.debug("Cell data at [" + row + ", " + column + "]: " + text);
+            Logger.debug("Hovering over element with offset: " + row + ", " + column);
+        }, WARMUP_ITERATIONS);
+        double concatenated = measure(() -> {
+            Logger.debug("Created Input element with locator: " + locator);
+            Logger.debug("Typing text: " + text);
+            Logger.debug("Input field value: " + text);
+            Logger.debug("Cell data at [" + row + ", " + column + "]: " + text);
+            Logger.debug("Hovering over element with offset: " + row + ", " + column);
+        }, ITERATIONS);
+
+        measure(() -> {
+            Logger.debug("Created Input element with locator: {}", locator);
+            Logger.debug("Typing text: {}", text);
+            Logger.debug("Input field value: {}", text);
+            Logger.debug("Cell data at [{}, {}]: {}", row, column, text);
+            Logger.debug("Hovering over element with offset: {}, {}", row, column);
+        }, WARMUP_ITERATIONS);
+        double parameterized = measure(() -> {
+            Logger.debug("Created Input element with locator: {}", locator);
+            Logger.debug("Typing text: {}", text);
+            Logger.debug("Input field value: {}", text);
+            Logger.debug("Cell data at [{}, {}]: {}", row, column, text);
+            Logger.debug("Hovering over element with offset: {}, {}", row, column);
+        }, ITERATIONS);
+
+        measure(() -> {
+            LightLogger.debug("Created Input element with locator: {}", locator);
+            LightLogger.debug("Typing text: {}", text);
+            LightLogger.debug("Input field value: {}", text);
+            LightLogger.debug("Cell data at [{}, {}]: {}", row, column, text);
+            LightLogger.debug("Hovering over element with offset: {}, {}", row, column);
+        }, WARMUP_ITERATIONS);
+        double light = measure(() -> {
+            LightLogger.debug("Created Input element with locator: {}", locator);
+            LightLogger.debug("Typing text: {}", text);
+            LightLogger.debug("Input field value: {}", text);
+            LightLogger.debug("Cell data at [{}, {}]: {}", row, column, text);
+            LightLogger.debug("Hovering over element with offset: {}, {}", row, column);
+        }, ITERATIONS);
+
+        Logger.info(String.format("Disabled debug logging per element interaction - concatenated: %.1f bytes, "
+            + "parameterized: %.1f bytes, LightLogger parameterized: %.1f bytes", concatenated, parameterized, light));
+        Assert.assertTrue(parameterized < concatenated,
+            "Parameterized logging should allocate less than concatenation when disabled");
+        Assert.assertTrue(parameterized < 1.0, "Disabled parameterized logging should not allocate, "
+            + "including boxing of int arguments: " + parameterized + " bytes");
+        Assert.assertTrue(light < 1.0, "Disabled parameterized LightLogger logging should not allocate either: "
+            + light + " bytes");
+    }
+
+    /**
+     * Run an interaction repeatedly and return the bytes it allocated per run on this thread
+     */
+    private static double measure(Runnable interaction, int iterations) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < iterations; i++) {
+            interaction.run();
+        }
+        return (double) (threads.getThreadAllocatedBytes(thread) - before) / iterations;
+    }
+}
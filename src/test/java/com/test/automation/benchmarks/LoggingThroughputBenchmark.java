@@ -0,0 +1,81 @@
+package com.test.automation.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.test.automation.utils.Logger;
+
+/**
+ * Measures caller-side logging throughput with 16 threads: the asynchronous Logger against the previous
+ * synchronous format-and-println approach (printing to a discarding stream, so only formatting and lock
+ * contention are measured for the baseline). Bursts larger than logging.buffer.size are bounded by how fast
+ * the drain thread writes to the configured appenders.
+ */
+public class LoggingThroughputBenchmark {
+    private static final int THREADS = 16;
+    private static final int MESSAGES_PER_THREAD = 5000;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    @Test
+    public void benchmarkSixteenThreadThroughput() throws InterruptedException {
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream(), true);
+        long synchronousMillis = run(i -> discard.println(LocalDateTime.now().format(FORMATTER) + " [INFO] Benchmark message " + i));
+        
+        long start = System.nanoTime();
+        long asyncMillis = run(i -> Logger.info("Benchmark message " + i));
+        Logger.flush();
+        long drainedMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        int total = THREADS * MESSAGES_PER_THREAD;
+        Logger.info(THREADS + " threads x " + MESSAGES_PER_THREAD + " messages - synchronous println: " + synchronousMillis
+            + " ms (" + perSecond(total, synchronousMillis) + "/s), async Logger callers: " + asyncMillis + " ms ("
+            + perSecond(total, asyncMillis) + "/s), fully written: " + drainedMillis + " ms");
+        Logger.flush();
+        Assert.assertTrue(drainedMillis >= asyncMillis);
+    }
+
+    private interface LogCall {
+        void log(int i);
+    }
+
+    private static long run(LogCall call) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+                    call.log(i);
+                }
+            }, "log-bench-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return BenchmarkFixtures.elapsedMillis(start);
+    }
+
+    private static long perSecond(int count, long millis) {
+        return millis == 0 ? count * 1000L : count * 1000L / millis;
+    }
+}
@@ -0,0 +1,297 @@
+package com.test.automation.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.test.automation.utils.JsonStrings;
+
+/**
+ * Small JMH-style harness for in-process microbenchmarks: warmup iterations, then measured iterations reporting
+ * the average time per operation with a 99.9% confidence interval. Operation results are consumed so the JIT
+ * cannot remove the work. Results can be written as JSON in the layout of JMH's "-rf json" output, so the usual
+ * JMH tooling can compare runs over time.
+ */
+public final class MicroBenchmark {
+    // Student's t quantiles (two-sided 99.9%) for 1 to 30 degrees of freedom; 3.291 beyond
+    private static final double[] T_999 = {636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781,
+        4.587, 4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922, 3.883, 3.850, 3.819, 3.792, 3.768, 3.745,
+        3.725, 3.707, 3.690, 3.674, 3.659, 3.646};
+    private static final String[] PERCENTILES = {"0.0", "50.0", "90.0", "95.0", "99.0", "99.9", "99.99", "99.9999",
+        "100.0"};
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final Duration iterationTime;
+    private final List<Result> results = new ArrayList<>();
+    private Object sink;
+    private volatile int consumed;
+
+    /**
+     * Operation being measured
+     */
+    @FunctionalInterface
+    public interface Operation {
+        /**
+         * Run the operation once
+         * @return Any result of the operation; it is consumed
+         */
+        Object run() throws Exception;
+    }
+
+    /**
+     * Create a harness
+     * @param warmupIterations Iterations run before measuring
+     * @param measurementIterations Measured iterations
+     * @param iterationTime Duration of each time-bounded iteration
+     */
+    public MicroBenchmark(int warmupIterations, int measurementIterations, Duration iterationTime) {
+        if (measurementIterations < 2) {
+            throw new IllegalArgumentException("At least two measurement iterations are required");
+        }
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationTime = iterationTime;
+    }
+
+    /**
+     * Measure an operation, running it repeatedly for the iteration time in each iteration
+     * @param name Benchmark name
+     * @param operation Operation to measure
+     * @return Result, also kept for {@link #writeJson}
+     */
+    public Result run(String name, Operation operation) {
+        return measure(name, 0, operation);
+    }
+
+    /**
+     * Measure an operation, running it a fixed number of times in each iteration; for operations with side
+     * effects that must stay bounded, such as writing log messages
+     * @param name Benchmark name
+     * @param opsPerIteration Operations per iteration
+     * @param operation Operation to measure
+     * @return Result, also kept for {@link #writeJson}
+     */
+    public Result run(String name, int opsPerIteration, Operation operation) {
+        if (opsPerIteration < 1) {
+            throw new IllegalArgumentException("At least one operation per iteration is required");
+        }
+        return measure(name, opsPerIteration, operation);
+    }
+
+    /**
+     * Get the results measured so far
+     * @return Results in the order they ran
+     */
+    public List<Result> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Build a table of all results
+     * @return Table text, one line per benchmark
+     */
+    public String table() {
+        StringBuilder table = new StringBuilder(String.format("%-48s %5s %12s %12s %12s  %s%n", "Benchmark", "Cnt",
+            "Score", "Error", "Units", "Secondary"));
+        for (Result result : results) {
+            StringBuilder secondary = new StringBuilder();
+            for (Map.Entry<String, double[]> metric : result.secondary.entrySet()) {
+                secondary.append(String.format(Locale.ROOT, "%s=%.2f%s ", metric.getKey(), metric.getValue()[0],
+                    result.secondaryUnits.get(metric.getKey())));
+            }
+            table.append(String.format(Locale.ROOT, "%-48s %5d %12.1f %12.1f %12s  %s%n", result.name,
+                result.nanosPerOp.length, result.getScore(), result.getScoreError(), "ns/op", secondary));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Write all results as a JMH-compatible JSON array
+     * @param file File to write
+     * @return The written file
+     */
+    public Path writeJson(Path file) throws IOException {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            json.append(results.get(i).toJson(this)).append(i < results.size() - 1 ? ",\n" : "\n");
+        }
+        json.append("]\n");
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, json.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private Result measure(String name, int opsPerIteration, Operation operation) {
+        try {
+            long batch = 1;
+            for (int i = 0; i < warmupIterations; i++) {
+                double nanosPerOp = iteration(operation, opsPerIteration, batch);
+                // Batches of about 10 microseconds keep the clock reads out of the measurement
+                batch = Math.max(1, (long) (10_000 / Math.max(nanosPerOp, 1)));
+            }
+            double[] nanosPerOp = new double[measurementIterations];
+            for (int i = 0; i < measurementIterations; i++) {
+                nanosPerOp[i] = iteration(operation, opsPerIteration, batch);
+            }
+            consumed = System.identityHashCode(sink);
+            sink = null;
+            Result result = new Result(name, nanosPerOp);
+            results.add(result);
+            return result;
+        } catch (Exception e) {
+            throw new IllegalStateException("Benchmark " + name + " failed", e);
+        }
+    }
+
+    private double iteration(Operation operation, int opsPerIteration, long batch) throws Exception {
+        long ops = 0;
+        long start = System.nanoTime();
+        long now;
+        if (opsPerIteration > 0) {
+            for (; ops < opsPerIteration; ops++) {
+                sink = operation.run();
+            }
+            now = System.nanoTime();
+        } else {
+            long deadline = start + iterationTime.toNanos();
+            do {
+                for (long i = 0; i < batch; i++) {
+                    sink = operation.run();
+                }
+                ops += batch;
+                now = System.nanoTime();
+            } while (now < deadline);
+        }
+        return (double) (now - start) / ops;
+    }
+
+    private static String number(double value) {
+        return Double.isFinite(value) ? String.format(Locale.ROOT, "%.3f", value) : "\"NaN\"";
+    }
+
+    /**
+     * Measurements of one benchmark: average nanoseconds per operation of each measured iteration
+     */
+    public static final class Result {
+        private final String name;
+        private final double[] nanosPerOp;
+        private final Map<String, double[]> secondary = new LinkedHashMap<>();
+        private final Map<String, String> secondaryUnits = new LinkedHashMap<>();
+
+        private Result(String name, double[] nanosPerOp) {
+            this.name = name;
+            this.nanosPerOp = nanosPerOp;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the average time per operation over the measured iterations
+         * @return Nanoseconds per operation
+         */
+        public double getScore() {
+            double sum = 0;
+            for (double value : nanosPerOp) {
+                sum += value;
+            }
+            return sum / nanosPerOp.length;
+        }
+
+        /**
+         * Get the half-width of the 99.9% confidence interval of the score
+         * @return Nanoseconds per operation
+         */
+        public double getScoreError() {
+            double mean = getScore();
+            double squares = 0;
+            for (double value : nanosPerOp) {
+                squares += (value - mean) * (value - mean);
+            }
+            int degrees = nanosPerOp.length - 1;
+            double t = degrees <= T_999.length ? T_999[degrees - 1] : 3.291;
+            return t * Math.sqrt(squares / degrees) / Math.sqrt(nanosPerOp.length);
+        }
+
+        /**
+         * Get a percentile of the iteration scores
+         * @param percentile Percentile, 0 to 100
+         * @return Nanoseconds per operation
+         */
+        public double getPercentile(double percentile) {
+            double[] sorted = nanosPerOp.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+        }
+
+        /**
+         * Attach a secondary metric, such as driver commands per operation
+         * @param metric Metric name
+         * @param value Metric value
+         * @param unit Unit of the value
+         * @return This result
+         */
+        public Result addSecondary(String metric, double value, String unit) {
+            secondary.put(metric, new double[] {value});
+            secondaryUnits.put(metric, unit);
+            return this;
+        }
+
+        private String toJson(MicroBenchmark benchmark) {
+            StringBuilder json = new StringBuilder("    {\n");
+            json.append("        \"benchmark\" : ").append(JsonStrings.quote(name)).append(",\n");
+            json.append("        \"mode\" : \"avgt\",\n        \"threads\" : 1,\n        \"forks\" : 1,\n");
+            json.append("        \"jvm\" : ").append(JsonStrings.quote(System.getProperty("java.home"))).append(",\n");
+            json.append("        \"jdkVersion\" : ").append(JsonStrings.quote(System.getProperty("java.version")))
+                .append(",\n");
+            json.append("        \"warmupIterations\" : ").append(benchmark.warmupIterations).append(",\n");
+            json.append("        \"warmupTime\" : \"").append(benchmark.iterationTime.toMillis()).append(" ms\",\n");
+            json.append("        \"measurementIterations\" : ").append(nanosPerOp.length).append(",\n");
+            json.append("        \"measurementTime\" : \"").append(benchmark.iterationTime.toMillis())
+                .append(" ms\",\n");
+            double score = getScore();
+            double error = getScoreError();
+            json.append("        \"primaryMetric\" : {\n");
+            json.append("            \"score\" : ").append(number(score)).append(",\n");
+            json.append("            \"scoreError\" : ").append(number(error)).append(",\n");
+            json.append("            \"scoreConfidence\" : [").append(number(score - error)).append(", ")
+                .append(number(score + error)).append("],\n");
+            json.append("            \"scorePercentiles\" : {");
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                json.append(i == 0 ? "\n" : ",\n").append("                \"").append(PERCENTILES[i])
+                    .append("\" : ").append(number(getPercentile(Double.parseDouble(PERCENTILES[i]))));
+            }
+            json.append("\n            },\n");
+            json.append("            \"scoreUnit\" : \"ns/op\",\n            \"rawData\" : [[");
+            for (int i = 0; i < nanosPerOp.length; i++) {
+                json.append(i == 0 ? "" : ", ").append(number(nanosPerOp[i]));
+            }
+            json.append("]]\n        },\n        \"secondaryMetrics\" : {");
+            int index = 0;
+            for (Map.Entry<String, double[]> metric : secondary.entrySet()) {
+                double value = metric.getValue()[0];
+                json.append(index++ == 0 ? "\n" : ",\n").append("            ").append(JsonStrings.quote(metric.getKey()))
+                    .append(" : {\"score\" : ").append(number(value)).append(", \"scoreError\" : \"NaN\", ")
+                    .append("\"scoreConfidence\" : [").append(number(value)).append(", ").append(number(value))
+                    .append("], \"scoreUnit\" : ").append(JsonStrings.quote(secondaryUnits.get(metric.getKey())))
+                    .append(", \"rawData\" : [[").append(number(value)).append("]]}");
+            }
+            json.append(index == 0 ? "}\n" : "\n        }\n").append("    }");
+            return json.toString();
+        }
+    }
+}
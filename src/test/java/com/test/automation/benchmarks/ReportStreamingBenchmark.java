@@ -0,0 +1,117 @@
+package com.test.automation.benchmarks;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.IInvokedMethod;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+
+import com.test.automation.utils.ConfigReader;
+import com.test.automation.utils.Logger;
+import com.test.automation.utils.StreamingReportListener;
+
+/**
+ * Feeds 10,000 synthetic tests (a few logged steps each, one in a hundred failing) through
+ * {@link StreamingReportListener}, and compares the used heap after the first 1,000 tests with the used heap at
+ * the end. Then checks every test reached results.jsonl and the chunk pages. The TestNG objects are stubs, so the
+ * synthetic results stay out of this suite's own results.
+ */
+public class ReportStreamingBenchmark {
+    private static final int TESTS = 10_000;
+    private static final int SAMPLE_AFTER = 1_000;
+
+    @Test
+    public void benchmarkStreamingReport() throws IOException {
+        StreamingReportListener report = new StreamingReportListener();
+        ITestContext context = stub(ITestContext.class, Map.of("getName", "Report Benchmark"));
+        report.open("Report Benchmark");
+        long usedAfterSample = 0;
+        long start = System.nanoTime();
+        for (int i = 1; i <= TESTS; i++) {
+            ITestNGMethod method = stub(ITestNGMethod.class, Map.of("getRealClass", SyntheticTest.class,
+                "getMethodName", "syntheticTest" + i));
+            report.beforeInvocation(stub(IInvokedMethod.class, Map.of("isTestMethod", true, "getTestMethod", method)),
+                null);
+            long testStart = System.currentTimeMillis();
+            Logger.step("Open record " + i);
+            Logger.info("Loaded record " + i);
+            Logger.step("Edit record " + i);
+            Logger.step("Save record " + i);
+            Map<String, Object> result = new HashMap<>(Map.of("getMethod", method, "getTestContext", context,
+                "getStartMillis", testStart, "getEndMillis", System.currentTimeMillis()));
+            if (i % 100 == 0) {
+                result.put("getThrowable", new AssertionError("Synthetic failure " + i));
+                report.onTestFailure(stub(ITestResult.class, result));
+            } else {
+                report.onTestSuccess(stub(ITestResult.class, result));
+            }
+            if (i == SAMPLE_AFTER) {
+                usedAfterSample = usedHeap();
+            }
+        }
+        long usedAtEnd = usedHeap();
+        report.close();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        Logger.info(String.format("Streaming report - %d tests in %d ms (%.2f ms/test), used heap after %d tests: "
+            + "%d MB, after %d tests: %d MB", TESTS, millis, (double) millis / TESTS, SAMPLE_AFTER,
+            usedAfterSample / (1024 * 1024), TESTS, usedAtEnd / (1024 * 1024)));
+        Assert.assertTrue(usedAtEnd - usedAfterSample < 16 * 1024 * 1024,
+            "Used heap should not grow with the number of reported tests");
+
+        Path runDirectory = report.getRunDirectory();
+        List<String> results = Files.readAllLines(runDirectory.resolve("results.jsonl"));
+        Assert.assertEquals(results.size(), TESTS, "Every test should be in results.jsonl");
+        Assert.assertEquals(results.stream().filter(line -> line.contains("\"status\":\"FAILED\"")).count(),
+            TESTS / 100);
+        try (Stream<Path> chunks = Files.list(runDirectory.resolve("chunks"))) {
+            int chunkSize = ConfigReader.get().getReportChunkSize();
+            Assert.assertEquals(chunks.count(), (long) (TESTS + chunkSize - 1) / chunkSize);
+        }
+        Assert.assertTrue(Files.readString(runDirectory.resolve("index.html")).endsWith("</html>\n"),
+            "Index should be closed at the end of the suite");
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Stub a TestNG interface, answering the listed methods by name and everything else with a default value
+     */
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (answers.containsKey(method.getName())) {
+                return answers.get(method.getName());
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType == boolean.class) {
+                return false;
+            } else if (returnType == long.class) {
+                return 0L;
+            } else if (returnType == int.class) {
+                return 0;
+            }
+            return method.getName().equals("toString") ? type.getSimpleName() : null;
+        }));
+    }
+
+    /**
+     * Class the synthetic tests are reported under
+     */
+    private static final class SyntheticTest {
+    }
+}
@@ -0,0 +1,69 @@
+package com.test.automation.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.test.automation.base.BaseTest;
+import com.test.automation.utils.Logger;
+import com.test.automation.utils.ScreenshotPipeline;
+
+/**
+ * Times the test-thread cost of per-step screenshots: capturing, decoding and writing on the test thread against
+ * handing the capture to the screenshot pipeline. Every other step leaves the page unchanged, so half of the
+ * pipeline's frames should be deduplicated.
+ */
+public class ScreenshotBenchmark extends BaseTest {
+    private static final int STEPS = 20;
+
+    @Test
+    public void benchmarkStepScreenshots() throws IOException {
+        driver.get(BenchmarkFixtures.url("large-table.html", "rows=200&cols=8"));
+        Path syncDirectory = Files.createTempDirectory("screenshots-sync");
+        
+        long start = System.nanoTime();
+        for (int step = 0; step < STEPS; step++) {
+            scrollForStep(step);
+            byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            ImageIO.write(ImageIO.read(new ByteArrayInputStream(png)), "png",
+                syncDirectory.resolve("step-" + step + ".png").toFile());
+        }
+        long synchronousMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        ScreenshotPipeline pipeline = ScreenshotPipeline.get();
+        List<CompletableFuture<Path>> stored = new ArrayList<>();
+        start = System.nanoTime();
+        for (int step = 0; step < STEPS; step++) {
+            scrollForStep(step);
+            stored.add(pipeline.capture(driver, "benchmark step " + step, false));
+        }
+        long pipelineMillis = BenchmarkFixtures.elapsedMillis(start);
+        Assert.assertTrue(pipeline.drain(30000), "Screenshot pipeline should drain");
+        long distinctFiles = stored.stream().map(CompletableFuture::join).filter(path -> path != null).distinct().count();
+        
+        Logger.info(STEPS + " step screenshots on the test thread - synchronous: " + synchronousMillis
+            + " ms, pipeline: " + pipelineMillis + " ms, distinct files written: " + distinctFiles + " (" + pipeline + ")");
+        Assert.assertTrue(distinctFiles < STEPS, "Unchanged frames should be deduplicated");
+    }
+
+    /**
+     * Scroll on even steps only, so odd steps capture the same frame as the step before
+     */
+    private void scrollForStep(int step) {
+        if (step % 2 == 0) {
+            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, arguments[0])", step * 400);
+        }
+    }
+}
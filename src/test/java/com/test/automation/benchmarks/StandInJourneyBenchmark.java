@@ -0,0 +1,44 @@
+package com.test.automation.benchmarks;
+
+import java.time.Duration;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.test.automation.load.LoadReport;
+import com.test.automation.load.LoadRunner;
+import com.test.automation.load.SalesforceJourney;
+import com.test.automation.standin.StandInServer;
+import com.test.automation.utils.Logger;
+import com.test.automation.utils.StepTimer;
+
+/**
+ * Runs the lead journey with one user for a fixed time against a stand-in server with org-like settings (latency
+ * per response, a spinner after each page load, a few thousand extra elements per page), and logs the per-step
+ * latency percentiles and the page-object time breakdown. The settings are fixed here, so results of different
+ * framework versions are comparable.
+ */
+public class StandInJourneyBenchmark {
+    private static final Duration LATENCY = Duration.ofMillis(50);
+    private static final Duration SPINNER = Duration.ofMillis(300);
+    private static final int DOM_NODES = 3000;
+    private static final Duration RUN_TIME = Duration.ofSeconds(60);
+
+    @Test
+    public void benchmarkLeadJourney() {
+        LoadReport report;
+        try (StandInServer server = new StandInServer(0, 4)) {
+            server.setLatency(LATENCY);
+            server.setSpinnerDuration(SPINNER);
+            server.setDomNodes(DOM_NODES);
+            StepTimer.reset();
+            report = new LoadRunner(1, Duration.ZERO, Duration.ZERO, RUN_TIME)
+                .run(new SalesforceJourney(server.getBaseUrl(), "benchmark@example.com", "stand-in"));
+            Logger.info("Stand-in journey (" + LATENCY.toMillis() + " ms latency, " + SPINNER.toMillis()
+                + " ms spinner, " + DOM_NODES + " extra nodes) - " + server.getRequestCount() + " requests\n" + report
+                + (StepTimer.isEnabled() ? StepTimer.report() : ""));
+        }
+        Assert.assertNotNull(report.getStep(LoadReport.JOURNEY), "At least one journey should have run");
+        Assert.assertEquals(report.getErrorCount(), 0, "Journey should run without errors:\n" + report);
+    }
+}
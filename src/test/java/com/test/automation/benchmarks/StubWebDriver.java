@@ -0,0 +1,168 @@
+package com.test.automation.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * In-process WebDriver that answers every command immediately, so benchmarks measure only the framework's own
+ * cost. Every element lookup returns the same visible, enabled element; scripts return null except the
+ * page load checks, which report a loaded page (document.readyState "complete", no active jQuery requests).
+ * Commands are counted so benchmarks can report the round-trips a real driver would make.
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor {
+    private final AtomicLong commands = new AtomicLong();
+    private final WebElement element = stub(WebElement.class);
+
+    /**
+     * Get the number of commands received so far
+     * @return Command count
+     */
+    public long getCommandCount() {
+        return commands.get();
+    }
+
+    /**
+     * Get the element every lookup returns
+     * @return Stub element
+     */
+    public WebElement getElement() {
+        return element;
+    }
+
+    @Override
+    public void get(String url) {
+        commands.incrementAndGet();
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        commands.incrementAndGet();
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        commands.incrementAndGet();
+        return "Stub";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        commands.incrementAndGet();
+        return List.of(element);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        commands.incrementAndGet();
+        return element;
+    }
+
+    @Override
+    public String getPageSource() {
+        commands.incrementAndGet();
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+        commands.incrementAndGet();
+    }
+
+    @Override
+    public void quit() {
+        commands.incrementAndGet();
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        commands.incrementAndGet();
+        return Set.of("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        commands.incrementAndGet();
+        return "stub";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return stub(TargetLocator.class);
+    }
+
+    @Override
+    public Navigation navigate() {
+        return stub(Navigation.class);
+    }
+
+    @Override
+    public Options manage() {
+        return stub(Options.class);
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        commands.incrementAndGet();
+        if (script.contains("document.readyState")) {
+            return "complete";
+        }
+        return script.contains("jQuery.active") ? Boolean.TRUE : null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        commands.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Stub a Selenium interface: each call returning a value or nothing counts as a command
+     */
+    private <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Stub" + type.getSimpleName();
+                default:
+                    break;
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType.isInterface() && returnType != WebElement.class && returnType != List.class) {
+                // Helpers such as manage().timeouts() are local objects, not commands
+                return stub(returnType);
+            }
+            commands.incrementAndGet();
+            if (returnType == boolean.class) {
+                return !method.getName().equals("isSelected");
+            } else if (returnType == String.class) {
+                return method.getName().equals("getTagName") ? "div" : "Stub text";
+            } else if (returnType == WebElement.class) {
+                return element;
+            } else if (returnType == List.class) {
+                return List.of(element);
+            } else if (returnType == Rectangle.class) {
+                return new Rectangle(0, 0, 20, 100);
+            } else if (returnType == Dimension.class) {
+                return new Dimension(100, 20);
+            } else if (returnType == Point.class) {
+                return new Point(0, 0);
+            }
+            return null;
+        }));
+    }
+}
@@ -0,0 +1,159 @@
+package com.test.automation.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.test.automation.base.BaseTest;
+import com.test.automation.elements.Table;
+import com.test.automation.elements.TableData;
+import com.test.automation.elements.TableDiff;
+import com.test.automation.elements.TableIndex;
+import com.test.automation.elements.TableRow;
+import com.test.automation.elements.TableSnapshot;
+import com.test.automation.utils.Logger;
+
+/**
+ * Compares per-cell WebDriver reads with single-script extraction on the large table fixture
+ */
+public class TableExtractionBenchmark extends BaseTest {
+    private static final By TABLE = By.id("large-table");
+    private static final By VIRTUAL_TABLE = By.id("virtual-table");
+
+    @Test
+    public void benchmarkSmallTableBothModes() {
+        driver.get(BenchmarkFixtures.url("large-table.html", "rows=200&cols=10"));
+        Table table = new Table(TABLE);
+        
+        table.setExtractionMode(Table.ExtractionMode.WEBDRIVER);
+        long start = System.nanoTime();
+        List<Map<String, String>> webDriverData = table.getTableData();
+        long webDriverMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        table.setExtractionMode(Table.ExtractionMode.SCRIPT);
+        start = System.nanoTime();
+        List<Map<String, String>> scriptData = table.getTableData();
+        long scriptMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        Logger.info("200x10 getTableData - WEBDRIVER: " + webDriverMillis + " ms, SCRIPT: " + scriptMillis + " ms");
+        Assert.assertEquals(scriptData, webDriverData, "Both extraction modes should return the same rows");
+    }
+
+    @Test
+    public void benchmarkLargeTableScriptExtraction() {
+        driver.get(BenchmarkFixtures.url("large-table.html", "rows=10000&cols=10"));
+        Table table = new Table(TABLE);
+        
+        long start = System.nanoTime();
+        TableData data = table.extract("data-row-key-value");
+        long extractMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        start = System.nanoTime();
+        int foundRow = table.findRowByColumnText("R9999C3", 3);
+        long findMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        start = System.nanoTime();
+        String cell = table.getCellData(5000, 7);
+        long cellMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        Logger.info("10000x10 extract: " + extractMillis + " ms, findRowByColumnText (last row): " + findMillis
+            + " ms, getCellData: " + cellMillis + " ms");
+        Assert.assertEquals(data.getRowCount(), 10001, "Header row plus 10000 data rows expected");
+        Assert.assertEquals(data.getRowAttribute(10000, "data-row-key-value"), "row-9999");
+        Assert.assertEquals(foundRow, 10000);
+        Assert.assertEquals(cell, "R4999C7", "Row 5000 holds the 5000th data row");
+    }
+
+    @Test
+    public void benchmarkVirtualTableStreaming() {
+        driver.get(BenchmarkFixtures.url("virtual-table.html", "rows=3000&cols=5&page=500&delay=300"));
+        Table table = new Table(VIRTUAL_TABLE);
+        
+        long start = System.nanoTime();
+        Optional<TableRow> early = table.findStreamedRow("data-row-key-value", row -> "R120C2".equals(row.getCell(2)));
+        long findMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        // The second stream rewinds the scroller, which the first one left near row 120
+        start = System.nanoTime();
+        long count = table.countStreamedRows("data-row-key-value");
+        long countMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        Logger.info("Virtualized 3000x5 streamed find (row 120): " + findMillis + " ms, streamed count: " + countMillis + " ms");
+        Assert.assertTrue(early.isPresent(), "Row 120 should be found by scrolling");
+        Assert.assertEquals(early.get().getKey(), "row-120");
+        Assert.assertEquals(count, 3000, "Every lazily loaded row should be streamed exactly once");
+        Assert.assertEquals(((JavascriptExecutor) driver).executeScript("return arguments[0].__harvest === undefined;",
+            driver.findElement(VIRTUAL_TABLE)), Boolean.TRUE, "Finished streams should drop their seen keys");
+    }
+
+    @Test
+    public void benchmarkIndexedLookups() {
+        driver.get(BenchmarkFixtures.url("large-table.html", "rows=5000&cols=10"));
+        Table table = new Table(TABLE);
+        int lookups = 20;
+        
+        int[] scanned = new int[lookups];
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            scanned[i] = table.findRowByColumnText("R" + (i * 250) + "C4", 4);
+        }
+        long scanMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        TableIndex index = table.enableIndex();
+        start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            Assert.assertEquals(table.findRowByColumnText("R" + (i * 250) + "C4", 4), scanned[i]);
+        }
+        long indexedMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        ((JavascriptExecutor) driver).executeScript(
+            "document.querySelector('#large-table tbody tr:nth-child(10) td:nth-child(5)').textContent = 'changed';");
+        Assert.assertEquals(table.findRowByColumnText("changed", 4), 10, "Index should rebuild after the body changes");
+        
+        Logger.info(lookups + " lookups on 5000x10 - scanning: " + scanMillis + " ms, indexed: " + indexedMillis
+            + " ms, " + index);
+        Assert.assertEquals(index.getBuildCount(), 2, "One initial build and one rebuild after the change");
+    }
+
+    @Test
+    public void benchmarkSnapshotDiff() {
+        driver.get(BenchmarkFixtures.url("large-table.html", "rows=10000&cols=10"));
+        Table table = new Table(TABLE);
+        
+        long start = System.nanoTime();
+        TableSnapshot before = table.snapshotRows("data-row-key-value");
+        long snapshotMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        ((JavascriptExecutor) driver).executeScript(
+            "var body = document.querySelector('#large-table tbody');" +
+            "body.querySelector('[data-row-key-value=\"row-42\"] td').textContent = 'edited';" +
+            "body.removeChild(body.querySelector('[data-row-key-value=\"row-7\"]'));" +
+            "var row = body.rows[0].cloneNode(true);" +
+            "row.setAttribute('data-row-key-value', 'row-new');" +
+            "body.appendChild(row);");
+        
+        start = System.nanoTime();
+        TableDiff diff = table.diffRows(before);
+        long diffMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        start = System.nanoTime();
+        table.extract("data-row-key-value");
+        long extractMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        Logger.info("10000x10 snapshot: " + snapshotMillis + " ms, diff after 3 row changes: " + diffMillis
+            + " ms, full re-extract: " + extractMillis + " ms");
+        Assert.assertEquals(diff.getChanged().size(), 1);
+        Assert.assertEquals(diff.getChanged().get(0).getKey(), "row-42");
+        Assert.assertEquals(diff.getChanged().get(0).getCell(0), "edited");
+        Assert.assertEquals(diff.getRemoved(), Collections.singletonList("row-7"));
+        Assert.assertEquals(diff.getAdded().size(), 1);
+        Assert.assertEquals(diff.getAdded().get(0).getKey(), "row-new");
+        Assert.assertTrue(table.diffRows(diff.getCurrentSnapshot()).isEmpty(), "Diff snapshot should match the table");
+    }
+}
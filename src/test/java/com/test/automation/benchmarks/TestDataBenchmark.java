@@ -0,0 +1,59 @@
+package com.test.automation.benchmarks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.test.automation.data.RestDataBackend;
+import com.test.automation.data.TestDataBackend;
+import com.test.automation.standin.StandInServer;
+import com.test.automation.utils.Logger;
+
+/**
+ * Creates and deletes a few hundred leads through the test data API against a stand-in server with a fixed
+ * latency per request, once in batches and once record by record, and logs the requests and time each took
+ */
+public class TestDataBenchmark {
+    private static final Duration LATENCY = Duration.ofMillis(50);
+    private static final int RECORDS = 500;
+
+    @Test
+    public void benchmarkBulkLeadSetup() {
+        try (StandInServer server = new StandInServer(0, 8)) {
+            server.setLatency(LATENCY);
+            List<Map<String, Object>> leads = new ArrayList<>();
+            for (int i = 0; i < RECORDS; i++) {
+                Map<String, Object> lead = new LinkedHashMap<>();
+                lead.put("FirstName", "Bulk");
+                lead.put("LastName", "Lead " + i);
+                lead.put("Company", "Benchmark Company " + i);
+                leads.add(lead);
+            }
+            String batched = measure(server, new RestDataBackend(server.getBaseUrl(), "v59.0", "benchmark",
+                RestDataBackend.MAX_BATCH_SIZE, Duration.ofSeconds(30)), leads);
+            String single = measure(server, new RestDataBackend(server.getBaseUrl(), "v59.0", "benchmark", 1,
+                Duration.ofSeconds(30)), leads);
+            Logger.info("Test data setup of " + RECORDS + " leads (" + LATENCY.toMillis() + " ms latency)\n"
+                + "  batches of " + RestDataBackend.MAX_BATCH_SIZE + ": " + batched + "\n  one per request: " + single);
+        }
+    }
+
+    private static String measure(StandInServer server, TestDataBackend backend, List<Map<String, Object>> leads) {
+        long requests = server.getRequestCount();
+        long start = System.nanoTime();
+        List<String> ids = backend.create("Lead", leads);
+        long created = System.nanoTime();
+        Assert.assertEquals(ids.size(), leads.size(), "Every lead should be created");
+        Assert.assertEquals(server.getLeads().size(), leads.size(), "Stand-in server should store every lead");
+        backend.delete(ids);
+        long deleted = System.nanoTime();
+        Assert.assertTrue(server.getLeads().isEmpty(), "Every lead should be deleted");
+        return String.format("create %d ms, delete %d ms, %d requests", (created - start) / 1_000_000,
+            (deleted - created) / 1_000_000, server.getRequestCount() - requests);
+    }
+}
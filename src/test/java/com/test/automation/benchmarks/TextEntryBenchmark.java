@@ -0,0 +1,54 @@
+package com.test.automation.benchmarks;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.test.automation.base.BaseTest;
+import com.test.automation.elements.Input;
+import com.test.automation.utils.Logger;
+
+/**
+ * Times entering a 10 KB payload into a notes field with each Input entry strategy
+ */
+public class TextEntryBenchmark extends BaseTest {
+    private static final By NOTES = By.id("notes");
+    private static final int PAYLOAD_BYTES = 10 * 1024;
+
+    @DataProvider(name = "strategies")
+    public Object[][] strategies() {
+        Input.EntryStrategy[] values = Input.EntryStrategy.values();
+        Object[][] data = new Object[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            data[i] = new Object[] {values[i]};
+        }
+        return data;
+    }
+
+    @Test(dataProvider = "strategies")
+    public void benchmarkTenKilobyteEntry(Input.EntryStrategy strategy) {
+        driver.get(BenchmarkFixtures.url("text-entry.html", ""));
+        String payload = payload();
+        Input notes = new Input(NOTES);
+        notes.setEntryStrategy(strategy);
+        
+        long start = System.nanoTime();
+        notes.enterText(payload);
+        long entryMillis = BenchmarkFixtures.elapsedMillis(start);
+        
+        Logger.info("10 KB enterText with " + strategy + ": " + entryMillis + " ms, input events: "
+            + notes.getAttribute("data-input-events"));
+        Assert.assertEquals(notes.getValue(), payload, strategy + " should enter the whole payload");
+        Assert.assertNotEquals(notes.getAttribute("data-input-events"), "0", strategy + " should fire input events");
+    }
+
+    private static String payload() {
+        StringBuilder text = new StringBuilder(PAYLOAD_BYTES);
+        String line = "The quick brown fox jumps over the lazy dog 0123456789.\n";
+        while (text.length() < PAYLOAD_BYTES) {
+            text.append(line);
+        }
+        return text.substring(0, PAYLOAD_BYTES);
+    }
+}
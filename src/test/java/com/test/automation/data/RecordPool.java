@@ -0,0 +1,353 @@
+package com.test.automation.data;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.test.automation.utils.Config;
+import com.test.automation.utils.ConfigReader;
+import com.test.automation.utils.Logger;
+
+/**
+ * Pool of pre-created records of one type, so tests that only need a record to exist do not create and delete it
+ * on their critical path. The first checkout creates the first batch, so a pool no scheduled test uses creates
+ * nothing; after that a background thread creates a batch through a {@link TestDataBackend} whenever the pool runs
+ * low. {@link #checkout()} takes a record from a lock-free queue, so tests only wait when the pool is empty.
+ * Every record is handed out once. Released records are deleted in batches every delete interval and when the pool
+ * is closed, together with the records never handed out; failed deletions are retried, and closing fails if records
+ * are still left in the org.
+ * Pools from {@link #shared} are closed at suite end by {@link com.test.automation.base.BaseTest} or
+ * {@link RecordPoolListener}.
+ */
+public class RecordPool implements AutoCloseable {
+    private static final int MAX_CHECKOUT_ATTEMPTS = 3;
+    private static final Map<String, RecordPool> SHARED = new ConcurrentHashMap<>();
+    private static final AtomicLong NEXT_SUFFIX = new AtomicLong();
+    // 36^5: five base-36 digits
+    private static final int RANDOM_BOUND = 60_466_176;
+    // Suffixes are unique across runs sharing an org, including shards started in the same millisecond: start time
+    // plus a random part of fixed width, so the counter appended to it cannot make two tokens look alike
+    private static final String RUN_TOKEN = Long.toString(System.currentTimeMillis(), 36)
+        + Long.toString(RANDOM_BOUND + new SecureRandom().nextInt(RANDOM_BOUND), 36).substring(1);
+
+    private final TestDataBackend backend;
+    private final String objectType;
+    private final RecordFactory factory;
+    private final int batchSize;
+    private final int lowWater;
+    private final Duration timeout;
+    private final Queue<PooledRecord> available = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger availableCount = new AtomicInteger();
+    private final Queue<String> released = new ConcurrentLinkedQueue<>();
+    // Ids whose deletion failed, retried with the next deletion; guarded by this pool
+    private final List<String> failedDeletions = new ArrayList<>();
+    private final AtomicReference<CompletableFuture<Void>> refilling = new AtomicReference<>();
+    private final ScheduledExecutorService executor;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder checkedOut = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Creates the field values of one record
+     */
+    @FunctionalInterface
+    public interface RecordFactory {
+        /**
+         * Create the field values of a record
+         * @param uniqueSuffix Suffix unique to this record, for names and other unique fields
+         * @return Field values
+         */
+        Map<String, Object> create(String uniqueSuffix);
+    }
+
+    /**
+     * Create a pool with the data.pool.* settings, creating records through {@link RestDataBackend}
+     * @param objectType API name of the record type (e.g. "Lead")
+     * @param factory Field values of new records
+     */
+    public RecordPool(String objectType, RecordFactory factory) {
+        this(new RestDataBackend(), objectType, factory, ConfigReader.get());
+    }
+
+    private RecordPool(TestDataBackend backend, String objectType, RecordFactory factory, Config config) {
+        this(backend, objectType, factory, config.getDataPoolBatchSize(), config.getDataPoolLowWater(),
+            config.getDataPoolDeleteInterval(), config.getExplicitWait());
+    }
+
+    /**
+     * Create a pool; its first batch is created on the first checkout
+     * @param backend Backend creating and deleting the records
+     * @param objectType API name of the record type (e.g. "Lead")
+     * @param factory Field values of new records
+     * @param batchSize Records created per batch
+     * @param lowWater Number of available records below which the next batch is created
+     * @param deleteInterval Time between batched deletions of released records
+     * @param timeout Time a checkout waits for a batch when the pool is empty
+     */
+    public RecordPool(TestDataBackend backend, String objectType, RecordFactory factory, int batchSize, int lowWater,
+                      Duration deleteInterval, Duration timeout) {
+        this.backend = backend;
+        this.objectType = objectType;
+        this.factory = factory;
+        this.batchSize = batchSize;
+        this.lowWater = lowWater;
+        this.timeout = timeout;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "record-pool-" + objectType);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::deleteReleased, deleteInterval.toMillis(), deleteInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the pool of a record type shared by all tests of the suite, creating it on first use
+     * @param objectType API name of the record type (e.g. "Lead")
+     * @param factory Field values of new records, used if the pool is created
+     * @return Shared pool
+     */
+    public static RecordPool shared(String objectType, RecordFactory factory) {
+        return SHARED.computeIfAbsent(objectType, type -> new RecordPool(type, factory));
+    }
+
+    /**
+     * Get a suffix for unique names and other unique fields, the same kind the pools pass to their factories
+     * @return Suffix unique to this run and across runs
+     */
+    public static String uniqueSuffix() {
+        return RUN_TOKEN + NEXT_SUFFIX.incrementAndGet();
+    }
+
+    /**
+     * Close all shared pools, deleting their released and unused records
+     * @throws IllegalStateException if records of any pool could not be deleted, after closing all of them
+     */
+    public static void closeShared() {
+        List<String> failures = new ArrayList<>();
+        for (String objectType : new ArrayList<>(SHARED.keySet())) {
+            RecordPool pool = SHARED.remove(objectType);
+            if (pool != null) {
+                try {
+                    pool.close();
+                } catch (IllegalStateException e) {
+                    failures.add(e.getMessage());
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException(String.join("\n", failures));
+        }
+    }
+
+    /**
+     * Take a record for the exclusive use of a test; waits for the next batch only if the pool is empty
+     * @return Record, to {@link #release} when the test is done
+     */
+    public PooledRecord checkout() {
+        for (int attempt = 1; ; attempt++) {
+            if (closed) {
+                throw new IllegalStateException(objectType + " record pool is closed");
+            }
+            PooledRecord record = available.poll();
+            if (record != null) {
+                if (availableCount.decrementAndGet() < lowWater) {
+                    refill();
+                }
+                checkedOut.increment();
+                return record;
+            }
+            if (attempt > MAX_CHECKOUT_ATTEMPTS) {
+                throw new IllegalStateException("No " + objectType + " record available after "
+                    + MAX_CHECKOUT_ATTEMPTS + " batches");
+            }
+            if (attempt == 1) {
+                waits.increment();
+            }
+            try {
+                refill().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to create " + objectType + " records for the pool", e.getCause());
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("Timed out waiting for " + objectType + " records", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for " + objectType + " records", e);
+            }
+        }
+    }
+
+    /**
+     * Queue a checked-out record for deletion
+     * @param record Record the test is done with
+     */
+    public void release(PooledRecord record) {
+        release(record.getId());
+    }
+
+    /**
+     * Queue any record of the pool's type for deletion, e.g. one a test created through the UI
+     * @param id Record id
+     * @throws IllegalArgumentException if the id is null or blank
+     */
+    public void release(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Cannot release a " + objectType + " record without an id to the "
+                + objectType + " record pool");
+        }
+        released.add(id);
+    }
+
+    /**
+     * Get the number of records ready for checkout
+     * @return Available records
+     */
+    public int getAvailableCount() {
+        return Math.max(availableCount.get(), 0);
+    }
+
+    /**
+     * Close the pool, deleting its released and unused records
+     * @throws IllegalStateException if records could not be deleted and are left in the org
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        executor.shutdown();
+        try {
+            // Lets a running batch finish, so its records are deleted below
+            executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (PooledRecord record; (record = available.poll()) != null; ) {
+            released.add(record.getId());
+        }
+        deleteReleased();
+        Logger.info(objectType + " record pool closed: " + created.sum() + " created, " + checkedOut.sum()
+            + " checked out, " + waits.sum() + " checkouts waited, " + deleted.sum() + " deleted, "
+            + failedBatches.sum() + " batches failed to create");
+        synchronized (this) {
+            if (!failedDeletions.isEmpty()) {
+                String message = "Failed to delete " + failedDeletions.size() + " " + objectType
+                    + " records, they are left in the org: " + failedDeletions;
+                Logger.error(message);
+                throw new IllegalStateException(message);
+            }
+        }
+    }
+
+    /**
+     * Start creating a batch unless one is already being created
+     * @return Future completed when the running batch is available
+     */
+    private CompletableFuture<Void> refill() {
+        while (true) {
+            CompletableFuture<Void> running = refilling.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Void> next = new CompletableFuture<>();
+            if (refilling.compareAndSet(null, next)) {
+                try {
+                    executor.execute(() -> fill(next));
+                } catch (RuntimeException e) {
+                    refilling.set(null);
+                    next.completeExceptionally(e);
+                }
+                return next;
+            }
+        }
+    }
+
+    private void fill(CompletableFuture<Void> done) {
+        try {
+            List<Map<String, Object>> records = new ArrayList<>();
+            for (int i = 0; i < batchSize; i++) {
+                records.add(factory.create(uniqueSuffix()));
+            }
+            List<String> ids = backend.create(objectType, records);
+            for (int i = 0; i < ids.size(); i++) {
+                available.add(new PooledRecord(ids.get(i), records.get(i)));
+            }
+            availableCount.addAndGet(ids.size());
+            created.add(ids.size());
+            refilling.set(null);
+            done.complete(null);
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            Logger.warn("Failed to create a batch of " + objectType + " records for the pool", e);
+            refilling.set(null);
+            done.completeExceptionally(e);
+        }
+    }
+
+    private synchronized void deleteReleased() {
+        List<String> ids = new ArrayList<>(failedDeletions);
+        failedDeletions.clear();
+        for (String id; (id = released.poll()) != null; ) {
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            backend.delete(ids);
+            deleted.add(ids.size());
+        } catch (RuntimeException e) {
+            failedDeletions.addAll(ids);
+            Logger.warn("Failed to delete " + ids.size() + " " + objectType + " records, retrying with the next "
+                + "deletion: " + ids, e);
+        }
+    }
+
+    /**
+     * Record handed out by a pool
+     */
+    public static final class PooledRecord {
+        private final String id;
+        private final Map<String, Object> fields;
+
+        private PooledRecord(String id, Map<String, Object> fields) {
+            this.id = id;
+            this.fields = Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Get a field value the record was created with
+         * @param field API field name
+         * @return Value as text, null if the field was not set
+         */
+        public String getField(String field) {
+            Object value = fields.get(field);
+            return value == null ? null : String.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.test.automation.data;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import com.test.automation.utils.Logger;
+
+/**
+ * TestNG listener that closes the shared record pools after each suite, deleting the records released by tests and
+ * those never handed out (see {@link RecordPool#shared}). Browser tests close them earlier, in
+ * {@link com.test.automation.base.BaseTest}, where records left in the org fail the suite; this listener covers
+ * suites without such tests and logs the records it could not delete.
+ * Register in the suite xml: &lt;listener class-name="com.test.automation.data.RecordPoolListener"/&gt;
+ */
+public class RecordPoolListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        try {
+            RecordPool.closeShared();
+        } catch (IllegalStateException e) {
+            // Already logged by the pool; a listener exception would abort the remaining listeners
+            Logger.debug("Record pools closed with records left in the org");
+        }
+    }
+}
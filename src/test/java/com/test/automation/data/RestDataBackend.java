@@ -0,0 +1,189 @@
+package com.test.automation.data;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import com.test.automation.utils.Config;
+import com.test.automation.utils.ConfigReader;
+import com.test.automation.utils.Logger;
+
+/**
+ * {@link TestDataBackend} using the Salesforce REST sObject Collections API: each request creates or deletes up to
+ * {@link #MAX_BATCH_SIZE} records, and the batches of one call are sent concurrently, so hundreds of records take
+ * a few requests instead of one form per record. The stand-in server implements the same endpoints, so the
+ * standin profile runs this backend offline.
+ */
+public class RestDataBackend implements TestDataBackend {
+    /**
+     * Maximum records per request accepted by the API
+     */
+    public static final int MAX_BATCH_SIZE = 200;
+
+    private static final Json JSON = new Json();
+    private static final Type RESULTS_TYPE = new TypeToken<List<Map<String, Object>>>() { }.getType();
+
+    private final HttpClient client;
+    private final URI collectionsUri;
+    private final String accessToken;
+    private final int batchSize;
+    private final Duration timeout;
+
+    /**
+     * Create a backend with the data.api.* settings of the configuration; the instance URL defaults to base.url
+     * @throws IllegalStateException if data.api.token is not set
+     */
+    public RestDataBackend() {
+        this(ConfigReader.get());
+    }
+
+    private RestDataBackend(Config config) {
+        this(requireDataApi(config).getDataApiUrl().isEmpty() ? config.getBaseUrl() : config.getDataApiUrl(),
+            config.getDataApiVersion(), config.getDataApiToken(), config.getDataBatchSize(),
+            config.getPageLoadTimeout());
+    }
+
+    private static Config requireDataApi(Config config) {
+        if (!config.isDataApiEnabled()) {
+            throw new IllegalStateException("The test data API is not configured: set data.api.token (or the "
+                + "DATA_API_TOKEN environment variable) and data.api.url");
+        }
+        return config;
+    }
+
+    /**
+     * Create a backend
+     * @param instanceUrl URL of the org (or stand-in server)
+     * @param apiVersion API version, e.g. "v59.0"
+     * @param accessToken OAuth access token sent as bearer token
+     * @param batchSize Records per request, at most {@link #MAX_BATCH_SIZE}
+     * @param timeout Timeout of each request
+     */
+    public RestDataBackend(String instanceUrl, String apiVersion, String accessToken, int batchSize,
+                           Duration timeout) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE + ": " + batchSize);
+        }
+        String base = instanceUrl.endsWith("/") ? instanceUrl : instanceUrl + "/";
+        this.collectionsUri = URI.create(base + "services/data/" + apiVersion + "/composite/sobjects");
+        this.accessToken = accessToken;
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public List<String> create(String objectType, List<Map<String, Object>> records) {
+        List<CompletableFuture<List<Map<String, Object>>>> batches = new ArrayList<>();
+        for (int start = 0; start < records.size(); start += batchSize) {
+            List<Map<String, Object>> batch = new ArrayList<>();
+            for (Map<String, Object> record : records.subList(start, Math.min(start + batchSize, records.size()))) {
+                Map<String, Object> typed = new LinkedHashMap<>();
+                typed.put("attributes", Map.of("type", objectType));
+                typed.putAll(record);
+                batch.add(typed);
+            }
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("allOrNone", true);
+            body.put("records", batch);
+            batches.add(send(request(collectionsUri).POST(HttpRequest.BodyPublishers.ofString(JSON.toJson(body)))));
+        }
+        List<String> ids = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (CompletableFuture<List<Map<String, Object>>> batch : batches) {
+            for (Map<String, Object> result : await(batch, errors)) {
+                if (Boolean.TRUE.equals(result.get("success"))) {
+                    ids.add(String.valueOf(result.get("id")));
+                } else {
+                    errors.add(String.valueOf(result.get("errors")));
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            IllegalStateException failure = new IllegalStateException("Failed to create " + objectType + " records: "
+                + errors.get(0) + (errors.size() > 1 ? " (and " + (errors.size() - 1) + " more)" : ""));
+            // Batches are all-or-none on their own; remove what the other batches created
+            try {
+                delete(ids);
+            } catch (RuntimeException e) {
+                // Keeps the creation error the one reported, with the failed cleanup attached
+                failure.addSuppressed(e);
+            }
+            throw failure;
+        }
+        Logger.info("Created " + ids.size() + " " + objectType + " records in " + batches.size() + " requests");
+        return ids;
+    }
+
+    @Override
+    public void delete(List<String> ids) {
+        List<CompletableFuture<List<Map<String, Object>>>> batches = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += batchSize) {
+            String idList = String.join(",", ids.subList(start, Math.min(start + batchSize, ids.size())));
+            URI uri = URI.create(collectionsUri + "?ids=" + URLEncoder.encode(idList, StandardCharsets.UTF_8)
+                + "&allOrNone=false");
+            batches.add(send(request(uri).DELETE()));
+        }
+        List<String> errors = new ArrayList<>();
+        for (CompletableFuture<List<Map<String, Object>>> batch : batches) {
+            for (Map<String, Object> result : await(batch, errors)) {
+                if (!Boolean.TRUE.equals(result.get("success"))
+                    && !String.valueOf(result.get("errors")).contains("ENTITY_IS_DELETED")) {
+                    errors.add(result.get("id") + ": " + result.get("errors"));
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Failed to delete records: " + errors);
+        }
+        if (!ids.isEmpty()) {
+            Logger.info("Deleted " + ids.size() + " records in " + batches.size() + " requests");
+        }
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(timeout)
+            .header("Authorization", "Bearer " + accessToken)
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json");
+    }
+
+    private CompletableFuture<List<Map<String, Object>>> send(HttpRequest.Builder request) {
+        HttpRequest built = request.build();
+        return client.sendAsync(built, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Data API request " + built.method() + " " + built.uri()
+                    + " failed with status " + response.statusCode() + ": " + response.body());
+            }
+            return JSON.<List<Map<String, Object>>>toType(response.body(), RESULTS_TYPE);
+        });
+    }
+
+    /**
+     * Wait for a request, collecting its failure instead of throwing, so the other batches are still accounted for
+     */
+    private static List<Map<String, Object>> await(CompletableFuture<List<Map<String, Object>>> batch,
+                                                   List<String> errors) {
+        try {
+            return batch.join();
+        } catch (CompletionException e) {
+            errors.add(String.valueOf(e.getCause()));
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.test.automation.data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates and deletes the records a test needs through an API instead of the UI, so UI tests only spend time on
+ * what they verify. Records are maps of API field names to values (e.g. "LastName", "Company" for a Lead).
+ */
+public interface TestDataBackend {
+
+    /**
+     * Create records of one type; large lists are sent in batches
+     * @param objectType API name of the record type (e.g. "Lead")
+     * @param records Field values of each record
+     * @return Ids of the created records, in the order of the records
+     */
+    List<String> create(String objectType, List<Map<String, Object>> records);
+
+    /**
+     * Create one record
+     * @param objectType API name of the record type (e.g. "Lead")
+     * @param record Field values
+     * @return Id of the created record
+     */
+    default String create(String objectType, Map<String, Object> record) {
+        return create(objectType, List.of(record)).get(0);
+    }
+
+    /**
+     * Delete records; ids of records that are already gone are ignored
+     * @param ids Record ids
+     */
+    void delete(List<String> ids);
+}
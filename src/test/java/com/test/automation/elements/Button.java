@@ -4,6 +4,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
 import com.test.automation.base.BaseElement;
+import com.test.automation.base.ElementSnapshot;
 import com.test.automation.utils.Logger;
 
 /**
@@ -18,7 +19,7 @@ public class Button extends BaseElement {
      */
     public Button(By locator) {
         super(locator);
-        Logger.debug("Created Button element with locator: " + locator);
+        Logger.debug("Created Button element with locator: {}", locator);
     }
     
     /**
@@ -71,7 +72,7 @@ public class Button extends BaseElement {
     public boolean isEnabled() {
         try {
             boolean enabled = super.isEnabled();
-            Logger.debug("Button is enabled: " + enabled);
+            Logger.debug("Button is enabled: {}", enabled);
             return enabled;
         } catch (Exception e) {
             Logger.error("Failed to check if button is enabled", e);
@@ -85,6 +86,23 @@ public class Button extends BaseElement {
      * @return true if the button has the specified class
      */
     public boolean hasClass(String className) {
-        return super.hasClass(className);
+        return snapshot("class").hasClass(className);
+    }
+    
+    /**
+     * Check if the button can be acted on: displayed, enabled and not aria-disabled
+     * Reads all three in a single snapshot instead of separate driver calls
+     * @return true if the button is actionable
+     */
+    public boolean isActionable() {
+        try {
+            ElementSnapshot state = snapshot("disabled", "aria-disabled");
+            boolean actionable = state.isDisplayed() && state.isEnabled() && !state.isDisabled();
+            Logger.debug("Button is actionable: {}", actionable);
+            return actionable;
+        } catch (Exception e) {
+            Logger.error("Failed to check if button is actionable", e);
+            throw e;
+        }
     }
 } 
\ No newline at end of file
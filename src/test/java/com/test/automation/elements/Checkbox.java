@@ -18,7 +18,7 @@ public class Checkbox extends BaseElement {
      */
     public Checkbox(By locator) {
         super(locator);
-        Logger.debug("Created Checkbox element with locator: " + locator);
+        Logger.debug("Created Checkbox element with locator: {}", locator);
     }
     
     /**
@@ -35,8 +35,8 @@ public class Checkbox extends BaseElement {
      * @return true if checkbox is selected/checked
      */
     public boolean isChecked() {
-        boolean checked = getElement().isSelected();
-        Logger.debug("Checkbox is checked: " + checked);
+        boolean checked = snapshot().isSelected();
+        Logger.debug("Checkbox is checked: {}", checked);
         return checked;
     }
     
@@ -48,7 +48,7 @@ public class Checkbox extends BaseElement {
             Logger.info("Checking checkbox");
             waitForClickable();
             
-            if (!isSelected()) {
+            if (!isChecked()) {
                 scrollTo();
                 click();
                 Logger.debug("Checkbox is now checked");
@@ -69,7 +69,7 @@ public class Checkbox extends BaseElement {
             Logger.info("Unchecking checkbox");
             waitForClickable();
             
-            if (isSelected()) {
+            if (isChecked()) {
                 scrollTo();
                 click();
                 Logger.debug("Checkbox is now unchecked");
@@ -114,9 +114,9 @@ public class Checkbox extends BaseElement {
      * Check the checkbox using JavaScript
      */
     public void jsCheck() {
-        WebElement checkbox = getElement();
-        if (!checkbox.isSelected()) {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", checkbox);
+        if (!isChecked()) {
+            invalidateSnapshot();
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", getElement());
             Logger.debug("JavaScript checked");
         }
     }
@@ -127,21 +127,22 @@ public class Checkbox extends BaseElement {
      */
     public void setSalesforceCheckbox(boolean check) {
         try {
-            WebElement checkbox = getElement();
-            boolean isChecked = checkbox.isSelected();
+            boolean isChecked = isChecked();
             
             if (check != isChecked) {
-                checkbox.click();
-                Logger.debug((check ? "Checked" : "Unchecked") + " Salesforce checkbox");
+                invalidateSnapshot();
+                getElement().click();
+                Logger.debug("{} Salesforce checkbox", check ? "Checked" : "Unchecked");
             } else {
-                Logger.debug("Salesforce checkbox already in desired state (checked: " + check + ")");
+                Logger.debug("Salesforce checkbox already in desired state (checked: {})", check);
             }
         } catch (Exception e) {
             // Try with JavaScript as a fallback
             Logger.warn("Using JavaScript fallback for Salesforce checkbox");
+            invalidateSnapshot();
             WebElement checkbox = getElement();
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", checkbox);
-            Logger.debug("JavaScript " + (check ? "checked" : "unchecked") + " Salesforce checkbox");
+            Logger.debug("JavaScript {} Salesforce checkbox", check ? "checked" : "unchecked");
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.test.automation.elements;
+
+/**
+ * JavaScript used by {@link LightningCombobox} to open, read and select listbox options in single calls
+ */
+final class ComboboxScripts {
+
+    /**
+     * Shared helpers: deep query (descends into open shadow roots), trigger/listbox lookup and option label/value
+     */
+    static final String HELPER_FUNCTIONS =
+        "function __deepAll(root, sel) {" +
+        "  var out = Array.prototype.slice.call(root.querySelectorAll(sel));" +
+        "  var all = root.querySelectorAll('*');" +
+        "  for (var i = 0; i < all.length; i++) {" +
+        "    if (all[i].shadowRoot) { out = out.concat(__deepAll(all[i].shadowRoot, sel)); }" +
+        "  }" +
+        "  return out;" +
+        "}" +
+        "function __trigger(host) {" +
+        "  return host.matches('[role=combobox]') ? host : (__deepAll(host, '[role=combobox]')[0] || host);" +
+        "}" +
+        "function __listbox(host, trigger) {" +
+        "  var id = trigger.getAttribute('aria-controls'), box = id ? document.getElementById(id) : null;" +
+        "  if (!box && id) { box = __deepAll(host, '#' + CSS.escape(id))[0]; }" +
+        "  return box || __deepAll(host, '[role=listbox]')[0] || null;" +
+        "}" +
+        "function __options(host, trigger) {" +
+        "  var box = __listbox(host, trigger);" +
+        "  return box ? __deepAll(box, '[role=option]') : [];" +
+        "}" +
+        "function __optionLabel(option) {" +
+        "  var titled = option.querySelector('[title]');" +
+        "  var label = (titled && titled.getAttribute('title')) || option.getAttribute('aria-label') || option.innerText || '';" +
+        "  return label.replace(/\\u00a0/g, ' ').trim();" +
+        "}" +
+        "function __optionValue(option) {" +
+        "  var value = option.getAttribute('data-value');" +
+        "  return value !== null ? value : __optionLabel(option);" +
+        "}" +
+        "function __pageToken() {" +
+        "  var page = window.__comboboxPage;" +
+        "  if (!page || page.href !== location.href) {" +
+        "    page = window.__comboboxPage = {href: location.href, token: Math.random().toString(36).slice(2)};" +
+        "  }" +
+        "  return page.token;" +
+        "}";
+
+    /**
+     * Async script: opens the listbox if needed, waits for the wanted option to render and clicks it.
+     * Unless told to wait for a match, gives up as soon as options are rendered without one so the caller can
+     * fall back to typeahead.
+     * arguments: 0 combobox host or trigger, 1 match by ("label", "value" or "index"), 2 label/value/index,
+     * 3 timeout ms, 4 wait for a match (e.g. while typeahead filtering settles);
+     * returns {selected, label, value, options, typeahead}
+     */
+    static final String SELECT_OPTION =
+        HELPER_FUNCTIONS +
+        "var host = arguments[0], by = arguments[1], wanted = arguments[2], deadline = Date.now() + arguments[3];" +
+        "var patient = arguments[4], callback = arguments[arguments.length - 1], trigger = __trigger(host);" +
+        "if (trigger.getAttribute('aria-expanded') !== 'true') { trigger.click(); }" +
+        "(function attempt() {" +
+        "  var options = __options(host, trigger);" +
+        "  for (var i = 0; i < options.length; i++) {" +
+        "    var o = options[i];" +
+        "    var hit = by === 'value' ? __optionValue(o) === wanted : (by === 'index' ? i === wanted : __optionLabel(o) === wanted);" +
+        "    if (hit) {" +
+        "      o.scrollIntoView({block: 'nearest'});" +
+        "      o.click();" +
+        "      return callback({selected: true, label: __optionLabel(o), value: __optionValue(o), options: options.length," +
+        "        typeahead: trigger.tagName === 'INPUT'});" +
+        "    }" +
+        "  }" +
+        "  if ((options.length && !patient) || Date.now() >= deadline) {" +
+        "    return callback({selected: false, options: options.length, typeahead: trigger.tagName === 'INPUT'});" +
+        "  }" +
+        "  setTimeout(attempt, 50);" +
+        "})();";
+
+    /**
+     * Async script: opens the listbox if needed, waits for options to render, reads them and closes it again
+     * arguments: 0 combobox host or trigger, 1 timeout ms; returns {page, labels, values}
+     */
+    static final String READ_OPTIONS =
+        HELPER_FUNCTIONS +
+        "var host = arguments[0], deadline = Date.now() + arguments[1], callback = arguments[arguments.length - 1];" +
+        "var trigger = __trigger(host), opened = trigger.getAttribute('aria-expanded') !== 'true';" +
+        "if (opened) { trigger.click(); }" +
+        "(function attempt() {" +
+        "  var options = __options(host, trigger);" +
+        "  if (!options.length && Date.now() < deadline) { return setTimeout(attempt, 50); }" +
+        "  var labels = [], values = [];" +
+        "  for (var i = 0; i < options.length; i++) {" +
+        "    labels.push(__optionLabel(options[i]));" +
+        "    values.push(__optionValue(options[i]));" +
+        "  }" +
+        "  if (opened && trigger.getAttribute('aria-expanded') === 'true') { trigger.click(); }" +
+        "  callback({page: __pageToken(), labels: labels, values: values});" +
+        "})();";
+
+    /**
+     * Reads the selected label and value of the combobox
+     * arguments: 0 combobox host or trigger; returns {label, value}
+     */
+    static final String READ_SELECTION =
+        HELPER_FUNCTIONS +
+        "var host = arguments[0], trigger = __trigger(host);" +
+        "var value = host !== trigger && host.value !== undefined && host.value !== null ? String(host.value)" +
+        "  : trigger.getAttribute('data-value');" +
+        "var label = trigger.tagName === 'INPUT' ? trigger.value : (trigger.getAttribute('data-label') || trigger.innerText || '');" +
+        "return {label: label.replace(/\\u00a0/g, ' ').trim(), value: value};";
+
+    /**
+     * Returns the token identifying the current page and route, null if no options were cached on it or a
+     * single-page-app navigation changed the URL since
+     */
+    static final String PAGE_TOKEN =
+        "var page = window.__comboboxPage;" +
+        "return page && page.href === location.href ? page.token : null;";
+
+    private ComboboxScripts() {
+    }
+}
@@ -1,6 +1,5 @@
 package com.test.automation.elements;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -15,6 +14,8 @@ import com.test.automation.utils.Logger;
  */
 public class Dropdown extends BaseElement {
     
+    private static final By OPTION_LOCATOR = By.tagName("option");
+    
     private Select select;
     
     /**
@@ -23,7 +24,7 @@ public class Dropdown extends BaseElement {
      */
     public Dropdown(By locator) {
         super(locator);
-        Logger.debug("Created Dropdown element with locator: " + locator);
+        Logger.debug("Created Dropdown element with locator: {}", locator);
     }
     
     /**
@@ -51,11 +52,12 @@ public class Dropdown extends BaseElement {
     public void selectByVisibleText(String visibleText) {
         try {
             Logger.info("Selecting option '" + visibleText + "' in dropdown");
+            invalidateSnapshot();
             waitForVisible();
             scrollTo();
             initSelect();
             select.selectByVisibleText(visibleText);
-            Logger.debug("Selected option '" + visibleText + "' successfully");
+            Logger.debug("Selected option '{}' successfully", visibleText);
         } catch (Exception e) {
             Logger.error("Failed to select option '" + visibleText + "' in dropdown", e);
             throw e;
@@ -69,11 +71,12 @@ public class Dropdown extends BaseElement {
     public void selectByValue(String value) {
         try {
             Logger.info("Selecting option with value '" + value + "' in dropdown");
+            invalidateSnapshot();
             waitForVisible();
             scrollTo();
             initSelect();
             select.selectByValue(value);
-            Logger.debug("Selected option with value '" + value + "' successfully");
+            Logger.debug("Selected option with value '{}' successfully", value);
         } catch (Exception e) {
             Logger.error("Failed to select option with value '" + value + "' in dropdown", e);
             throw e;
@@ -87,11 +90,12 @@ public class Dropdown extends BaseElement {
     public void selectByIndex(int index) {
         try {
             Logger.info("Selecting option at index " + index + " in dropdown");
+            invalidateSnapshot();
             waitForVisible();
             scrollTo();
             initSelect();
             select.selectByIndex(index);
-            Logger.debug("Selected option at index " + index + " successfully");
+            Logger.debug("Selected option at index {} successfully", index);
         } catch (Exception e) {
             Logger.error("Failed to select option at index " + index + " in dropdown", e);
             throw e;
@@ -106,15 +110,7 @@ public class Dropdown extends BaseElement {
         try {
             Logger.debug("Getting all options from dropdown");
             waitForVisible();
-            initSelect();
-            List<WebElement> options = select.getOptions();
-            List<String> optionTexts = new ArrayList<>();
-            
-            for (WebElement option : options) {
-                optionTexts.add(option.getText());
-            }
-            
-            return optionTexts;
+            return bulkReadValues(OPTION_LOCATOR, "text");
         } catch (Exception e) {
             Logger.error("Failed to get options from dropdown", e);
             throw e;
@@ -171,15 +167,7 @@ public class Dropdown extends BaseElement {
         try {
             Logger.debug("Getting all option values from dropdown");
             waitForVisible();
-            initSelect();
-            List<WebElement> options = select.getOptions();
-            List<String> values = new ArrayList<>();
-            
-            for (WebElement option : options) {
-                values.add(option.getAttribute("value"));
-            }
-            
-            return values;
+            return bulkReadValues(OPTION_LOCATOR, "value");
         } catch (Exception e) {
             Logger.error("Failed to get option values from dropdown", e);
             throw e;
@@ -205,6 +193,7 @@ public class Dropdown extends BaseElement {
      * Deselect all selected options (only works for multi-select dropdowns)
      */
     public void deselectAll() {
+        invalidateSnapshot();
         initSelect();
         if (isMultiple()) {
             select.deselectAll();
@@ -219,8 +208,8 @@ public class Dropdown extends BaseElement {
      * @return Number of options
      */
     public int getOptionCount() {
-        int count = select.getOptions().size();
-        Logger.debug("Dropdown has " + count + " options");
+        int count = getElement().findElements(OPTION_LOCATOR).size();
+        Logger.debug("Dropdown has {} options", count);
         return count;
     }
     
@@ -239,6 +228,7 @@ public class Dropdown extends BaseElement {
     private void handleCustomDropdown(String optionText) {
         try {
             // Click to open the dropdown
+            invalidateSnapshot();
             getElement().click();
             Logger.debug("Clicked to open custom dropdown");
             
@@ -249,7 +239,7 @@ public class Dropdown extends BaseElement {
             
             // Click on the option
             driver.findElement(optionLocator).click();
-            Logger.debug("Selected option in custom dropdown: '" + optionText + "'");
+            Logger.debug("Selected option in custom dropdown: '{}'", optionText);
         } catch (Exception e) {
             Logger.error("Failed to handle custom dropdown", e);
             throw e;
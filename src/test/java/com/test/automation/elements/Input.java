@@ -1,11 +1,15 @@
 package com.test.automation.elements;
 
+import java.util.Collections;
+
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.chromium.HasCdp;
 
 import com.test.automation.base.BaseElement;
+import com.test.automation.utils.ConfigReader;
 import com.test.automation.utils.Logger;
 
 /**
@@ -13,13 +17,66 @@ import com.test.automation.utils.Logger;
  */
 public class Input extends BaseElement {
     
+    // Focuses the field and selects its content (arguments[1] true) or moves the caret to the end
+    private static final String FOCUS_FOR_INSERT =
+        "var el = arguments[0];" +
+        "el.focus();" +
+        "if (el.isContentEditable) {" +
+        "  var range = document.createRange();" +
+        "  range.selectNodeContents(el);" +
+        "  if (!arguments[1]) { range.collapse(false); }" +
+        "  var selection = window.getSelection();" +
+        "  selection.removeAllRanges();" +
+        "  selection.addRange(range);" +
+        "} else if (arguments[1]) {" +
+        "  el.select();" +
+        "} else {" +
+        "  try { el.setSelectionRange(el.value.length, el.value.length); } catch (e) { }" +
+        "}";
+    
+    // Sets the value through the native setter (so framework value trackers notice) and fires input/change
+    private static final String SET_VALUE_WITH_EVENTS =
+        "var el = arguments[0], text = arguments[1];" +
+        "el.focus();" +
+        "if (el.isContentEditable) {" +
+        "  el.textContent = arguments[2] ? text : el.textContent + text;" +
+        "} else {" +
+        "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+        "  var setter = Object.getOwnPropertyDescriptor(proto, 'value').set;" +
+        "  setter.call(el, arguments[2] ? text : el.value + text);" +
+        "}" +
+        "el.dispatchEvent(new InputEvent('input', {bubbles: true, composed: true, inputType: 'insertText', data: text}));" +
+        "el.dispatchEvent(new Event('change', {bubbles: true}));" +
+        "return el.isContentEditable ? el.innerText : el.value;";
+    
+    private static final String READ_ENTERED_VALUE =
+        "var el = arguments[0];" +
+        "return el.isContentEditable ? el.innerText : el.value;";
+    
+    private static final EntryStrategy DEFAULT_ENTRY_STRATEGY =
+        EntryStrategy.valueOf(ConfigReader.get().getInputEntryStrategy());
+    
+    private EntryStrategy entryStrategy = DEFAULT_ENTRY_STRATEGY;
+    
+    /**
+     * How text is entered into the field
+     * KEYSTROKES sends one key event per character through WebDriver,
+     * INSERT_TEXT uses the DevTools Input.insertText command (one command, real input events; Chromium only),
+     * SCRIPT_VALUE assigns the value in a script and fires input and change events
+     */
+    public enum EntryStrategy {
+        KEYSTROKES,
+        INSERT_TEXT,
+        SCRIPT_VALUE
+    }
+    
     /**
      * Constructor for Input element with locator only
      * @param locator By locator to find the element
      */
     public Input(By locator) {
         super(locator);
-        Logger.debug("Created Input element with locator: " + locator);
+        Logger.debug("Created Input element with locator: {}", locator);
     }
     
     /**
@@ -40,8 +97,12 @@ public class Input extends BaseElement {
             Logger.info("Typing '" + text + "' into input field");
             waitForVisible();
             scrollTo();
-            clear();
-            super.sendKeys(text);
+            if (entryStrategy == EntryStrategy.KEYSTROKES) {
+                clear();
+                super.sendKeys(text);
+            } else {
+                enter(text);
+            }
         } catch (Exception e) {
             Logger.error("Failed to type text into input field", e);
             throw e;
@@ -99,9 +160,8 @@ public class Input extends BaseElement {
     public void enterText(String text) {
         try {
             Logger.info("Entering text: '" + text + "' into input field");
-            WebElement element = getElement();
-            element.clear();
-            element.sendKeys(text);
+            invalidateSnapshot();
+            enter(text);
         } catch (Exception e) {
             Logger.error("Failed to enter text into input field", e);
             throw e;
@@ -130,7 +190,7 @@ public class Input extends BaseElement {
     public String getValue() {
         try {
             String value = getAttribute("value");
-            Logger.debug("Input field value: " + value);
+            Logger.debug("Input field value: {}", value);
             return value;
         } catch (Exception e) {
             Logger.error("Failed to get input field value", e);
@@ -145,10 +205,9 @@ public class Input extends BaseElement {
     public void enterTextAndSubmit(String text) {
         try {
             Logger.info("Entering text: '" + text + "' and pressing Enter");
-            WebElement element = getElement();
-            element.clear();
-            element.sendKeys(text);
-            element.sendKeys(Keys.ENTER);
+            invalidateSnapshot();
+            enter(text);
+            getElement().sendKeys(Keys.ENTER);
         } catch (Exception e) {
             Logger.error("Failed to enter text and submit", e);
             throw e;
@@ -163,7 +222,7 @@ public class Input extends BaseElement {
         try {
             String readOnly = getAttribute("readonly");
             boolean isReadOnly = readOnly != null;
-            Logger.debug("Input field is read-only: " + isReadOnly);
+            Logger.debug("Input field is read-only: {}", isReadOnly);
             return isReadOnly;
         } catch (Exception e) {
             Logger.error("Failed to check if input field is read-only", e);
@@ -195,6 +254,7 @@ public class Input extends BaseElement {
     public void setValueJS(String value) {
         try {
             Logger.info("Setting input field value to '" + value + "' using JavaScript");
+            invalidateSnapshot();
             waitForVisible();
             ((JavascriptExecutor) driver).executeScript("arguments[0].value=arguments[1]", getElement(), value);
         } catch (Exception e) {
@@ -211,11 +271,68 @@ public class Input extends BaseElement {
         try {
             String value = getValue();
             boolean isEmpty = value == null || value.isEmpty();
-            Logger.debug("Input field is empty: " + isEmpty);
+            Logger.debug("Input field is empty: {}", isEmpty);
             return isEmpty;
         } catch (Exception e) {
             Logger.error("Failed to check if input field is empty", e);
             throw e;
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Set how text is entered into this field
+     * @param entryStrategy Entry strategy
+     */
+    public void setEntryStrategy(EntryStrategy entryStrategy) {
+        this.entryStrategy = entryStrategy;
+    }
+    
+    /**
+     * Get how text is entered into this field
+     * @return Entry strategy
+     */
+    public EntryStrategy getEntryStrategy() {
+        return entryStrategy;
+    }
+    
+    /**
+     * Replace the field content with the text using the entry strategy.
+     * The fast strategies verify the resulting value once and fall back to keystrokes if it differs.
+     * @param text Text to enter
+     */
+    private void enter(String text) {
+        WebElement element = getElement();
+        EntryStrategy strategy = entryStrategy;
+        if (strategy == EntryStrategy.INSERT_TEXT && (!(driver instanceof HasCdp) || text.isEmpty())) {
+            Logger.debug("Input.insertText is not available for this entry, using keystrokes");
+            strategy = EntryStrategy.KEYSTROKES;
+        }
+        
+        String entered;
+        switch (strategy) {
+            case INSERT_TEXT:
+                ((JavascriptExecutor) driver).executeScript(FOCUS_FOR_INSERT, element, true);
+                ((HasCdp) driver).executeCdpCommand("Input.insertText", Collections.singletonMap("text", text));
+                entered = (String) ((JavascriptExecutor) driver).executeScript(READ_ENTERED_VALUE, element);
+                break;
+            case SCRIPT_VALUE:
+                entered = (String) ((JavascriptExecutor) driver).executeScript(SET_VALUE_WITH_EVENTS, element, text, true);
+                break;
+            default:
+                element.clear();
+                element.sendKeys(text);
+                return;
+        }
+        
+        if (!normalizeLineBreaks(text).equals(normalizeLineBreaks(entered))) {
+            Logger.warn(strategy + " entry produced a different value (" + (entered == null ? 0 : entered.length())
+                + " of " + text.length() + " characters), retyping with keystrokes");
+            element.clear();
+            element.sendKeys(text);
+        }
+    }
+    
+    private static String normalizeLineBreaks(String value) {
+        return value == null ? "" : value.replace("\r\n", "\n");
+    }
+}
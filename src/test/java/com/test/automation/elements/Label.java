@@ -17,7 +17,7 @@ public class Label extends BaseElement {
      */
     public Label(By locator) {
         super(locator);
-        Logger.debug("Created Label element with locator: " + locator);
+        Logger.debug("Created Label element with locator: {}", locator);
     }
     
     /**
@@ -39,7 +39,7 @@ public class Label extends BaseElement {
             Logger.debug("Getting text from label");
             waitForVisible();
             String text = super.getText();
-            Logger.debug("Label text: " + text);
+            Logger.debug("Label text: {}", text);
             return text;
         } catch (Exception e) {
             Logger.error("Failed to get text from label", e);
@@ -54,7 +54,7 @@ public class Label extends BaseElement {
      */
     public boolean textMatches(String expectedText) {
         try {
-            String actualText = getText();
+            String actualText = visibleSnapshot().getText();
             boolean matches = actualText.equals(expectedText);
             Logger.debug("Label text match check: '" + actualText + "' vs '" + 
                          expectedText + "' - " + matches);
@@ -72,7 +72,7 @@ public class Label extends BaseElement {
      */
     public boolean textContains(String expectedText) {
         try {
-            String actualText = getText();
+            String actualText = visibleSnapshot().getText();
             boolean contains = actualText.contains(expectedText);
             Logger.debug("Label text contains check: '" + actualText + "' contains '" + 
                          expectedText + "' - " + contains);
@@ -90,8 +90,8 @@ public class Label extends BaseElement {
     public String getForAttribute() {
         try {
             Logger.debug("Getting 'for' attribute from label");
-            String forAttr = getAttribute("for");
-            Logger.debug("Label 'for' attribute: " + forAttr);
+            String forAttr = snapshot("for").getAttribute("for");
+            Logger.debug("Label 'for' attribute: {}", forAttr);
             return forAttr;
         } catch (Exception e) {
             Logger.error("Failed to get 'for' attribute from label", e);
@@ -106,10 +106,10 @@ public class Label extends BaseElement {
      */
     public boolean isAssociatedWithElement(String elementId) {
         try {
-            Logger.debug("Checking if label is associated with element: " + elementId);
+            Logger.debug("Checking if label is associated with element: {}", elementId);
             String forAttr = getForAttribute();
             boolean isAssociated = forAttr != null && forAttr.equals(elementId);
-            Logger.debug("Label is associated with element " + elementId + ": " + isAssociated);
+            Logger.debug("Label is associated with element {}: {}", elementId, isAssociated);
             return isAssociated;
         } catch (Exception e) {
             Logger.error("Failed to check if label is associated with element: " + elementId, e);
@@ -131,7 +131,7 @@ public class Label extends BaseElement {
             }
             
             WebElement element = driver.findElement(By.id(forAttr));
-            Logger.debug("Found associated element with ID: " + forAttr);
+            Logger.debug("Found associated element with ID: {}", forAttr);
             return new BaseElement(element);
         } catch (Exception e) {
             Logger.error("Failed to get associated element for label", e);
@@ -0,0 +1,246 @@
+package com.test.automation.elements;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import com.test.automation.utils.Logger;
+
+/**
+ * Lightning combobox/picklist (role="combobox" trigger with a role="listbox" of role="option" items).
+ * Options are opened, located and clicked in a single script; searchable comboboxes fall back to typeahead
+ * to narrow the rendered options first. The option list is cached per picklist until the page or its route changes.
+ */
+public class LightningCombobox extends Dropdown {
+    private static final long OPTION_WAIT_MILLIS = 5000;
+
+    private List<String> optionLabels;
+    private List<String> optionValues;
+    private String optionsPageToken;
+
+    /**
+     * Constructor for LightningCombobox with locator
+     * @param locator By locator of the combobox host (e.g. lightning-combobox) or its trigger
+     */
+    public LightningCombobox(By locator) {
+        super(locator);
+        Logger.debug("Created LightningCombobox element with locator: {}", locator);
+    }
+
+    /**
+     * Constructor for LightningCombobox with WebElement
+     * @param element WebElement of the combobox host or its trigger
+     */
+    public LightningCombobox(WebElement element) {
+        super(element);
+        Logger.debug("Created LightningCombobox element from existing WebElement");
+    }
+
+    /**
+     * Select an option by its label
+     * @param label Label of the option to select
+     */
+    public void selectByLabel(String label) {
+        try {
+            Logger.info("Selecting option '" + label + "' in combobox");
+            select("label", label);
+            Logger.debug("Selected option '{}' successfully", label);
+        } catch (Exception e) {
+            Logger.error("Failed to select option '" + label + "' in combobox", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void selectByVisibleText(String visibleText) {
+        selectByLabel(visibleText);
+    }
+
+    @Override
+    public void selectByValue(String value) {
+        try {
+            Logger.info("Selecting option with value '" + value + "' in combobox");
+            select("value", value);
+            Logger.debug("Selected option with value '{}' successfully", value);
+        } catch (Exception e) {
+            Logger.error("Failed to select option with value '" + value + "' in combobox", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void selectByIndex(int index) {
+        try {
+            Logger.info("Selecting option at index " + index + " in combobox");
+            if (index < 0) {
+                throw new NoSuchElementException("Combobox has no option at index " + index);
+            }
+            // By position, as option values need not be unique
+            select("index", index);
+            Logger.debug("Selected option at index {} successfully", index);
+        } catch (Exception e) {
+            Logger.error("Failed to select option at index " + index + " in combobox", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void selectCustomDropdownOption(String optionText) {
+        selectByLabel(optionText);
+    }
+
+    /**
+     * Get all option labels (cached until the page or its route changes)
+     * @return List of option labels
+     */
+    @Override
+    public List<String> getOptions() {
+        try {
+            Logger.debug("Getting all options from combobox");
+            loadOptions();
+            return optionLabels;
+        } catch (Exception e) {
+            Logger.error("Failed to get options from combobox", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Get all option values (cached until the page or its route changes)
+     * @return List of option values
+     */
+    @Override
+    public List<String> getOptionValues() {
+        try {
+            Logger.debug("Getting all option values from combobox");
+            loadOptions();
+            return optionValues;
+        } catch (Exception e) {
+            Logger.error("Failed to get option values from combobox", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getOptionCount() {
+        int count = getOptions().size();
+        Logger.debug("Combobox has {} options", count);
+        return count;
+    }
+
+    @Override
+    public String getSelectedOption() {
+        try {
+            Logger.debug("Getting selected option from combobox");
+            return readSelection().get("label");
+        } catch (Exception e) {
+            Logger.error("Failed to get selected option from combobox", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getSelectedValue() {
+        try {
+            Logger.debug("Getting selected value from combobox");
+            return readSelection().get("value");
+        } catch (Exception e) {
+            Logger.error("Failed to get selected value from combobox", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isMultiple() {
+        return false;
+    }
+
+    @Override
+    public void deselectAll() {
+        Logger.warn("Cannot deselect all options in combobox as it is not a multi-select dropdown");
+    }
+
+    /**
+     * Drop the cached option list so the next read re-opens the listbox
+     */
+    public void invalidateOptions() {
+        optionLabels = null;
+        optionValues = null;
+        optionsPageToken = null;
+    }
+
+    /**
+     * Select an option in one script; if it is not rendered and the trigger accepts text, type its label
+     * to narrow the listbox and try again
+     * @param by "label", "value" or "index"
+     * @param wanted Label, value or zero-based index to select
+     */
+    @SuppressWarnings("unchecked")
+    private void select(String by, Object wanted) {
+        invalidateSnapshot();
+        waitForVisible();
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(
+            ComboboxScripts.SELECT_OPTION, getElement(), by, wanted, OPTION_WAIT_MILLIS, false);
+        // Typing filters the options and shifts their positions, so indexes are not narrowed by typeahead
+        String typeaheadText = "label".equals(by) ? (String) wanted
+            : "value".equals(by) ? cachedLabelForValue((String) wanted) : null;
+        if (!Boolean.TRUE.equals(result.get("selected")) && Boolean.TRUE.equals(result.get("typeahead"))
+                && typeaheadText != null) {
+            Logger.debug("Option '{}' not rendered among {} options, using typeahead", wanted, result.get("options"));
+            WebElement trigger = "combobox".equals(getElement().getAttribute("role"))
+                ? getElement() : getElement().findElement(By.cssSelector("[role='combobox']"));
+            trigger.clear();
+            trigger.sendKeys(typeaheadText);
+            result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(
+                ComboboxScripts.SELECT_OPTION, getElement(), by, wanted, OPTION_WAIT_MILLIS, true);
+        }
+        if (!Boolean.TRUE.equals(result.get("selected"))) {
+            throw new NoSuchElementException("Combobox option with " + by + " '" + wanted + "' not found among "
+                + result.get("options") + " rendered options");
+        }
+    }
+
+    private String cachedLabelForValue(String value) {
+        int index = optionValues != null ? optionValues.indexOf(value) : -1;
+        return index >= 0 ? optionLabels.get(index) : null;
+    }
+
+    /**
+     * Read the option list once per page and route; later calls only check that the page is still the same
+     */
+    @SuppressWarnings("unchecked")
+    private void loadOptions() {
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        if (optionLabels != null && optionsPageToken != null
+                && optionsPageToken.equals(executor.executeScript(ComboboxScripts.PAGE_TOKEN))) {
+            return;
+        }
+        waitForVisible();
+        Map<String, Object> result = (Map<String, Object>) executor.executeAsyncScript(
+            ComboboxScripts.READ_OPTIONS, getElement(), OPTION_WAIT_MILLIS);
+        List<String> labels = new ArrayList<>();
+        for (Object label : (List<Object>) result.get("labels")) {
+            labels.add((String) label);
+        }
+        List<String> values = new ArrayList<>();
+        for (Object value : (List<Object>) result.get("values")) {
+            values.add((String) value);
+        }
+        optionLabels = Collections.unmodifiableList(labels);
+        optionValues = Collections.unmodifiableList(values);
+        optionsPageToken = (String) result.get("page");
+        Logger.debug("Cached {} combobox options", labels.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> readSelection() {
+        waitForVisible();
+        return (Map<String, String>) ((JavascriptExecutor) driver).executeScript(ComboboxScripts.READ_SELECTION, getElement());
+    }
+}
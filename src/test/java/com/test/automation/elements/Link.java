@@ -4,6 +4,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
 import com.test.automation.base.BaseElement;
+import com.test.automation.base.ElementSnapshot;
 import com.test.automation.utils.Logger;
 
 /**
@@ -17,7 +18,7 @@ public class Link extends BaseElement {
      */
     public Link(By locator) {
         super(locator);
-        Logger.debug("Created Link element with locator: " + locator);
+        Logger.debug("Created Link element with locator: {}", locator);
     }
     
     /**
@@ -66,8 +67,8 @@ public class Link extends BaseElement {
      */
     public String getHref() {
         try {
-            String href = getAttribute("href");
-            Logger.debug("Link href: " + href);
+            String href = snapshot("href").getAttribute("href");
+            Logger.debug("Link href: {}", href);
             return href;
         } catch (Exception e) {
             Logger.error("Failed to get link href", e);
@@ -83,7 +84,7 @@ public class Link extends BaseElement {
     public String getText() {
         try {
             String text = super.getText();
-            Logger.debug("Link text: " + text);
+            Logger.debug("Link text: {}", text);
             return text;
         } catch (Exception e) {
             Logger.error("Failed to get link text", e);
@@ -96,19 +97,27 @@ public class Link extends BaseElement {
      * @return target attribute value
      */
     public String getTarget() {
-        String target = getElement().getAttribute("target");
-        Logger.debug("Link target: " + target);
+        String target = snapshot("target").getAttribute("target");
+        Logger.debug("Link target: {}", target);
         return target;
     }
     
+    /**
+     * Capture href, target and text of the link in a single script call
+     * @return ElementSnapshot with the "href" and "target" attributes
+     */
+    public ElementSnapshot linkSnapshot() {
+        return snapshot("href", "target");
+    }
+    
     /**
      * Check if the link opens in a new tab/window
      * @return true if the link opens in a new tab/window
      */
     public boolean opensInNewTab() {
-        String target = getTarget();
+        String target = linkSnapshot().getAttribute("target");
         boolean opensInNewTab = "_blank".equals(target);
-        Logger.debug("Link opens in new tab: " + opensInNewTab);
+        Logger.debug("Link opens in new tab: {}", opensInNewTab);
         return opensInNewTab;
     }
     
@@ -118,9 +127,9 @@ public class Link extends BaseElement {
      */
     public boolean isValid() {
         try {
-            String href = getHref();
+            String href = linkSnapshot().getAttribute("href");
             boolean isValid = href != null && !href.trim().isEmpty() && !href.equals("#");
-            Logger.debug("Link is valid: " + isValid);
+            Logger.debug("Link is valid: {}", isValid);
             return isValid;
         } catch (Exception e) {
             Logger.error("Failed to check if link is valid", e);
@@ -134,10 +143,10 @@ public class Link extends BaseElement {
      */
     public boolean isExternalLink() {
         try {
-            String href = getHref();
+            String href = linkSnapshot().getAttribute("href");
             boolean isExternal = href != null && 
                 (href.startsWith("http://") || href.startsWith("https://"));
-            Logger.debug("Link is external: " + isExternal);
+            Logger.debug("Link is external: {}", isExternal);
             return isExternal;
         } catch (Exception e) {
             Logger.error("Failed to check if link is external", e);
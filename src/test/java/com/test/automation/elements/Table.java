@@ -1,23 +1,59 @@
 package com.test.automation.elements;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 
 import com.test.automation.base.BaseElement;
+import com.test.automation.base.ElementScripts;
+import com.test.automation.utils.ConfigReader;
 import com.test.automation.utils.Logger;
 
 /**
  * Table element class that extends BaseElement with table-specific functionality
  */
 public class Table extends BaseElement {
+    private static final int DEFAULT_EXTRACTION_CHUNK_ROWS = 2000;
+    private static final int DEFAULT_STREAM_BATCH_ROWS = 200;
+    private static final long STREAM_CALL_BUDGET_MILLIS = 10000;
+    
     private By rowLocator;
     private By columnHeaderLocator;
     private By cellLocator;
+    private ExtractionMode extractionMode = ExtractionMode.SCRIPT;
+    private int extractionChunkRows = DEFAULT_EXTRACTION_CHUNK_ROWS;
+    private int streamBatchRows = DEFAULT_STREAM_BATCH_ROWS;
+    private long streamIdleMillis = ConfigReader.get().getTableStreamIdleMillis();
+    private TableIndex index;
+    
+    /**
+     * How table contents are read
+     * SCRIPT serializes rows in injected scripts (one call per chunk of rows),
+     * WEBDRIVER reads every row and cell through individual driver calls
+     */
+    public enum ExtractionMode {
+        SCRIPT,
+        WEBDRIVER
+    }
     
     /**
      * Constructor for Table with locator
@@ -29,7 +65,7 @@ public class Table extends BaseElement {
         this.rowLocator = By.tagName("tr");
         this.columnHeaderLocator = By.tagName("th");
         this.cellLocator = By.tagName("td");
-        Logger.debug("Created Table element with locator: " + locator);
+        Logger.debug("Created Table element with locator: {}", locator);
     }
     
     /**
@@ -55,9 +91,445 @@ public class Table extends BaseElement {
         this.rowLocator = rowLocator;
         this.columnHeaderLocator = headerLocator;
         this.cellLocator = cellLocator;
+        if (index != null) {
+            index.invalidate();
+        }
         Logger.debug("Set custom locators for table");
     }
     
+    /**
+     * Answer repeated {@link #findRowByColumnText(String, int)} lookups from an in-memory index built from one
+     * bulk extraction; the index rebuilds itself only after the table contents change
+     * @return The table index, exposing build cost and lookup statistics
+     */
+    public TableIndex enableIndex() {
+        if (index == null) {
+            index = new TableIndex((JavascriptExecutor) driver, this::getElement, Function.identity(), () -> {
+                TableData data = extract(null, Collections.emptyList());
+                Logger.debug("Indexed {} table rows", data.getRowCount());
+                return column -> {
+                    List<String> values = data.getColumn(Integer.parseInt(column));
+                    // Skip the header row
+                    if (!values.isEmpty()) {
+                        values.set(0, null);
+                    }
+                    return values;
+                };
+            });
+        }
+        return index;
+    }
+    
+    /**
+     * Stop using the table index and log its statistics
+     */
+    public void disableIndex() {
+        if (index != null) {
+            Logger.debug("Disabled table index: {}", index);
+            index = null;
+        }
+    }
+    
+    /**
+     * Set how table contents are read
+     * @param extractionMode Extraction mode
+     */
+    public void setExtractionMode(ExtractionMode extractionMode) {
+        this.extractionMode = extractionMode;
+    }
+    
+    /**
+     * Set how many rows are serialized per script call when extracting
+     * @param extractionChunkRows Rows per chunk
+     */
+    public void setExtractionChunkRows(int extractionChunkRows) {
+        if (extractionChunkRows < 1) {
+            throw new IllegalArgumentException("Extraction chunk size must be positive: " + extractionChunkRows);
+        }
+        this.extractionChunkRows = extractionChunkRows;
+    }
+    
+    /**
+     * Set how many rows the streaming row source keeps buffered (rows harvested per script call)
+     * @param streamBatchRows Rows per batch
+     */
+    public void setStreamBatchRows(int streamBatchRows) {
+        if (streamBatchRows < 1) {
+            throw new IllegalArgumentException("Stream batch size must be positive: " + streamBatchRows);
+        }
+        this.streamBatchRows = streamBatchRows;
+    }
+    
+    /**
+     * Set how long the streaming row source waits at the bottom of the table for more rows to load
+     * @param streamIdleMillis Idle time in milliseconds
+     */
+    public void setStreamIdleMillis(long streamIdleMillis) {
+        this.streamIdleMillis = streamIdleMillis;
+    }
+    
+    /**
+     * Stream the data rows of a virtualized or infinite-scroll table.
+     * Rows are harvested lazily while the table's scroll container is scrolled, de-duplicated by key and
+     * buffered one batch at a time, so short-circuiting operations (findFirst, anyMatch, limit) stop scrolling early.
+     * Rows without cells (header rows) are skipped. Every stream starts from the top of the table. The page keeps
+     * the keys seen so far until the last row is read or the stream is closed, so close streams that stop early.
+     * @param keyAttribute Row attribute holding a stable row key (e.g. "data-row-key-value"), null to key rows by content
+     * @return Lazy stream of rows in harvest order
+     */
+    public Stream<TableRow> streamRows(String keyAttribute) {
+        HarvestIterator rows = (HarvestIterator) rowIterator(keyAttribute);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows,
+            Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false).onClose(rows::release);
+    }
+    
+    /**
+     * Iterate the data rows of a virtualized or infinite-scroll table (see {@link #streamRows(String)})
+     * @param keyAttribute Row attribute holding a stable row key, null to key rows by content
+     * @return Lazy row iterator
+     */
+    public Iterator<TableRow> rowIterator(String keyAttribute) {
+        if (ElementScripts.locatorArgument(rowLocator) == null || ElementScripts.locatorArgument(cellLocator) == null) {
+            throw new IllegalStateException("Streaming rows requires row and cell locators that can be evaluated in the page");
+        }
+        waitForVisible();
+        Logger.debug("Streaming table rows keyed by {}", keyAttribute != null ? keyAttribute : "row content");
+        return new HarvestIterator(keyAttribute);
+    }
+    
+    /**
+     * Find the first streamed row matching a predicate, scrolling only as far as needed
+     * @param keyAttribute Row attribute holding a stable row key, null to key rows by content
+     * @param predicate Row condition
+     * @return Matching row, empty if none of the rows match
+     */
+    public Optional<TableRow> findStreamedRow(String keyAttribute, Predicate<TableRow> predicate) {
+        try (Stream<TableRow> rows = streamRows(keyAttribute)) {
+            Optional<TableRow> row = rows.filter(predicate).findFirst();
+            Logger.debug(() -> row.isPresent() ? "Found streamed row " + row.get().getKey() : "No streamed row matched");
+            return row;
+        } catch (Exception e) {
+            Logger.error("Failed to search streamed table rows", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Count all data rows of a virtualized or infinite-scroll table without keeping them in memory
+     * @param keyAttribute Row attribute holding a stable row key, null to key rows by content
+     * @return Number of distinct rows
+     */
+    public long countStreamedRows(String keyAttribute) {
+        try (Stream<TableRow> rows = streamRows(keyAttribute)) {
+            long count = rows.count();
+            Logger.debug("Table has {} streamed rows", count);
+            return count;
+        } catch (Exception e) {
+            Logger.error("Failed to count streamed table rows", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Pulls batches of newly rendered rows from {@link TableScripts#HARVEST_ROWS}; the page's seen keys are
+     * dropped after the last batch
+     */
+    private final class HarvestIterator implements Iterator<TableRow> {
+        private final String keyAttribute;
+        private final Deque<TableRow> buffer = new ArrayDeque<>();
+        private boolean reset = true;
+        private boolean done;
+        private int nextIndex;
+        
+        private HarvestIterator(String keyAttribute) {
+            this.keyAttribute = keyAttribute;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (buffer.isEmpty() && !done) {
+                fetch();
+            }
+            return !buffer.isEmpty();
+        }
+        
+        @Override
+        public TableRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more table rows");
+            }
+            return buffer.poll();
+        }
+        
+        @SuppressWarnings("unchecked")
+        private void fetch() {
+            Map<String, Object> batch = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(
+                TableScripts.HARVEST_ROWS, getElement(),
+                ElementScripts.locatorArgument(rowLocator),
+                ElementScripts.locatorArgument(cellLocator),
+                keyAttribute, streamBatchRows, streamIdleMillis, STREAM_CALL_BUDGET_MILLIS, reset);
+            reset = false;
+            done = Boolean.TRUE.equals(batch.get("done"));
+            if (done) {
+                release();
+            }
+            for (Object item : (List<Object>) batch.get("rows")) {
+                Map<String, Object> row = (Map<String, Object>) item;
+                List<String> cells = new ArrayList<>();
+                for (Object cell : (List<Object>) row.get("cells")) {
+                    cells.add((String) cell);
+                }
+                buffer.add(new TableRow((String) row.get("key"), nextIndex++, cells));
+            }
+        }
+        
+        /**
+         * Drop the seen keys kept on the table; a later fetch starts over
+         */
+        private void release() {
+            if (reset) {
+                return;
+            }
+            reset = true;
+            try {
+                ((JavascriptExecutor) driver).executeScript(TableScripts.RELEASE_HARVEST, getElement());
+            } catch (RuntimeException e) {
+                Logger.debug("Failed to release streamed table rows: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Take a cheap snapshot of the data rows: a content hash per row computed in the page
+     * @param keyAttribute Row attribute holding a stable row key (e.g. "data-row-key-value"), null to key rows by position
+     * @return Table snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public TableSnapshot snapshotRows(String keyAttribute) {
+        try {
+            waitForVisible();
+            Map<String, Object> result = (Map<String, Object>) hashRows(keyAttribute, null);
+            Map<String, Long> hashes = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) result.get("hashes")).entrySet()) {
+                hashes.put(entry.getKey(), ((Number) entry.getValue()).longValue());
+            }
+            TableSnapshot snapshot = new TableSnapshot(keyAttribute, hashes);
+            Logger.debug("Took table snapshot of {} rows", snapshot.getRowCount());
+            return snapshot;
+        } catch (Exception e) {
+            Logger.error("Failed to take table snapshot", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Compare the table with an earlier snapshot; only the hashes go to the page and only differing rows come back
+     * @param previous Snapshot taken earlier (possibly on another instance for the same table)
+     * @return Rows added, changed and removed since the snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public TableDiff diffRows(TableSnapshot previous) {
+        try {
+            waitForVisible();
+            Map<String, Object> result = (Map<String, Object>) hashRows(previous.getKeyAttribute(), previous.getHashes());
+            Map<String, Long> updatedHashes = new LinkedHashMap<>();
+            List<TableRow> added = toDiffRows((List<Object>) result.get("added"), updatedHashes);
+            List<TableRow> changed = toDiffRows((List<Object>) result.get("changed"), updatedHashes);
+            List<String> removed = new ArrayList<>();
+            for (Object key : (List<Object>) result.get("removed")) {
+                removed.add((String) key);
+            }
+            TableDiff diff = new TableDiff(previous, added, changed, removed, updatedHashes);
+            Logger.debug("Table diff against {}: {}", previous, diff);
+            return diff;
+        } catch (Exception e) {
+            Logger.error("Failed to diff table against snapshot", e);
+            throw e;
+        }
+    }
+    
+    private Object hashRows(String keyAttribute, Map<String, Long> previousHashes) {
+        if (ElementScripts.locatorArgument(rowLocator) == null || ElementScripts.locatorArgument(cellLocator) == null) {
+            throw new IllegalStateException("Table snapshots require row and cell locators that can be evaluated in the page");
+        }
+        return ((JavascriptExecutor) driver).executeScript(TableScripts.HASH_ROWS, getElement(),
+            ElementScripts.locatorArgument(rowLocator), ElementScripts.locatorArgument(cellLocator),
+            keyAttribute, previousHashes);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static List<TableRow> toDiffRows(List<Object> items, Map<String, Long> hashes) {
+        List<TableRow> rows = new ArrayList<>();
+        for (Object item : items) {
+            Map<String, Object> row = (Map<String, Object>) item;
+            List<String> cells = new ArrayList<>();
+            for (Object cell : (List<Object>) row.get("cells")) {
+                cells.add((String) cell);
+            }
+            String key = (String) row.get("key");
+            rows.add(new TableRow(key, ((Number) row.get("index")).intValue(), cells));
+            hashes.put(key, ((Number) row.get("hash")).longValue());
+        }
+        return rows;
+    }
+    
+    /**
+     * Extract the whole table (headers, colspans, cells and optional row attributes) in script calls,
+     * streaming large tables back in chunks; in WEBDRIVER mode, or with locators that cannot be evaluated in the
+     * page, the table is read through individual driver calls instead
+     * @param rowAttributes Row attributes to extract alongside the cells (e.g. "data-row-key-value")
+     * @return TableData with every row found by the row locator
+     */
+    public TableData extract(String... rowAttributes) {
+        try {
+            waitForVisible();
+            long start = System.currentTimeMillis();
+            TableData data = isScriptExtraction() ? extract(null, Arrays.asList(rowAttributes))
+                : extractByWebDriver(Arrays.asList(rowAttributes));
+            Logger.debug("Extracted {} rows in {} ms", data.getRowCount(), System.currentTimeMillis() - start);
+            return data;
+        } catch (Exception e) {
+            Logger.error("Failed to extract table", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Check if the table can be read with scripts using the current mode and locators
+     * @return true if script extraction applies
+     */
+    protected boolean isScriptExtraction() {
+        return extractionMode == ExtractionMode.SCRIPT
+            && ElementScripts.locatorArgument(rowLocator) != null
+            && ElementScripts.locatorArgument(cellLocator) != null
+            && ElementScripts.locatorArgument(columnHeaderLocator) != null;
+    }
+    
+    /**
+     * Extract the given columns chunk by chunk into a TableData
+     * @param columns Zero-based column indexes to read, null for all columns
+     * @param rowAttributes Row attributes to read
+     * @return Extracted table data
+     */
+    TableData extract(List<Integer> columns, List<String> rowAttributes) {
+        TableData.Collector[] collector = new TableData.Collector[1];
+        visitChunks(0, extractionChunkRows, columns, rowAttributes, (chunk, firstRow, total) -> {
+            if (collector[0] == null) {
+                collector[0] = new TableData.Collector(total, rowAttributes);
+            }
+            collectChunk(collector[0], chunk, firstRow);
+            return true;
+        });
+        return collector[0] != null ? collector[0].build() : new TableData.Collector(0, rowAttributes).build();
+    }
+    
+    private TableData extractByWebDriver(List<String> rowAttributes) {
+        List<WebElement> rows = getElement().findElements(rowLocator);
+        TableData.Collector collector = new TableData.Collector(rows.size(), rowAttributes);
+        if (!rows.isEmpty()) {
+            List<WebElement> headers = rows.get(0).findElements(columnHeaderLocator);
+            List<String> headerTexts = new ArrayList<>();
+            int[] headerSpans = new int[headers.size()];
+            for (int i = 0; i < headers.size(); i++) {
+                headerTexts.add(headers.get(i).getText().trim());
+                String colspan = headers.get(i).getAttribute("colspan");
+                headerSpans[i] = colspan != null && colspan.matches("\\d+") ? Integer.parseInt(colspan) : 1;
+            }
+            collector.setHeaders(headerTexts, headerSpans);
+        }
+        for (int r = 0; r < rows.size(); r++) {
+            List<WebElement> cells = rows.get(r).findElements(cellLocator);
+            collector.setCellCount(r, cells.size());
+            for (int c = 0; c < cells.size(); c++) {
+                collector.setCell(r, c, cells.get(c).getText().trim());
+            }
+            for (String attribute : rowAttributes) {
+                collector.setRowAttribute(r, attribute, rows.get(r).getAttribute(attribute));
+            }
+        }
+        return collector.build();
+    }
+    
+    /**
+     * Receives extraction chunks; returning false stops the extraction early
+     */
+    interface ChunkVisitor {
+        boolean visit(Map<String, Object> chunk, int firstRow, int totalRows);
+    }
+    
+    /**
+     * Run the extraction script chunk by chunk starting at a row
+     * @param firstRow Zero-based row to start at
+     * @param chunkRows Rows per script call
+     * @param columns Column indexes to read, null for all
+     * @param rowAttributes Row attributes to read
+     * @param visitor Chunk visitor
+     */
+    @SuppressWarnings("unchecked")
+    void visitChunks(int firstRow, int chunkRows, List<Integer> columns, List<String> rowAttributes,
+                     ChunkVisitor visitor) {
+        int start = firstRow;
+        int total = 0;
+        boolean fresh = true;
+        try {
+            do {
+                Map<String, Object> chunk = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(
+                    TableScripts.EXTRACT_CHUNK, getElement(),
+                    ElementScripts.locatorArgument(rowLocator),
+                    ElementScripts.locatorArgument(cellLocator),
+                    ElementScripts.locatorArgument(columnHeaderLocator),
+                    start, chunkRows, columns, rowAttributes, fresh, true);
+                total = ((Number) chunk.get("total")).intValue();
+                if (!visitor.visit(chunk, start, total)) {
+                    return;
+                }
+                start += chunkRows;
+                fresh = false;
+            } while (start < total);
+        } finally {
+            // The script drops its kept rows after the last chunk; stopping earlier leaves them on the table
+            if (start + chunkRows < total) {
+                try {
+                    ((JavascriptExecutor) driver).executeScript(TableScripts.RELEASE_ROWS, getElement());
+                } catch (RuntimeException e) {
+                    Logger.debug("Failed to release extracted table rows: {}", e.getMessage());
+                }
+            }
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static void collectChunk(TableData.Collector collector, Map<String, Object> chunk, int firstRow) {
+        List<Object> headers = (List<Object>) chunk.get("headers");
+        if (headers != null) {
+            List<Object> spans = (List<Object>) chunk.get("spans");
+            List<String> headerTexts = new ArrayList<>();
+            int[] headerSpans = new int[spans.size()];
+            for (int i = 0; i < headers.size(); i++) {
+                headerTexts.add((String) headers.get(i));
+                headerSpans[i] = ((Number) spans.get(i)).intValue();
+            }
+            collector.setHeaders(headerTexts, headerSpans);
+        }
+        List<Object> widths = (List<Object>) chunk.get("widths");
+        for (int i = 0; i < widths.size(); i++) {
+            collector.setCellCount(firstRow + i, ((Number) widths.get(i)).intValue());
+        }
+        for (Map.Entry<String, Object> column : ((Map<String, Object>) chunk.get("cols")).entrySet()) {
+            int colIndex = Integer.parseInt(column.getKey());
+            List<Object> values = (List<Object>) column.getValue();
+            for (int i = 0; i < values.size(); i++) {
+                collector.setCell(firstRow + i, colIndex, (String) values.get(i));
+            }
+        }
+        for (Map.Entry<String, Object> attribute : ((Map<String, Object>) chunk.get("attrs")).entrySet()) {
+            List<Object> values = (List<Object>) attribute.getValue();
+            for (int i = 0; i < values.size(); i++) {
+                collector.setRowAttribute(firstRow + i, attribute.getKey(), (String) values.get(i));
+            }
+        }
+    }
+    
     /**
      * Get the number of rows in the table
      * @return Row count
@@ -67,7 +539,7 @@ public class Table extends BaseElement {
             waitForVisible();
             List<WebElement> rows = getElement().findElements(rowLocator);
             int rowCount = rows.size();
-            Logger.debug("Table has " + rowCount + " rows");
+            Logger.debug("Table has {} rows", rowCount);
             return rowCount;
         } catch (Exception e) {
             Logger.error("Failed to get row count from table", e);
@@ -92,13 +564,13 @@ public class Table extends BaseElement {
             // Try to get column count from headers first
             List<WebElement> headers = rows.get(0).findElements(columnHeaderLocator);
             if (!headers.isEmpty()) {
-                Logger.debug("Table has " + headers.size() + " columns (from headers)");
+                Logger.debug("Table has {} columns (from headers)", headers.size());
                 return headers.size();
             }
             
             // If no headers, get column count from first data row
             List<WebElement> cells = rows.get(0).findElements(cellLocator);
-            Logger.debug("Table has " + cells.size() + " columns (from cells)");
+            Logger.debug("Table has {} columns (from cells)", cells.size());
             return cells.size();
         } catch (Exception e) {
             Logger.error("Failed to get column count from table", e);
@@ -113,19 +585,16 @@ public class Table extends BaseElement {
     public List<String> getColumnHeaders() {
         try {
             waitForVisible();
-            List<WebElement> rows = getElement().findElements(rowLocator);
             List<String> headerTexts = new ArrayList<>();
             
-            if (rows.isEmpty()) {
-                Logger.debug("Table has no rows");
-                return headerTexts;
+            // Headers of the first row, read in one script call
+            for (List<String> header : bulkRead(rowLocator, columnHeaderLocator, Collections.singletonList("text"))) {
+                headerTexts.add(header.get(0).trim());
             }
             
-            List<WebElement> headers = rows.get(0).findElements(columnHeaderLocator);
-            for (WebElement header : headers) {
-                headerTexts.add(header.getText().trim());
+            if (headerTexts.isEmpty()) {
+                Logger.debug("Table has no header cells");
             }
-            
             return headerTexts;
         } catch (Exception e) {
             Logger.error("Failed to get column headers from table", e);
@@ -142,6 +611,9 @@ public class Table extends BaseElement {
     public String getCellData(int rowIndex, int colIndex) {
         try {
             waitForVisible();
+            if (isScriptExtraction()) {
+                return getCellDataByScript(rowIndex, colIndex);
+            }
             List<WebElement> rows = getElement().findElements(rowLocator);
             
             if (rowIndex >= rows.size()) {
@@ -156,7 +628,7 @@ public class Table extends BaseElement {
             }
             
             String cellText = cells.get(colIndex).getText().trim();
-            Logger.debug("Cell data at [" + rowIndex + ", " + colIndex + "]: " + cellText);
+            Logger.debug("Cell data at [{}, {}]: {}", rowIndex, colIndex, cellText);
             return cellText;
         } catch (Exception e) {
             Logger.error("Failed to get cell data from table at [" + rowIndex + ", " + colIndex + "]", e);
@@ -164,6 +636,31 @@ public class Table extends BaseElement {
         }
     }
     
+    @SuppressWarnings("unchecked")
+    private String getCellDataByScript(int rowIndex, int colIndex) {
+        String[] cellText = new String[1];
+        int[] counts = new int[2];
+        visitChunks(rowIndex, 1, Collections.singletonList(colIndex), Collections.emptyList(), (chunk, firstRow, total) -> {
+            counts[0] = total;
+            List<Object> widths = (List<Object>) chunk.get("widths");
+            if (!widths.isEmpty()) {
+                counts[1] = ((Number) widths.get(0)).intValue();
+                List<Object> column = (List<Object>) ((Map<String, Object>) chunk.get("cols")).get(String.valueOf(colIndex));
+                cellText[0] = column != null ? (String) column.get(0) : null;
+            }
+            return false;
+        });
+        
+        if (rowIndex >= counts[0]) {
+            throw new IndexOutOfBoundsException("Row index " + rowIndex + " is out of bounds. Table has " + counts[0] + " rows.");
+        }
+        if (colIndex >= counts[1]) {
+            throw new IndexOutOfBoundsException("Column index " + colIndex + " is out of bounds. Row has " + counts[1] + " cells.");
+        }
+        Logger.debug("Cell data at [{}, {}]: {}", rowIndex, colIndex, cellText[0]);
+        return cellText[0];
+    }
+    
     /**
      * Get all table data as a list of maps
      * @return List of maps where each map represents a row with column header as key
@@ -171,6 +668,9 @@ public class Table extends BaseElement {
     public List<Map<String, String>> getTableData() {
         try {
             waitForVisible();
+            if (isScriptExtraction()) {
+                return extract(null, Collections.emptyList()).toRowMaps();
+            }
             List<Map<String, String>> tableData = new ArrayList<>();
             List<String> headers = getColumnHeaders();
             List<WebElement> rows = getElement().findElements(rowLocator);
@@ -204,6 +704,14 @@ public class Table extends BaseElement {
     public int findRowByColumnText(String text, int columnIndex) {
         try {
             waitForVisible();
+            if (index != null && isScriptExtraction()) {
+                int row = index.indexOf(String.valueOf(columnIndex), text);
+                Logger.debug("Index lookup of '{}' in column {}: row {}", text, columnIndex, row);
+                return row;
+            }
+            if (isScriptExtraction()) {
+                return findRowByColumnTextByScript(text, columnIndex);
+            }
             List<WebElement> rows = getElement().findElements(rowLocator);
             
             // Skip the header row
@@ -212,16 +720,42 @@ public class Table extends BaseElement {
                 List<WebElement> cells = row.findElements(cellLocator);
                 
                 if (columnIndex < cells.size() && cells.get(columnIndex).getText().trim().equals(text)) {
-                    Logger.debug("Found text '" + text + "' in column " + columnIndex + " at row " + i);
+                    Logger.debug("Found text '{}' in column {} at row {}", text, columnIndex, i);
                     return i;
                 }
             }
             
-            Logger.debug("Text '" + text + "' not found in column " + columnIndex);
+            Logger.debug("Text '{}' not found in column {}", text, columnIndex);
             return -1;
         } catch (Exception e) {
             Logger.error("Failed to find row by column text in table", e);
             throw e;
         }
     }
-} 
\ No newline at end of file
+    
+    @SuppressWarnings("unchecked")
+    private int findRowByColumnTextByScript(String text, int columnIndex) {
+        int[] found = {-1};
+        // Chunks are scanned as they arrive so the extraction stops at the first match
+        visitChunks(0, extractionChunkRows, Collections.singletonList(columnIndex), Collections.emptyList(), (chunk, firstRow, total) -> {
+            List<Object> column = (List<Object>) ((Map<String, Object>) chunk.get("cols")).get(String.valueOf(columnIndex));
+            if (column != null) {
+                // Skip the header row
+                for (int i = Math.max(0, 1 - firstRow); i < column.size(); i++) {
+                    if (text.equals(column.get(i))) {
+                        found[0] = firstRow + i;
+                        return false;
+                    }
+                }
+            }
+            return true;
+        });
+        
+        if (found[0] >= 0) {
+            Logger.debug("Found text '{}' in column {} at row {}", text, columnIndex, found[0]);
+        } else {
+            Logger.debug("Text '{}' not found in column {}", text, columnIndex);
+        }
+        return found[0];
+    }
+}
@@ -0,0 +1,180 @@
+package com.test.automation.elements;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable columnar copy of a table extracted by {@link Table#extract(String...)}
+ * Row indexes match the rows found by the table's row locator, so row 0 is usually the header row
+ */
+public final class TableData {
+    private final List<String> headers;
+    private final int[] headerSpans;
+    private final String[][] columns;
+    private final int[] cellCounts;
+    private final Map<String, String[]> rowAttributes;
+    private final int rowCount;
+
+    private TableData(List<String> headers, int[] headerSpans, String[][] columns, int[] cellCounts,
+                      Map<String, String[]> rowAttributes, int rowCount) {
+        this.headers = Collections.unmodifiableList(headers);
+        this.headerSpans = headerSpans;
+        this.columns = columns;
+        this.cellCounts = cellCounts;
+        this.rowAttributes = Collections.unmodifiableMap(rowAttributes);
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Get the header texts of the first row
+     * @return Header texts
+     */
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the colspan of a header cell
+     * @param headerIndex Zero-based header index
+     * @return Colspan, 1 when not set
+     */
+    public int getHeaderSpan(int headerIndex) {
+        return headerSpans[headerIndex];
+    }
+
+    /**
+     * Get the number of rows (including the header row)
+     * @return Row count
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Get the number of columns that hold extracted cells
+     * @return Column count
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Get the number of cells in a row
+     * @param rowIndex Zero-based row index
+     * @return Cell count
+     */
+    public int getCellCount(int rowIndex) {
+        return cellCounts[rowIndex];
+    }
+
+    /**
+     * Get the text of a cell
+     * @param rowIndex Zero-based row index
+     * @param colIndex Zero-based column index
+     * @return Cell text, null if the row has no such cell or the column was not extracted
+     */
+    public String getCell(int rowIndex, int colIndex) {
+        if (colIndex >= columns.length || columns[colIndex] == null) {
+            return null;
+        }
+        return columns[colIndex][rowIndex];
+    }
+
+    /**
+     * Get all values of a column
+     * @param colIndex Zero-based column index
+     * @return Column values, one per row (null where a row has no such cell)
+     */
+    public List<String> getColumn(int colIndex) {
+        List<String> values = new ArrayList<>(rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            values.add(getCell(r, colIndex));
+        }
+        return values;
+    }
+
+    /**
+     * Get an extracted row attribute
+     * @param rowIndex Zero-based row index
+     * @param attribute Attribute name passed to the extraction
+     * @return Attribute value, null if absent
+     */
+    public String getRowAttribute(int rowIndex, String attribute) {
+        String[] values = rowAttributes.get(attribute);
+        if (values == null) {
+            throw new IllegalArgumentException("Row attribute '" + attribute + "' was not extracted");
+        }
+        return values[rowIndex];
+    }
+
+    /**
+     * Convert the data rows (all rows after the header row) to header-keyed maps
+     * @return List of maps where each map represents a row with column header as key
+     */
+    public List<Map<String, String>> toRowMaps() {
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int r = 1; r < rowCount; r++) {
+            Map<String, String> rowData = new HashMap<>();
+            int cells = getCellCount(r);
+            for (int c = 0; c < cells && c < headers.size(); c++) {
+                rowData.put(headers.get(c), getCell(r, c));
+            }
+            rows.add(rowData);
+        }
+        return rows;
+    }
+
+    /**
+     * Accumulates extraction chunks into a TableData
+     */
+    static final class Collector {
+        private List<String> headers = new ArrayList<>();
+        private int[] headerSpans = new int[0];
+        private final List<String[]> columns = new ArrayList<>();
+        private final int[] cellCounts;
+        private final Map<String, String[]> rowAttributes = new LinkedHashMap<>();
+        private final int rowCount;
+
+        Collector(int rowCount, List<String> attributeNames) {
+            this.rowCount = rowCount;
+            this.cellCounts = new int[rowCount];
+            for (String attribute : attributeNames) {
+                rowAttributes.put(attribute, new String[rowCount]);
+            }
+        }
+
+        void setHeaders(List<String> headers, int[] headerSpans) {
+            this.headers = headers;
+            this.headerSpans = headerSpans;
+        }
+
+        void setCellCount(int rowIndex, int count) {
+            cellCounts[rowIndex] = count;
+        }
+
+        void setCell(int rowIndex, int colIndex, String value) {
+            while (columns.size() <= colIndex) {
+                columns.add(null);
+            }
+            String[] column = columns.get(colIndex);
+            if (column == null) {
+                column = new String[rowCount];
+                columns.set(colIndex, column);
+            }
+            column[rowIndex] = value;
+        }
+
+        void setRowAttribute(int rowIndex, String attribute, String value) {
+            rowAttributes.get(attribute)[rowIndex] = value;
+        }
+
+        TableData build() {
+            return new TableData(headers, headerSpans, columns.toArray(new String[0][]), cellCounts,
+                rowAttributes, rowCount);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.test.automation.elements;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows added, removed or changed since a {@link TableSnapshot}, as returned by {@link Table#diffRows(TableSnapshot)}
+ * Added and changed rows carry their current cells; row indexes are positions among the current data rows.
+ */
+public final class TableDiff {
+    private final List<TableRow> added;
+    private final List<TableRow> changed;
+    private final List<String> removed;
+    private final TableSnapshot currentSnapshot;
+
+    TableDiff(TableSnapshot previous, List<TableRow> added, List<TableRow> changed, List<String> removed,
+              Map<String, Long> updatedHashes) {
+        this.added = Collections.unmodifiableList(added);
+        this.changed = Collections.unmodifiableList(changed);
+        this.removed = Collections.unmodifiableList(removed);
+        Map<String, Long> hashes = new LinkedHashMap<>(previous.getHashes());
+        hashes.keySet().removeAll(removed);
+        hashes.putAll(updatedHashes);
+        this.currentSnapshot = new TableSnapshot(previous.getKeyAttribute(), hashes);
+    }
+
+    /**
+     * Get the rows that were not in the snapshot
+     * @return Added rows
+     */
+    public List<TableRow> getAdded() {
+        return added;
+    }
+
+    /**
+     * Get the rows whose contents changed
+     * @return Changed rows
+     */
+    public List<TableRow> getChanged() {
+        return changed;
+    }
+
+    /**
+     * Get the keys of the rows that are gone
+     * @return Removed row keys
+     */
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Check if nothing changed
+     * @return true if no row was added, removed or changed
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * Get a snapshot of the table as of this diff, to diff against later without re-reading the table
+     * @return Updated snapshot
+     */
+    public TableSnapshot getCurrentSnapshot() {
+        return currentSnapshot;
+    }
+
+    @Override
+    public String toString() {
+        return "TableDiff{added=" + added.size() + ", changed=" + changed.size() + ", removed=" + removed.size() + "}";
+    }
+}
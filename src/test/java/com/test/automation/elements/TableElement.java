@@ -1,7 +1,10 @@
 package com.test.automation.elements;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
@@ -10,11 +13,15 @@ import org.openqa.selenium.WebElement;
 import com.test.automation.base.BaseElement;
 
 public class TableElement extends BaseElement {
+    private static final String COLUMN_KEY_SEPARATOR = "\u001f";
 
     private String thCss = "thead th";
     private String tbodyCss = "tbody";
     private String trCss = "tr";
     private int startRowIndex = 1;
+    private Map<String, Integer> headerIndexes;
+    private long headerGeneration = -1;
+    private TableIndex index;
 
     /**
      * Constructor for TableElement with WebElement
@@ -122,16 +129,7 @@ public class TableElement extends BaseElement {
      * @return List of cell values in the column
      */
     public List<String> getColumnValuesByColumnHeader(String columnHeaderText, String childCss) {
-        int rowCount = getTotalRowCount();
-        List<String> allCellElementsValue = new ArrayList<>();
-
-        for (int i = startRowIndex; i <= rowCount; i++) {
-            BaseElement cellElement = getCellElementByColumnHeader(i, columnHeaderText, childCss);
-            if (cellElement.isDisplayed()) {
-                allCellElementsValue.add(cellElement.getText().trim());
-            }
-        }
-        return allCellElementsValue;
+        return readColumn(columnHeaderText, childCss, startRowIndex, true);
     }
 
     /**
@@ -140,9 +138,28 @@ public class TableElement extends BaseElement {
      * @return Column index (1-based)
      */
     public int getColumnIndex(String columnHeaderText) {
-        List<WebElement> headers = findElements(By.cssSelector(getThCss()));
-        int index = getElementIndexFromHeaderList(headers, columnHeaderText, 1);
-        if (index == -1) {
+        if (headerIndexes != null && !isHeaderCurrent()) {
+            loadHeaderIndexes();
+        }
+        return lookupColumnIndex(columnHeaderText);
+    }
+
+    /**
+     * Look up a column in the header index map without checking that the header is unchanged; only for callers
+     * whose own script verifies the header generation
+     */
+    private int lookupColumnIndex(String columnHeaderText) {
+        String key = normalize(columnHeaderText);
+        if (headerIndexes == null) {
+            loadHeaderIndexes();
+        }
+        Integer index = headerIndexes.get(key);
+        if (index == null) {
+            // The header may have been re-rendered since the map was built
+            loadHeaderIndexes();
+            index = headerIndexes.get(key);
+        }
+        if (index == null) {
             throw new ColumnHeaderNotFoundException("Column header '" + columnHeaderText + "' is not present in table");
         }
         return index;
@@ -156,17 +173,54 @@ public class TableElement extends BaseElement {
      * @return Row index (1-based)
      */
     public int getRowIndex(String columnHeaderText, String cellValue, String css) {
-        int columnIndex = getColumnIndex(columnHeaderText);
-        List<WebElement> columnValues = findElements(By.cssSelector(getTdCssForColumn(columnIndex, css)));
-
-        int index = getElementIndexFromList(columnValues, cellValue, startRowIndex);
-        if (index == -1) {
+        if (index != null) {
+            int position = index.indexOf(columnHeaderText + COLUMN_KEY_SEPARATOR + css, cellValue);
+            if (position >= 0) {
+                return position + startRowIndex;
+            }
             throw new ColumnValueNotFoundException(
                     "Value '" + cellValue + "' is not present in column '" + columnHeaderText + "'.");
         }
+        List<String> columnValues = readColumn(columnHeaderText, css, -1, false);
+        for (int i = 0; i < columnValues.size(); i++) {
+            if (columnValues.get(i).equalsIgnoreCase(cellValue)) {
+                return i + startRowIndex;
+            }
+        }
+        throw new ColumnValueNotFoundException(
+                "Value '" + cellValue + "' is not present in column '" + columnHeaderText + "'.");
+    }
+
+    /**
+     * Answer repeated {@link #getRowIndex} and {@link #isCellPresent} lookups from an in-memory index;
+     * each column is read in bulk once and the index rebuilds itself only after the table contents change
+     * @return The table index, exposing build cost and lookup statistics
+     */
+    public TableIndex enableIndex() {
+        if (index == null) {
+            index = new TableIndex((JavascriptExecutor) driver, this::getElement, TableElement::normalize, () -> column -> {
+                String[] parts = column.split(COLUMN_KEY_SEPARATOR, 2);
+                return readColumn(parts[0], parts[1], -1, false);
+            });
+        }
         return index;
     }
 
+    /**
+     * Stop using the table index
+     */
+    public void disableIndex() {
+        index = null;
+    }
+
+    /**
+     * Drop the cached header index map so the next lookup re-reads the header
+     */
+    public void invalidateHeaderIndexes() {
+        headerIndexes = null;
+        headerGeneration = -1;
+    }
+
     /**
      * Get the total number of columns in the table
      * @return Number of columns
@@ -243,39 +297,73 @@ public class TableElement extends BaseElement {
     }
 
     // Private helper methods
-    private int getElementIndexFromHeaderList(List<WebElement> list, String elementText, int startIndex) {
-        int rowIndex = 0;
-        for (int i = 0; i < list.size(); i++) {
-            scrollIntoView(list.get(i));
-            int increment = 1;
-            String colSpan = list.get(i).getAttribute("colspan");
-            if (colSpan != null) {
-                try {
-                    increment = Integer.parseInt(colSpan);
-                } catch (Exception e) {
-                    increment = 1;
-                }
-            }
-            if (list.get(i).getText().trim().equalsIgnoreCase(elementText)) {
-                return rowIndex + startIndex;
-            }
-            rowIndex = rowIndex + increment;
+    private void invalidateIndex() {
+        if (index != null) {
+            index.invalidate();
         }
-        return -1;
     }
 
-    private int getElementIndexFromList(List<WebElement> list, String elementText, int startIndex) {
-        for (int i = 0; i < list.size(); i++) {
-            scrollIntoView(list.get(i));
-            if (list.get(i).getText().trim().equalsIgnoreCase(elementText)) {
-                return i + startIndex;
-            }
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Read the header texts and colspans in one script and rebuild the header index map
+     */
+    @SuppressWarnings("unchecked")
+    private void loadHeaderIndexes() {
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+            .executeScript(TableScripts.HEADER_INDEX, getElement(), getThCss());
+        List<Object> headers = (List<Object>) result.get("headers");
+        List<Object> spans = (List<Object>) result.get("spans");
+        Map<String, Integer> indexes = new HashMap<>();
+        int columnIndex = 1;
+        for (int i = 0; i < headers.size(); i++) {
+            indexes.putIfAbsent(normalize(String.valueOf(headers.get(i))), columnIndex);
+            columnIndex += ((Number) spans.get(i)).intValue();
         }
-        return -1;
+        headerIndexes = indexes;
+        headerGeneration = ((Number) result.get("generation")).longValue();
+    }
+
+    /**
+     * Check that the header has not changed since the header index map was built
+     * @return true if the cached column indexes are still valid
+     */
+    private boolean isHeaderCurrent() {
+        Object generation = ((JavascriptExecutor) driver).executeScript(TableScripts.HEADER_GENERATION, getElement());
+        return generation instanceof Number && ((Number) generation).longValue() == headerGeneration;
     }
 
-    private void scrollIntoView(WebElement element) {
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(false);", element);
+    /**
+     * Read all texts of a column in one script, rebuilding the header map once if the header changed
+     * @param columnHeaderText Text content of the column header
+     * @param css Additional CSS selector appended to the column cells
+     * @param firstRow First row position (first matching cell of each row from this row on),
+     *                 -1 for a flat read of every matching cell
+     * @param displayedOnly Skip cells that are not displayed
+     * @return Trimmed cell texts in document order
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> readColumn(String columnHeaderText, String css, int firstRow, boolean displayedOnly) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            // COLUMN_VALUES checks the header generation itself
+            int columnIndex = lookupColumnIndex(columnHeaderText);
+            String primaryCss = firstRow < 0 ? getTdCssForColumn(columnIndex, css) : getTrCss();
+            String rowCellCss = ":scope>td:nth-child(" + columnIndex + ")" + css;
+            Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(
+                TableScripts.COLUMN_VALUES, getElement(), headerGeneration, primaryCss, rowCellCss, firstRow,
+                displayedOnly);
+            if (!Boolean.TRUE.equals(result.get("stale"))) {
+                List<String> values = new ArrayList<>();
+                for (Object value : (List<Object>) result.get("values")) {
+                    values.add(String.valueOf(value));
+                }
+                return values;
+            }
+            loadHeaderIndexes();
+        }
+        throw new IllegalStateException("Header of table kept changing while reading column '" + columnHeaderText + "'");
     }
 
     // Custom exceptions
@@ -298,14 +386,18 @@ public class TableElement extends BaseElement {
     // Setter methods for CSS selectors
     public void setTbodyCss(String tbodyCss) {
         this.tbodyCss = tbodyCss;
+        invalidateIndex();
     }
 
     public void setTrCss(String trCss) {
         this.trCss = trCss;
+        invalidateIndex();
     }
 
     public void setThCss(String thCss) {
         this.thCss = thCss;
+        invalidateHeaderIndexes();
+        invalidateIndex();
     }
 
     public void setStartRowIndex(int startRowIndex) {
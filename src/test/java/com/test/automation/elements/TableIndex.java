@@ -0,0 +1,146 @@
+package com.test.automation.elements;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import com.test.automation.utils.Logger;
+
+/**
+ * Opt-in in-memory index over a table's contents for repeated lookups.
+ * Columns are read in bulk once per index generation and mapped value to row position lazily, one column at a
+ * time. A MutationObserver injected under the table counts changes of rows or cell texts in a generation shared by
+ * all indexes of the table; each lookup reads it with a tiny script and rebuilds the index only when it moved past
+ * the generation the index was built at.
+ */
+public final class TableIndex {
+    private final JavascriptExecutor executor;
+    private final Supplier<WebElement> root;
+    private final Function<String, String> normalizer;
+    private final Supplier<Function<String, List<String>>> columnSource;
+    private final Map<String, Map<String, Integer>> columns = new HashMap<>();
+    private Function<String, List<String>> columnReader;
+    private long generation = -1;
+    private long buildNanos;
+    private int builds;
+    private int columnsIndexed;
+    private long lookups;
+    private long lookupsSinceBuild;
+
+    /**
+     * Create an index
+     * @param executor Script executor
+     * @param root Supplies the table element to watch
+     * @param normalizer Normalizes cell texts and looked-up values before comparing them
+     * @param columnSource Called once per index generation; returns a reader of column values by column key,
+     *                     where a null value marks a row that must not be matched
+     */
+    TableIndex(JavascriptExecutor executor, Supplier<WebElement> root, Function<String, String> normalizer,
+               Supplier<Function<String, List<String>>> columnSource) {
+        this.executor = executor;
+        this.root = root;
+        this.normalizer = normalizer;
+        this.columnSource = columnSource;
+    }
+
+    /**
+     * Find the first position of a value in a column
+     * @param column Column key understood by the column source
+     * @param value Value to look for
+     * @return Position of the first matching value in the column, -1 if not present
+     */
+    int indexOf(String column, String value) {
+        ensureFresh();
+        lookups++;
+        lookupsSinceBuild++;
+        Map<String, Integer> positions = columns.get(column);
+        if (positions == null) {
+            long start = System.nanoTime();
+            positions = new HashMap<>();
+            List<String> values = columnReader.apply(column);
+            for (int i = 0; i < values.size(); i++) {
+                if (values.get(i) != null) {
+                    positions.putIfAbsent(normalizer.apply(values.get(i)), i);
+                }
+            }
+            columns.put(column, positions);
+            columnsIndexed++;
+            buildNanos += System.nanoTime() - start;
+        }
+        Integer position = positions.get(normalizer.apply(value));
+        return position != null ? position : -1;
+    }
+
+    /**
+     * Drop the indexed contents so the next lookup rebuilds them
+     */
+    public void invalidate() {
+        columns.clear();
+        columnReader = null;
+    }
+
+    private void ensureFresh() {
+        if (columnReader != null && generation == number(executor.executeScript(TableScripts.CONTENT_GENERATION,
+            root.get()))) {
+            return;
+        }
+        if (columnReader != null) {
+            Logger.debug("Table changed, rebuilding index after {} lookups", lookupsSinceBuild);
+        }
+        long start = System.nanoTime();
+        columns.clear();
+        // Arm the observer before reading so changes made while reading move past the new generation
+        generation = number(executor.executeScript(TableScripts.WATCH_CONTENT, root.get()));
+        columnReader = columnSource.get();
+        buildNanos += System.nanoTime() - start;
+        builds++;
+        lookupsSinceBuild = 0;
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : -1;
+    }
+
+    /**
+     * Get the number of times the index was (re)built
+     * @return Build count
+     */
+    public int getBuildCount() {
+        return builds;
+    }
+
+    /**
+     * Get the number of columns indexed across all builds
+     * @return Indexed column count
+     */
+    public int getColumnsIndexed() {
+        return columnsIndexed;
+    }
+
+    /**
+     * Get the total time spent reading and indexing table contents
+     * @return Build time in milliseconds
+     */
+    public long getBuildMillis() {
+        return buildNanos / 1_000_000;
+    }
+
+    /**
+     * Get the number of lookups answered by the index
+     * @return Lookup count
+     */
+    public long getLookupCount() {
+        return lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "TableIndex{builds=" + builds + ", columnsIndexed=" + columnsIndexed + ", buildMillis=" + getBuildMillis()
+            + ", lookups=" + lookups + "}";
+    }
+}
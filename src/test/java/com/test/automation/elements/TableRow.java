@@ -0,0 +1,67 @@
+package com.test.automation.elements;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable row harvested by {@link Table#streamRows(String)} or reported by a {@link TableDiff}
+ */
+public final class TableRow {
+    private final String key;
+    private final int index;
+    private final List<String> cells;
+
+    TableRow(String key, int index, List<String> cells) {
+        this.key = key;
+        this.index = index;
+        this.cells = Collections.unmodifiableList(cells);
+    }
+
+    /**
+     * Get the stable key of the row (the key attribute; rows without it are keyed by
+     * their joined cell texts when streamed and by position in a diff)
+     * @return Row key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Get the position of the row in harvest order (streamed rows) or among the current data rows (diff rows)
+     * @return Zero-based row index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the cell texts of the row
+     * @return Unmodifiable list of cell texts
+     */
+    public List<String> getCells() {
+        return cells;
+    }
+
+    /**
+     * Get the text of a cell
+     * @param colIndex Zero-based column index
+     * @return Cell text, null if the row has no such cell
+     */
+    public String getCell(int colIndex) {
+        return colIndex < cells.size() ? cells.get(colIndex) : null;
+    }
+
+    /**
+     * Check if any cell of the row has the given text
+     * @param text Text to look for
+     * @return true if a cell matches exactly
+     */
+    public boolean containsCell(String text) {
+        return cells.contains(text);
+    }
+
+    @Override
+    public String toString() {
+        return "TableRow{key=" + key + ", index=" + index + ", cells=" + cells + "}";
+    }
+}
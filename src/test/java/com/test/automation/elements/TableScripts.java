@@ -0,0 +1,281 @@
+package com.test.automation.elements;
+
+import com.test.automation.base.ElementScripts;
+
+/**
+ * JavaScript used by the table elements to read table contents in bulk
+ */
+final class TableScripts {
+
+    /**
+     * Cheap cell text: rendered text for cells that have a layout box, empty otherwise
+     */
+    static final String CELL_TEXT_FUNCTION =
+        "function __cellText(el) {" +
+        "  if (!el.getClientRects().length) { return ''; }" +
+        "  return (el.innerText || '').replace(/\\u00a0/g, ' ').trim();" +
+        "}";
+
+    /**
+     * Extracts a chunk of rows in columnar form
+     * arguments: 0 table, 1 row locator, 2 cell locator, 3 header locator, 4 first row, 5 row count,
+     * 6 column indexes to read (null for all), 7 row attribute names, 8 re-query rows, 9 keep rows for next chunk
+     */
+    static final String EXTRACT_CHUNK =
+        ElementScripts.READ_ATTRIBUTE_FUNCTION + ElementScripts.IS_SHOWN_FUNCTION +
+        ElementScripts.READ_TEXT_FUNCTION + ElementScripts.FIND_ALL_FUNCTION + CELL_TEXT_FUNCTION +
+        "var root = arguments[0], start = arguments[4], wanted = arguments[6], attrs = arguments[7] || [];" +
+        "var rows = arguments[8] ? null : root.__extractRows;" +
+        "if (!rows) { rows = __findAll(root, arguments[1]); }" +
+        "var end = Math.min(rows.length, start + arguments[5]), n = Math.max(0, end - start);" +
+        "if (arguments[9] && end < rows.length) { root.__extractRows = rows; } else { delete root.__extractRows; }" +
+        "var out = {total: rows.length, headers: null, spans: null, widths: new Array(n), cols: {}, attrs: {}};" +
+        "if (start === 0 && rows.length > 0 && arguments[3]) {" +
+        "  var hs = __findAll(rows[0], arguments[3]);" +
+        "  out.headers = []; out.spans = [];" +
+        "  for (var h = 0; h < hs.length; h++) {" +
+        "    out.headers.push(__cellText(hs[h]));" +
+        "    out.spans.push(parseInt(hs[h].getAttribute('colspan'), 10) || 1);" +
+        "  }" +
+        "}" +
+        "for (var a = 0; a < attrs.length; a++) { out.attrs[attrs[a]] = new Array(n).fill(null); }" +
+        "for (var r = start; r < end; r++) {" +
+        "  var i = r - start, cells = __findAll(rows[r], arguments[2]);" +
+        "  out.widths[i] = cells.length;" +
+        "  for (var c = 0; c < cells.length; c++) {" +
+        "    if (wanted && wanted.indexOf(c) < 0) { continue; }" +
+        "    var col = out.cols[c];" +
+        "    if (!col) { col = out.cols[c] = new Array(n).fill(null); }" +
+        "    col[i] = __cellText(cells[c]);" +
+        "  }" +
+        "  for (var k = 0; k < attrs.length; k++) { out.attrs[attrs[k]][i] = rows[r].getAttribute(attrs[k]); }" +
+        "}" +
+        "return out;";
+
+    /**
+     * Drops the row list {@link #EXTRACT_CHUNK} keeps on the table between chunks
+     * arguments: 0 table
+     */
+    static final String RELEASE_ROWS = "delete arguments[0].__extractRows;";
+
+    /**
+     * Reads header texts and colspans and installs a MutationObserver that bumps a generation counter
+     * whenever the header cells change
+     * arguments: 0 table, 1 header cell CSS
+     */
+    static final String HEADER_INDEX =
+        ElementScripts.IS_SHOWN_FUNCTION + ElementScripts.READ_TEXT_FUNCTION +
+        "var root = arguments[0], watch = root.__headerWatch;" +
+        "if (!watch) {" +
+        "  watch = root.__headerWatch = {gen: 0, css: arguments[1]};" +
+        "  watch.observer = new MutationObserver(function (mutations) {" +
+        "    for (var m = 0; m < mutations.length; m++) {" +
+        "      var t = mutations[m].target.nodeType === 1 ? mutations[m].target : mutations[m].target.parentElement;" +
+        "      if (t && (t.closest(watch.css) !== null || t.querySelector(watch.css) !== null)) {" +
+        "        watch.gen++;" +
+        "        return;" +
+        "      }" +
+        "    }" +
+        "  });" +
+        "  watch.observer.observe(root, {subtree: true, childList: true, characterData: true," +
+        "    attributes: true, attributeFilter: ['colspan']});" +
+        "}" +
+        "watch.css = arguments[1];" +
+        "var headers = root.querySelectorAll(arguments[1]), texts = [], spans = [];" +
+        "for (var i = 0; i < headers.length; i++) {" +
+        "  texts.push(__readText(headers[i]));" +
+        "  spans.push(parseInt(headers[i].getAttribute('colspan'), 10) || 1);" +
+        "}" +
+        "return {generation: watch.gen, headers: texts, spans: spans};";
+
+    /**
+     * Reads the header generation counted by {@link #HEADER_INDEX}, -1 if the header is not watched
+     * arguments: 0 table
+     */
+    static final String HEADER_GENERATION =
+        "var watch = arguments[0].__headerWatch; return watch ? watch.gen : -1;";
+
+    /**
+     * Reads the texts of one column, refusing with {stale: true} when the header generation changed
+     * arguments: 0 table, 1 expected header generation, 2 cell CSS (flat mode) or row CSS (per-row mode),
+     * 3 per-row cell CSS relative to the row, 4 first row position (nth-child) or -1 for flat mode,
+     * 5 skip cells that are not displayed
+     */
+    static final String COLUMN_VALUES =
+        ElementScripts.IS_SHOWN_FUNCTION + ElementScripts.READ_TEXT_FUNCTION +
+        "var root = arguments[0], watch = root.__headerWatch;" +
+        "if (!watch || watch.gen !== arguments[1]) { return {stale: true}; }" +
+        "var out = [], i;" +
+        "if (arguments[4] < 0) {" +
+        "  var cells = root.querySelectorAll(arguments[2]);" +
+        "  for (i = 0; i < cells.length; i++) { out.push(__readText(cells[i])); }" +
+        "  return {stale: false, values: out};" +
+        "}" +
+        "var rows = root.querySelectorAll(arguments[2]), positions = new Map();" +
+        "for (i = 0; i < rows.length; i++) {" +
+        "  var parent = rows[i].parentElement;" +
+        "  if (!positions.has(parent)) {" +
+        "    var kids = parent.children, index = new Map();" +
+        "    for (var k = 0; k < kids.length; k++) { index.set(kids[k], k + 1); }" +
+        "    positions.set(parent, index);" +
+        "  }" +
+        "  var position = positions.get(parent).get(rows[i]);" +
+        "  if (position < arguments[4] || position > rows.length) { continue; }" +
+        "  var cell = rows[i].querySelector(arguments[3]);" +
+        "  if (cell && (!arguments[5] || __isShown(cell))) { out.push(__readText(cell)); }" +
+        "}" +
+        "return {stale: false, values: out};";
+
+    /**
+     * Finds the element that scrolls the table: the nearest scrollable ancestor, else the document
+     */
+    static final String SCROLLER_FUNCTION =
+        "function __scroller(el) {" +
+        "  for (var n = el; n && n !== document.body && n !== document.documentElement; n = n.parentElement) {" +
+        "    var oy = window.getComputedStyle(n).overflowY;" +
+        "    if ((oy === 'auto' || oy === 'scroll' || oy === 'overlay') && n.scrollHeight > n.clientHeight) { return n; }" +
+        "  }" +
+        "  return document.scrollingElement || document.documentElement;" +
+        "}";
+
+    /**
+     * Async script: harvests rendered rows not seen before, scrolling the table's container to render
+     * (or lazily load) more, until a batch is full, the end is reached or the time budget is spent.
+     * Rows without cells (header rows) are skipped. Seen keys are kept on the table between calls; a reset starts
+     * over with no seen keys and the container scrolled back to the top, so windowed tables render their first rows.
+     * arguments: 0 table, 1 row locator, 2 cell locator, 3 key attribute (null keys rows by content),
+     * 4 batch size, 5 idle ms to wait for more rows at the bottom, 6 time budget ms, 7 reset seen keys
+     * returns {rows: [{key, cells}], done}
+     */
+    static final String HARVEST_ROWS =
+        ElementScripts.READ_ATTRIBUTE_FUNCTION + ElementScripts.IS_SHOWN_FUNCTION +
+        ElementScripts.READ_TEXT_FUNCTION + ElementScripts.FIND_ALL_FUNCTION + CELL_TEXT_FUNCTION + SCROLLER_FUNCTION +
+        "var root = arguments[0], rowLoc = arguments[1], cellLoc = arguments[2], keyAttr = arguments[3];" +
+        "var max = arguments[4], idleMs = arguments[5], deadline = Date.now() + arguments[6];" +
+        "var callback = arguments[arguments.length - 1];" +
+        "var state = root.__harvest, rewound = false;" +
+        "if (arguments[7] || !state) {" +
+        "  state = root.__harvest = {seen: new Set(), scroller: __scroller(root)};" +
+        "  if (state.scroller.scrollTop > 0) { state.scroller.scrollTop = 0; rewound = true; }" +
+        "}" +
+        "var out = [];" +
+        "function harvest() {" +
+        "  var rows = __findAll(root, rowLoc);" +
+        "  for (var r = 0; r < rows.length && out.length < max; r++) {" +
+        "    var cells = __findAll(rows[r], cellLoc);" +
+        "    if (!cells.length) { continue; }" +
+        "    var texts = cells.map(__cellText);" +
+        "    var key = keyAttr ? rows[r].getAttribute(keyAttr) : null;" +
+        "    if (key === null) { key = texts.join('\\u001f'); }" +
+        "    if (state.seen.has(key)) { continue; }" +
+        "    state.seen.add(key);" +
+        "    out.push({key: key, cells: texts});" +
+        "  }" +
+        "}" +
+        // Waits until the rows stop changing (100 ms quiet) or for at most wait ms, then calls next(changed)
+        "function settle(wait, next) {" +
+        "  var changed = false, last = 0, started = Date.now();" +
+        "  var observer = new MutationObserver(function () { changed = true; last = Date.now(); });" +
+        "  observer.observe(root, {childList: true, subtree: true, characterData: true});" +
+        "  (function poll() {" +
+        "    var now = Date.now();" +
+        "    if ((changed && now - last >= 100) || now - started >= wait || now >= deadline) {" +
+        "      observer.disconnect();" +
+        "      return next(changed);" +
+        "    }" +
+        "    setTimeout(poll, 50);" +
+        "  })();" +
+        "}" +
+        "function step() {" +
+        "  harvest();" +
+        "  if (out.length >= max || Date.now() >= deadline) { return callback({rows: out, done: false}); }" +
+        "  var sc = state.scroller, before = sc.scrollTop;" +
+        "  sc.scrollTop = before + Math.max(1, Math.floor(sc.clientHeight * 0.8));" +
+        "  var moved = sc.scrollTop !== before;" +
+        "  var atBottom = sc.scrollTop + sc.clientHeight >= sc.scrollHeight - 1;" +
+        "  settle(atBottom ? idleMs : Math.min(idleMs, 250), function (changed) {" +
+        "    if (!moved && !changed) {" +
+        "      harvest();" +
+        "      return callback({rows: out, done: out.length < max});" +
+        "    }" +
+        "    step();" +
+        "  });" +
+        "}" +
+        "if (rewound) { settle(Math.min(idleMs, 250), step); } else { step(); }";
+
+    /**
+     * Drops the seen keys {@link #HARVEST_ROWS} keeps on the table between calls
+     * arguments: 0 table
+     */
+    static final String RELEASE_HARVEST = "delete arguments[0].__harvest;";
+
+    /**
+     * Arms a MutationObserver that counts changes of rows or cell texts in a content generation, and returns the
+     * current generation. Each index compares against the generation it was built at, so several indexes on one
+     * table see every change. Generations start at the time the table is first watched, so a re-rendered table
+     * does not repeat the generations of the element it replaced.
+     * arguments: 0 table
+     */
+    static final String WATCH_CONTENT =
+        "var root = arguments[0], watch = root.__indexWatch;" +
+        "if (!watch) {" +
+        "  watch = root.__indexWatch = {gen: Date.now()};" +
+        "  watch.observer = new MutationObserver(function () { watch.gen++; });" +
+        "  watch.observer.observe(root, {subtree: true, childList: true, characterData: true});" +
+        "}" +
+        "return watch.gen;";
+
+    /**
+     * Reads the content generation counted by {@link #WATCH_CONTENT}, -1 if the table is not watched
+     * arguments: 0 table
+     */
+    static final String CONTENT_GENERATION =
+        "var watch = arguments[0].__indexWatch; return watch ? watch.gen : -1;";
+
+    /**
+     * 32-bit FNV-1a hash of a string
+     */
+    static final String FNV_FUNCTION =
+        "function __fnv(s) {" +
+        "  var h = 0x811c9dc5;" +
+        "  for (var i = 0; i < s.length; i++) { h ^= s.charCodeAt(i); h = Math.imul(h, 0x01000193); }" +
+        "  return h >>> 0;" +
+        "}";
+
+    /**
+     * Hashes every data row's cell texts in the page. Without previous hashes it returns {hashes: {key: hash}};
+     * with them it returns only the differences: {added: [row], changed: [row], removed: [key]} where
+     * row is {key, index, hash, cells}. Rows without cells are skipped; rows without the key attribute
+     * are keyed by position ("#index").
+     * arguments: 0 table, 1 row locator, 2 cell locator, 3 key attribute, 4 previous hashes or null
+     */
+    static final String HASH_ROWS =
+        ElementScripts.READ_ATTRIBUTE_FUNCTION + ElementScripts.IS_SHOWN_FUNCTION +
+        ElementScripts.READ_TEXT_FUNCTION + ElementScripts.FIND_ALL_FUNCTION + CELL_TEXT_FUNCTION + FNV_FUNCTION +
+        "var root = arguments[0], keyAttr = arguments[3], prev = arguments[4], has = Object.prototype.hasOwnProperty;" +
+        "var rows = __findAll(root, arguments[1]), seen = {}, n = 0;" +
+        "var out = prev ? {added: [], changed: [], removed: []} : {hashes: {}};" +
+        "for (var r = 0; r < rows.length; r++) {" +
+        "  var cells = __findAll(rows[r], arguments[2]);" +
+        "  if (!cells.length) { continue; }" +
+        "  var texts = cells.map(__cellText), hash = __fnv(texts.join('\u001f'));" +
+        "  var key = keyAttr ? rows[r].getAttribute(keyAttr) : null;" +
+        "  if (key === null) { key = '#' + n; }" +
+        "  if (!prev) {" +
+        "    out.hashes[key] = hash;" +
+        "  } else if (!has.call(prev, key)) {" +
+        "    out.added.push({key: key, index: n, hash: hash, cells: texts});" +
+        "  } else if (prev[key] !== hash) {" +
+        "    out.changed.push({key: key, index: n, hash: hash, cells: texts});" +
+        "  }" +
+        "  seen[key] = true;" +
+        "  n++;" +
+        "}" +
+        "if (prev) {" +
+        "  for (var k in prev) { if (has.call(prev, k) && !has.call(seen, k)) { out.removed.push(k); } }" +
+        "}" +
+        "return out;";
+
+    private TableScripts() {
+    }
+}
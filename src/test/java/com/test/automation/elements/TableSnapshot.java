@@ -0,0 +1,73 @@
+package com.test.automation.elements;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cheap snapshot of a table: one content hash per row, keyed by a stable row key.
+ * Hashes are computed in the browser, so taking a snapshot only transfers keys and hashes.
+ * Pass it to {@link Table#diffRows(TableSnapshot)} to get just the rows that changed since.
+ */
+public final class TableSnapshot {
+    private final String keyAttribute;
+    private final Map<String, Long> hashes;
+    private final long capturedAtMillis;
+
+    TableSnapshot(String keyAttribute, Map<String, Long> hashes) {
+        this.keyAttribute = keyAttribute;
+        this.hashes = Collections.unmodifiableMap(new LinkedHashMap<>(hashes));
+        this.capturedAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Get the row attribute the rows are keyed by
+     * @return Key attribute, null when rows are keyed by position
+     */
+    public String getKeyAttribute() {
+        return keyAttribute;
+    }
+
+    /**
+     * Get the number of rows in the snapshot
+     * @return Row count
+     */
+    public int getRowCount() {
+        return hashes.size();
+    }
+
+    /**
+     * Get the row keys
+     * @return Unmodifiable set of row keys
+     */
+    public Set<String> getKeys() {
+        return hashes.keySet();
+    }
+
+    /**
+     * Check if a row was present
+     * @param key Row key
+     * @return true if the snapshot has the row
+     */
+    public boolean contains(String key) {
+        return hashes.containsKey(key);
+    }
+
+    /**
+     * Get the time the snapshot was taken
+     * @return Capture time in epoch milliseconds
+     */
+    public long getCapturedAtMillis() {
+        return capturedAtMillis;
+    }
+
+    Map<String, Long> getHashes() {
+        return hashes;
+    }
+
+    @Override
+    public String toString() {
+        return "TableSnapshot{rows=" + hashes.size() + ", keyAttribute=" + keyAttribute + "}";
+    }
+}
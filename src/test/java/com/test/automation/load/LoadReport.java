@@ -0,0 +1,166 @@
+package com.test.automation.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.test.automation.utils.LatencyHistogram;
+
+/**
+ * Result of a load run: per step, the number of completions and errors, throughput and latency percentiles
+ */
+public class LoadReport {
+    /**
+     * Name of the pseudo-step timing whole journey iterations
+     */
+    public static final String JOURNEY = "journey";
+
+    private final Map<String, Step> steps;
+    private final int users;
+    private final long elapsedMillis;
+
+    LoadReport(Map<String, Step> steps, int users, long elapsedMillis) {
+        this.steps = Collections.unmodifiableMap(new LinkedHashMap<>(steps));
+        this.users = users;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Get the statistics of one step
+     * @param name Step name
+     * @return Step statistics, null if the step never ran
+     */
+    public Step getStep(String name) {
+        return steps.get(name);
+    }
+
+    /**
+     * Get the statistics of all steps
+     * @return Steps in the order they first ran, the journey last
+     */
+    public List<Step> getSteps() {
+        List<Step> ordered = new ArrayList<>();
+        for (Step step : steps.values()) {
+            if (!step.name.equals(JOURNEY)) {
+                ordered.add(step);
+            }
+        }
+        if (steps.containsKey(JOURNEY)) {
+            ordered.add(steps.get(JOURNEY));
+        }
+        return ordered;
+    }
+
+    /**
+     * Get the total number of failed steps and journeys
+     * @return Error count
+     */
+    public long getErrorCount() {
+        long errors = 0;
+        for (Step step : steps.values()) {
+            errors += step.getErrorCount();
+        }
+        return errors;
+    }
+
+    /**
+     * Get the wall-clock time of the run, from the first user starting to the last finishing
+     * @return Elapsed milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Get the throughput of a step over the whole run
+     * @param step Step statistics
+     * @return Completions per second
+     */
+    public double getThroughput(Step step) {
+        return elapsedMillis == 0 ? 0 : step.getCount() * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder table = new StringBuilder(String.format("Load run: %d users, %.1f s%n", users,
+            elapsedMillis / 1000.0));
+        table.append(String.format("%-24s %8s %7s %9s %9s %9s %9s %9s%n", "Step", "Count", "Errors", "Per sec",
+            "p50 ms", "p95 ms", "p99 ms", "Max ms"));
+        for (Step step : getSteps()) {
+            LatencyHistogram latency = step.getLatency();
+            table.append(String.format("%-24s %8d %7d %9.2f %9.0f %9.0f %9.0f %9.0f%n", step.getName(),
+                step.getCount(), step.getErrorCount(), getThroughput(step), latency.getPercentileMillis(50),
+                latency.getPercentileMillis(95), latency.getPercentileMillis(99), latency.getMaxMillis()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Statistics of one step: latency of successful runs and the number of failed runs
+     */
+    public static final class Step {
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        private Step(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the latency of successful runs
+         * @return Latency histogram
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * Get the number of successful runs
+         * @return Count
+         */
+        public long getCount() {
+            return latency.getCount();
+        }
+
+        /**
+         * Get the number of failed runs
+         * @return Error count
+         */
+        public long getErrorCount() {
+            return errors.sum();
+        }
+    }
+
+    /**
+     * Collects step results from all virtual users of a run
+     */
+    static final class Recorder {
+        private final Map<String, Step> steps = new LinkedHashMap<>();
+
+        void record(String name, long nanos, boolean failed) {
+            Step step;
+            synchronized (steps) {
+                step = steps.computeIfAbsent(name, Step::new);
+            }
+            if (failed) {
+                step.errors.increment();
+            } else {
+                step.latency.record(nanos);
+            }
+        }
+
+        LoadReport report(int users, long elapsedMillis) {
+            synchronized (steps) {
+                return new LoadReport(steps, users, elapsedMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.test.automation.load;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openqa.selenium.WebDriver;
+
+import com.test.automation.utils.Config;
+import com.test.automation.utils.ConfigReader;
+import com.test.automation.utils.Logger;
+import com.test.automation.utils.WebDriverManager;
+
+/**
+ * Runs a {@link UserJourney} as a load test: a number of virtual users, each on its own thread and browser session,
+ * start evenly over the ramp-up time and repeat the journey until the duration has passed (an iteration in
+ * progress is finished). Step latencies are recorded in per-step histograms and returned as a {@link LoadReport}.
+ */
+public class LoadRunner {
+    private final int users;
+    private final Duration rampUp;
+    private final Duration thinkTime;
+    private final Duration duration;
+
+    /**
+     * Create a runner with the load.* settings of the configuration
+     */
+    public LoadRunner() {
+        this(ConfigReader.get().getLoadUsers(), ConfigReader.get().getLoadRampUp(),
+            ConfigReader.get().getLoadThinkTime(), ConfigReader.get().getLoadDuration());
+    }
+
+    /**
+     * Create a runner
+     * @param users Number of concurrent virtual users
+     * @param rampUp Time over which the users start
+     * @param thinkTime Pause after each step
+     * @param duration Time from the start of the run after which users stop starting iterations
+     */
+    public LoadRunner(int users, Duration rampUp, Duration thinkTime, Duration duration) {
+        if (users < 1) {
+            throw new IllegalArgumentException("At least one virtual user is required: " + users);
+        }
+        this.users = users;
+        this.rampUp = rampUp;
+        this.thinkTime = thinkTime;
+        this.duration = duration;
+    }
+
+    /**
+     * Run the journey with all virtual users and wait for them to finish
+     * @param journey Journey each user repeats
+     * @return Per-step results
+     */
+    public LoadReport run(UserJourney journey) {
+        Logger.info("Starting load run: {} users, ramp-up {}s, duration {}s", users, rampUp.getSeconds(),
+            duration.getSeconds());
+        LoadReport.Recorder recorder = new LoadReport.Recorder();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(users,
+            runnable -> new Thread(runnable, "virtual-user-" + threadNumber.incrementAndGet()));
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (int i = 0; i < users; i++) {
+            VirtualUser user = new VirtualUser(i + 1, recorder, thinkTime);
+            long userStart = start + rampUp.toNanos() * i / users;
+            pool.execute(() -> runUser(user, journey, recorder, userStart, end));
+        }
+        pool.shutdown();
+        try {
+            while (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+                Logger.debug("Waiting for virtual users to finish their last iteration");
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        LoadReport report = recorder.report(users, (System.nanoTime() - start) / 1_000_000);
+        Logger.info("Load run finished\n" + report);
+        return report;
+    }
+
+    private void runUser(VirtualUser user, UserJourney journey, LoadReport.Recorder recorder, long startNanos,
+                         long endNanos) {
+        for (long wait = startNanos - System.nanoTime(); wait > 0; wait = startNanos - System.nanoTime()) {
+            LockSupport.parkNanos(wait);
+        }
+        try {
+            WebDriverManager.initDriver();
+            configure(WebDriverManager.getDriver());
+        } catch (RuntimeException e) {
+            Logger.error("Virtual user " + user.getId() + " could not start a browser", e);
+            recorder.record(LoadReport.JOURNEY, 0, true);
+            return;
+        }
+        try {
+            while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+                user.nextIteration();
+                long iterationStart = System.nanoTime();
+                try {
+                    journey.run(user);
+                    recorder.record(LoadReport.JOURNEY, System.nanoTime() - iterationStart, false);
+                } catch (Exception | AssertionError e) {
+                    recorder.record(LoadReport.JOURNEY, System.nanoTime() - iterationStart, true);
+                    Logger.warn("Virtual user " + user.getId() + " failed iteration " + user.getIteration(), e);
+                }
+            }
+        } finally {
+            WebDriverManager.quitDriver();
+        }
+    }
+
+    private static void configure(WebDriver driver) {
+        Config config = ConfigReader.get();
+        driver.manage().timeouts().pageLoadTimeout(config.getPageLoadTimeout());
+        driver.manage().timeouts().implicitlyWait(config.getImplicitWait());
+    }
+}
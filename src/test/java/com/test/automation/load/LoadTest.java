@@ -0,0 +1,55 @@
+package com.test.automation.load;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.test.automation.data.RecordPool;
+import com.test.automation.standin.StandInServer;
+import com.test.automation.standin.StandInServerListener;
+import com.test.automation.utils.Config;
+import com.test.automation.utils.ConfigReader;
+
+/**
+ * Runs the lead journey as a load test with the load.* settings, against the local stand-in server (offline) or
+ * the configured org, and checks every step ran without errors. The leads created in an org are deleted again,
+ * through the test data API when it is configured and through the UI otherwise.
+ */
+public class LoadTest {
+
+    @Test
+    public void leadJourneyUnderLoad() {
+        Config config = ConfigReader.get();
+        LoadReport report;
+        if ("org".equals(config.getLoadTarget())) {
+            if (config.isDataApiEnabled()) {
+                // Closing the pool deletes the leads still queued, and fails if any are left in the org
+                try (RecordPool createdLeads = new RecordPool("Lead", SalesforceJourney::newLead)) {
+                    report = new LoadRunner().run(new SalesforceJourney(config.getBaseUrl(),
+                        config.getTestUsername(), config.getTestPassword(), createdLeads));
+                }
+            } else {
+                report = new LoadRunner().run(new SalesforceJourney(config.getBaseUrl(), config.getTestUsername(),
+                    config.getTestPassword(), null));
+            }
+        } else {
+            String password = config.getStandInPassword().isEmpty() ? "stand-in" : config.getStandInPassword();
+            StandInServer suiteServer = StandInServerListener.getServer();
+            if (suiteServer != null) {
+                report = new LoadRunner().run(new SalesforceJourney(suiteServer.getBaseUrl(), "load@example.com",
+                    password));
+            } else {
+                try (StandInServer server = new StandInServer(0, config.getStandInThreads()).configure(config)) {
+                    report = new LoadRunner().run(new SalesforceJourney(server.getBaseUrl(), "load@example.com",
+                        password));
+                }
+            }
+        }
+
+        Assert.assertNotNull(report.getStep(LoadReport.JOURNEY), "At least one journey should have run");
+        for (String step : new String[] {"login", "navigate to Leads", "create lead", "search"}) {
+            Assert.assertNotNull(report.getStep(step), "Step should have run: " + step);
+            Assert.assertTrue(report.getStep(step).getCount() > 0, "Step should have succeeded at least once: " + step);
+        }
+        Assert.assertEquals(report.getErrorCount(), 0, "Load run should have no errors:\n" + report);
+    }
+}
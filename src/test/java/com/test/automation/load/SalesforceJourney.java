@@ -0,0 +1,128 @@
+package com.test.automation.load;
+
+import java.util.Map;
+import java.util.UUID;
+
+import com.test.automation.base.Pages;
+import com.test.automation.data.RecordPool;
+import com.test.automation.pages.LeadsPage;
+import com.test.automation.pages.LoginPage;
+import com.test.automation.pages.SalesforceHomePage;
+import com.test.automation.utils.Logger;
+import com.test.automation.utils.WebDriverManager;
+
+/**
+ * Lead management journey built from the page objects: log in, open the Leads tab, create a lead and search
+ * for it. Each iteration starts a new session at the login page. Against an org, the lead of every iteration is
+ * deleted again after its search, outside the timed steps.
+ */
+public class SalesforceJourney implements UserJourney {
+    private final String loginUrl;
+    private final String username;
+    private final String password;
+    private final boolean deleteLeads;
+    private final RecordPool createdLeads;
+
+    /**
+     * Create a journey that leaves its leads in place, for a stand-in server that forgets them when it stops
+     * @param loginUrl URL of the stand-in login page
+     * @param username User name
+     * @param password Password
+     */
+    public SalesforceJourney(String loginUrl, String username, String password) {
+        this(loginUrl, username, password, false, null);
+    }
+
+    /**
+     * Create a journey that deletes the lead of every iteration
+     * @param loginUrl URL of the login page (base.url)
+     * @param username User name
+     * @param password Password
+     * @param createdLeads Pool the leads are released to, deleted in batches and when the pool is closed;
+     *                     null to delete each lead through the UI
+     */
+    public SalesforceJourney(String loginUrl, String username, String password, RecordPool createdLeads) {
+        this(loginUrl, username, password, true, createdLeads);
+    }
+
+    private SalesforceJourney(String loginUrl, String username, String password, boolean deleteLeads,
+                              RecordPool createdLeads) {
+        this.loginUrl = loginUrl;
+        this.username = username;
+        this.password = password;
+        this.deleteLeads = deleteLeads;
+        this.createdLeads = createdLeads;
+    }
+
+    /**
+     * Field values of a lead, for a pool the journey's leads are released to
+     * @param uniqueSuffix Suffix unique to this lead
+     * @return Field values
+     */
+    public static Map<String, Object> newLead(String uniqueSuffix) {
+        return Map.of("FirstName", "Virtual", "LastName", "Load" + uniqueSuffix, "Company", "Load Test Inc");
+    }
+
+    @Override
+    public void run(VirtualUser user) {
+        user.step("login", () -> {
+            // navigateTo clears cookies, so every iteration logs in again
+            WebDriverManager.navigateTo(loginUrl);
+            LoginPage loginPage = Pages.create(LoginPage.class);
+            loginPage.login(username, password);
+            if (!loginPage.isLoginSuccessful()) {
+                throw new IllegalStateException("Login failed for " + username);
+            }
+        });
+        SalesforceHomePage homePage = Pages.create(SalesforceHomePage.class);
+        LeadsPage leadsPage = user.step("navigate to Leads", homePage::navigateToLeads);
+
+        String lastName = "Load" + user.getId() + "x" + user.getIteration() + "x"
+            + UUID.randomUUID().toString().substring(0, 8);
+        user.step("create lead", () -> leadsPage.createNewLead("Virtual", lastName, "Load Test Inc",
+            lastName.toLowerCase() + "@example.com", "555-0100"));
+
+        Throwable failure = null;
+        try {
+            user.step("search", () -> {
+                leadsPage.searchLeadByName(lastName);
+                if (!leadsPage.isLeadPresent(lastName)) {
+                    throw new IllegalStateException("Created lead not found: " + lastName);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (deleteLeads) {
+                try {
+                    deleteLead(user, leadsPage, lastName);
+                } catch (RuntimeException e) {
+                    // A failed search keeps its own error; otherwise the leaked lead fails the iteration
+                    if (failure == null) {
+                        throw e;
+                    }
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+    }
+
+    // Not a step: the cleanup is not part of the measured journey and adds no think time
+    private void deleteLead(VirtualUser user, LeadsPage leadsPage, String lastName) {
+        String id = null;
+        if (createdLeads != null) {
+            try {
+                id = leadsPage.getLeadId(lastName);
+            } catch (RuntimeException e) {
+                Logger.debug("No lead id of {}, deleting it through the UI", lastName);
+            }
+        }
+        if (id != null && !id.isEmpty()) {
+            createdLeads.release(id);
+        } else {
+            leadsPage.deleteLead(lastName);
+            Logger.debug("Virtual user {} deleted lead {} through the UI", user.getId(), lastName);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.test.automation.load;
+
+/**
+ * Scripted journey of one virtual user, run repeatedly by {@link LoadRunner}.
+ * Each timed part of the journey is wrapped in {@link VirtualUser#step}.
+ */
+@FunctionalInterface
+public interface UserJourney {
+
+    /**
+     * Run the journey once on the virtual user's own browser session
+     * @param user Virtual user running the journey
+     * @throws Exception if the journey failed; the iteration is counted as an error and the next one starts
+     */
+    void run(VirtualUser user) throws Exception;
+}
@@ -0,0 +1,79 @@
+package com.test.automation.load;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import com.test.automation.utils.Logger;
+import com.test.automation.utils.WaitUtils;
+
+/**
+ * One simulated user of a load run, with its own thread and browser session.
+ * Steps are timed into the run's per-step histograms, followed by the think time.
+ */
+public class VirtualUser {
+    private final int id;
+    private final LoadReport.Recorder recorder;
+    private final Duration thinkTime;
+    private int iteration;
+
+    VirtualUser(int id, LoadReport.Recorder recorder, Duration thinkTime) {
+        this.id = id;
+        this.recorder = recorder;
+        this.thinkTime = thinkTime;
+    }
+
+    /**
+     * Get the user number
+     * @return User number, starting at 1
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Get the journey iteration being run
+     * @return Iteration number, starting at 1
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    void nextIteration() {
+        iteration++;
+    }
+
+    /**
+     * Run and time a step, then think
+     * @param name Step name, the histogram it is recorded in
+     * @param action Step action
+     */
+    public void step(String name, Runnable action) {
+        step(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run and time a step that returns a result (e.g. the next page object), then think
+     * @param name Step name, the histogram it is recorded in
+     * @param action Step action
+     * @return Result of the action
+     */
+    public <T> T step(String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            recorder.record(name, System.nanoTime() - start, false);
+            return result;
+        } catch (RuntimeException | Error e) {
+            recorder.record(name, System.nanoTime() - start, true);
+            Logger.warn("Virtual user {} failed step {} in iteration {}", id, name, iteration);
+            throw e;
+        } finally {
+            if (!thinkTime.isZero()) {
+                WaitUtils.sleep(thinkTime.toMillis());
+            }
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.test.automation.base.BasePage;
 import com.test.automation.base.BaseElement;
 import com.test.automation.elements.Button;
 import com.test.automation.elements.Input;
+import com.test.automation.elements.Table;
+import com.test.automation.elements.TableDiff;
+import com.test.automation.elements.TableSnapshot;
 import com.test.automation.utils.Logger;
 import com.test.automation.utils.SalesforceUtils;
 
@@ -17,6 +20,8 @@ import java.util.List;
  * Page object for Salesforce Leads page
  */
 public class LeadsPage extends BasePage {
+    private static final String LEAD_ROW_KEY_ATTRIBUTE = "data-row-key-value";
+    
     // Form locators
     private By newButton;
     private By firstNameField;
@@ -40,6 +45,7 @@ public class LeadsPage extends BasePage {
     private Input phoneInput;
     private Button saveBtn;
     private BaseElement leadTable;
+    private Table leadListView;
     private Input searchInput;
     
     /**
@@ -105,6 +111,9 @@ public class LeadsPage extends BasePage {
             saveBtn = new Button(saveButton);
             
             leadTable = new BaseElement(leadListTable);
+            leadListView = new Table(leadListTable);
+            // Lightning datatables render the record name as a row header cell
+            leadListView.setLocators(By.cssSelector("tbody > tr"), By.tagName("th"), By.cssSelector(":scope > th, :scope > td"));
             searchInput = new Input(leadSearchBox);
             
             // Verify elements are not null
@@ -209,6 +218,45 @@ public class LeadsPage extends BasePage {
         return rows.size();
     }
     
+    /**
+     * Count all leads in the list view, scrolling through rows that are rendered or loaded on demand
+     * @return Number of leads in the list view
+     */
+    public int countAllLeads() {
+        int count = (int) leadListView.countStreamedRows(LEAD_ROW_KEY_ATTRIBUTE);
+        Logger.debug("Found " + count + " leads in the list view");
+        return count;
+    }
+    
+    /**
+     * Check if a lead appears anywhere in the list view, scrolling only until it is found
+     * @param leadName Lead name to look for
+     * @return true if a row mentions the lead
+     */
+    public boolean isLeadInListView(String leadName) {
+        return leadListView.findStreamedRow(LEAD_ROW_KEY_ATTRIBUTE,
+            row -> row.getCells().stream().anyMatch(cell -> cell.contains(leadName))).isPresent();
+    }
+    
+    /**
+     * Take a hashed snapshot of the rows currently in the lead list, to verify an action with {@link #diffLeadList}
+     * @return Snapshot of the lead list
+     */
+    public TableSnapshot snapshotLeadList() {
+        return leadListView.snapshotRows(LEAD_ROW_KEY_ATTRIBUTE);
+    }
+    
+    /**
+     * Get the leads added, changed or removed since a snapshot, reading only the rows that differ
+     * @param before Snapshot taken before the action
+     * @return Lead list diff
+     */
+    public TableDiff diffLeadList(TableSnapshot before) {
+        TableDiff diff = leadListView.diffRows(before);
+        Logger.info("Lead list changes: " + diff);
+        return diff;
+    }
+    
     /**
      * Search for a lead by name
      * @param leadName Name to search for
@@ -241,6 +289,16 @@ public class LeadsPage extends BasePage {
         }
     }
     
+    /**
+     * Get the record id of a lead in the current view, e.g. to delete it through the test data API
+     * @param leadName Lead name to look for
+     * @return Record id from the row key
+     */
+    public String getLeadId(String leadName) {
+        By rowLocator = By.xpath("//a[contains(@title, '" + leadName + "')]/ancestor::tr");
+        return new BaseElement(rowLocator).getAttribute(LEAD_ROW_KEY_ATTRIBUTE);
+    }
+    
     /**
      * Open a lead by name
      * @param leadName Name of the lead to open
@@ -1,6 +1,7 @@
 package com.test.automation.pages;
 
 import com.test.automation.base.BasePage;
+import com.test.automation.base.Pages;
 import com.test.automation.elements.Button;
 import com.test.automation.elements.Input;
 import com.test.automation.utils.Logger;
@@ -9,6 +10,9 @@ import com.test.automation.utils.WaitUtils;
 import com.test.automation.base.BaseElement;
 
 import org.openqa.selenium.By;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import org.testng.Assert;
 
 /**
@@ -173,8 +177,9 @@ public class SalesforceHomePage extends BasePage {
         leadsButton.click();
         waitUtils.waitForPageToLoad();
         SalesforceUtils.waitForLightningPageLoad(driver);
+        recordPageMetrics("Leads");
         Logger.info("Navigated to Leads tab");
-        return new LeadsPage();
+        return Pages.create(LeadsPage.class);
     }
     
     /**
@@ -185,6 +190,7 @@ public class SalesforceHomePage extends BasePage {
         contactsButton.click();
         waitUtils.waitForPageToLoad();
         SalesforceUtils.waitForLightningPageLoad(driver);
+        recordPageMetrics("Contacts");
         Logger.info("Navigated to Contacts tab");
         return this;
     }
@@ -197,6 +203,7 @@ public class SalesforceHomePage extends BasePage {
         accountsButton.click();
         waitUtils.waitForPageToLoad();
         SalesforceUtils.waitForLightningPageLoad(driver);
+        recordPageMetrics("Accounts");
         Logger.info("Navigated to Accounts tab");
         return this;
     }
@@ -209,6 +216,7 @@ public class SalesforceHomePage extends BasePage {
         opportunitiesButton.click();
         waitUtils.waitForPageToLoad();
         SalesforceUtils.waitForLightningPageLoad(driver);
+        recordPageMetrics("Opportunities");
         Logger.info("Navigated to Opportunities tab");
         return this;
     }
@@ -234,7 +242,7 @@ public class SalesforceHomePage extends BasePage {
         logoutButton.click();
         waitUtils.waitForPageToLoad();
         Logger.info("Logged out from Salesforce");
-        return new LoginPage();
+        return Pages.create(LoginPage.class);
     }
     
     /**
@@ -246,6 +254,7 @@ public class SalesforceHomePage extends BasePage {
         setupButton.click();
         waitUtils.waitForPageToLoad();
         SalesforceUtils.waitForLightningPageLoad(driver);
+        recordPageMetrics("Setup");
         Logger.info("Navigated to Setup");
         return this;
     }
@@ -260,6 +269,7 @@ public class SalesforceHomePage extends BasePage {
         searchBtn.click();
         waitUtils.waitForPageToLoad();
         SalesforceUtils.waitForLightningPageLoad(driver);
+        recordPageMetrics("Search");
         Logger.info("Performed global search for: " + searchTerm);
         return this;
     }
@@ -272,16 +282,17 @@ public class SalesforceHomePage extends BasePage {
         homeButton.click();
         waitUtils.waitForPageToLoad();
         SalesforceUtils.waitForLightningPageLoad(driver);
+        recordPageMetrics("Home");
         Logger.info("Navigated to Home tab");
         return this;
     }
     
     /**
-     * Take a screenshot of the Salesforce home page
-     * @return byte array of the screenshot
+     * Take a screenshot of the Salesforce home page; encoding and writing happen in the background
+     * @return Future of the stored screenshot file
      */
-    public byte[] captureScreenshot() {
+    public CompletableFuture<Path> captureScreenshot() {
         Logger.info("Taking screenshot of Salesforce home page");
-        return takeScreenshot();
+        return captureScreenshot("home");
     }
 } 
\ No newline at end of file
@@ -0,0 +1,169 @@
+package com.test.automation.standin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.json.Json;
+
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * REST sObject Collections endpoints of {@link StandInServer}, the subset RestDataBackend uses: POST creates up to
+ * 200 Lead records (all-or-none if requested), DELETE removes up to 200 records by id. Responses have the shape of
+ * the Salesforce API, one result per record. Any bearer token is accepted.
+ */
+final class StandInDataApi {
+    static final String PATH_PREFIX = "/services/data/";
+
+    private static final Pattern COLLECTIONS_PATH = Pattern.compile("/services/data/v[0-9]+\\.[0-9]+/composite/sobjects/?");
+    private static final int MAX_RECORDS = 200;
+    private static final Json JSON = new Json();
+
+    private StandInDataApi() {
+    }
+
+    static void handle(StandInServer server, HttpExchange exchange, String path) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ") || authorization.substring(7).isBlank()) {
+            respond(exchange, 401, List.of(error("INVALID_SESSION_ID", "Session expired or invalid")));
+            return;
+        }
+        if (!COLLECTIONS_PATH.matcher(path).matches()) {
+            respond(exchange, 404, List.of(error("NOT_FOUND", "The requested resource does not exist")));
+            return;
+        }
+        switch (exchange.getRequestMethod().toUpperCase()) {
+            case "POST":
+                String body;
+                try (InputStream in = exchange.getRequestBody()) {
+                    body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+                create(server, exchange, JSON.toType(body, Json.MAP_TYPE));
+                break;
+            case "DELETE":
+                String ids = StandInServer.parse(exchange.getRequestURI().getRawQuery()).getOrDefault("ids", "");
+                delete(server, exchange, ids.isEmpty() ? List.of() : List.of(ids.split(",")));
+                break;
+            default:
+                respond(exchange, 405, List.of(error("METHOD_NOT_ALLOWED", "HTTP method not allowed")));
+                break;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void create(StandInServer server, HttpExchange exchange, Map<String, Object> request)
+        throws IOException {
+        Object recordsValue = request.get("records");
+        List<Map<String, Object>> records = recordsValue instanceof List
+            ? (List<Map<String, Object>>) recordsValue : List.of();
+        if (records.isEmpty() || records.size() > MAX_RECORDS) {
+            respond(exchange, 400, List.of(error("EXCEEDED_ID_LIMIT",
+                "Record limit exceeded: between 1 and " + MAX_RECORDS + " records are allowed")));
+            return;
+        }
+        boolean allOrNone = Boolean.TRUE.equals(request.get("allOrNone"));
+        List<Map<String, Object>> invalid = new ArrayList<>();
+        for (Map<String, Object> record : records) {
+            invalid.add(validate(record));
+        }
+        boolean rollBack = allOrNone && invalid.stream().anyMatch(error -> error != null);
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            Map<String, Object> record = records.get(i);
+            if (invalid.get(i) != null) {
+                results.add(result(null, invalid.get(i)));
+            } else if (rollBack) {
+                results.add(result(null, recordError("ALL_OR_NONE_OPERATION_ROLLED_BACK",
+                    "Record rolled back because not all records were valid and the request was using AllOrNone")));
+            } else {
+                StandInServer.Lead lead = server.addLead(text(record, "FirstName"), text(record, "LastName"),
+                    text(record, "Company"), text(record, "Email"), text(record, "Phone"));
+                results.add(result(String.valueOf(lead.getId()), null));
+            }
+        }
+        respond(exchange, 200, results);
+    }
+
+    private static void delete(StandInServer server, HttpExchange exchange, List<String> ids) throws IOException {
+        if (ids.isEmpty() || ids.size() > MAX_RECORDS) {
+            respond(exchange, 400, List.of(error("EXCEEDED_ID_LIMIT",
+                "Between 1 and " + MAX_RECORDS + " ids are allowed")));
+            return;
+        }
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String id : ids) {
+            boolean deleted;
+            try {
+                deleted = server.deleteLead(Long.parseLong(id.trim()));
+            } catch (NumberFormatException e) {
+                deleted = false;
+            }
+            results.add(result(id.trim(), deleted ? null : recordError("ENTITY_IS_DELETED", "entity is deleted")));
+        }
+        respond(exchange, 200, results);
+    }
+
+    /**
+     * Check a record to create
+     * @return Error, null if the record is valid
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> validate(Map<String, Object> record) {
+        Object attributes = record.get("attributes");
+        Object type = attributes instanceof Map ? ((Map<String, Object>) attributes).get("type") : null;
+        if (!"Lead".equals(type)) {
+            return recordError("INVALID_TYPE", "sObject type '" + type + "' is not supported by the stand-in server");
+        }
+        List<String> missing = new ArrayList<>();
+        for (String field : List.of("LastName", "Company")) {
+            if (text(record, field).isBlank()) {
+                missing.add(field);
+            }
+        }
+        return missing.isEmpty() ? null : recordError("REQUIRED_FIELD_MISSING", "Required fields are missing: " + missing);
+    }
+
+    private static String text(Map<String, Object> record, String field) {
+        Object value = record.get(field);
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static Map<String, Object> result(String id, Map<String, Object> error) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", id);
+        result.put("success", error == null);
+        result.put("errors", error == null ? List.of() : List.of(error));
+        return result;
+    }
+
+    private static Map<String, Object> error(String code, String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("message", message);
+        error.put("errorCode", code);
+        return error;
+    }
+
+    private static Map<String, Object> recordError(String code, String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("statusCode", code);
+        error.put("message", message);
+        error.put("fields", List.of());
+        return error;
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object json) throws IOException {
+        byte[] body = JSON.toJson(json).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.test.automation.standin;
+
+import java.util.List;
+
+/**
+ * HTML served by {@link StandInServer}, reproducing the markup the page objects locate: the login form ids of
+ * LoginPage, the slds-truncate tab spans and user menu of SalesforceHomePage, the New button, lead form and
+ * slds-table list of LeadsPage, and the slds-spinner SalesforceUtils waits for
+ */
+final class StandInPages {
+
+    private static final String STYLE =
+        "<style>" +
+        "body{font-family:sans-serif;margin:0}" +
+        ".header{display:flex;gap:16px;align-items:center;padding:8px 16px;background:#f3f3f3}" +
+        ".header a{text-decoration:none;color:#0176d3}" +
+        ".menu{display:none;position:absolute;right:16px;top:40px;background:#fff;border:1px solid #ddd;padding:8px}" +
+        ".menu.open{display:block}" +
+        ".content{padding:16px}" +
+        ".slds-table td,.slds-table th{padding:4px 8px;text-align:left;border-bottom:1px solid #eee}" +
+        "#error{color:#c23934}" +
+        ".slds-spinner_container{position:fixed;top:0;right:0;bottom:0;left:0;background:rgba(255,255,255,.75)}" +
+        ".slds-spinner{position:absolute;top:50%;left:50%;width:32px;height:32px;border:4px solid #0176d3;" +
+        "border-radius:50%}" +
+        ".standin-filler{height:0;overflow:hidden}" +
+        "</style>";
+
+    private static final List<String> TABS = List.of("Home", "Leads", "Contacts", "Accounts", "Opportunities");
+
+    private StandInPages() {
+    }
+
+    /**
+     * Login page, with an error message if a login attempt failed
+     */
+    static String login(String error) {
+        return page("Login",
+            "<div class=\"content\">" +
+            "<form method=\"post\" action=\"/login\">" +
+            "<label>Username <input id=\"username\" name=\"username\" type=\"email\"></label><br>" +
+            "<label>Password <input id=\"password\" name=\"password\" type=\"password\"></label><br>" +
+            "<label><input id=\"rememberUn\" name=\"rememberUn\" type=\"checkbox\"> Remember me</label><br>" +
+            "<input id=\"Login\" type=\"submit\" value=\"Log In\">" +
+            "</form>" +
+            (error != null ? "<div id=\"error\">" + escape(error) + "</div>" : "") +
+            "<a id=\"forgot_password_link\" href=\"/login\">Forgot Your Password?</a>" +
+            "</div>");
+    }
+
+    /**
+     * Home page with global search and, after a search, its results
+     */
+    static String home(String searchTerm, List<StandInServer.Lead> results) {
+        StringBuilder body = new StringBuilder(header("Home"))
+            .append("<div class=\"content\">")
+            .append("<form action=\"/search\" method=\"get\">")
+            .append("<input name=\"q\" placeholder=\"Search...\" value=\"")
+            .append(escape(searchTerm == null ? "" : searchTerm)).append("\">")
+            .append("<button class=\"searchButton\" type=\"submit\">Search</button>")
+            .append("</form>");
+        if (searchTerm != null) {
+            body.append("<h2>Search results</h2>").append(leadTable(results));
+        } else {
+            body.append("<h1>Home</h1>");
+        }
+        return page("Home", body.append("</div>").toString());
+    }
+
+    /**
+     * Lead list view, filtered by a search term
+     */
+    static String leads(String searchTerm, List<StandInServer.Lead> leads) {
+        return page("Leads", header("Leads") +
+            "<div class=\"content\">" +
+            "<div role=\"button\" title=\"New\" onclick=\"location.href='/leads/new'\">New</div>" +
+            "<form action=\"/leads\" method=\"get\">" +
+            "<input name=\"q\" placeholder=\"Search this list...\" value=\"" +
+            escape(searchTerm == null ? "" : searchTerm) + "\">" +
+            "</form>" +
+            leadTable(leads) +
+            "</div>");
+    }
+
+    /**
+     * New lead form
+     */
+    static String newLead() {
+        return page("New Lead", header("Leads") +
+            "<div class=\"content\">" +
+            "<form method=\"post\" action=\"/leads\">" +
+            "<label>First Name <input name=\"firstName\"></label><br>" +
+            "<label>Last Name <input name=\"lastName\"></label><br>" +
+            "<label>Company <input name=\"Company\"></label><br>" +
+            "<label>Email <input name=\"Email\"></label><br>" +
+            "<label>Phone <input name=\"Phone\"></label><br>" +
+            "<button name=\"SaveEdit\" type=\"submit\">Save</button>" +
+            "</form>" +
+            "</div>");
+    }
+
+    /**
+     * Page of an object that has no stand-in behaviour (other tabs, Setup)
+     */
+    static String placeholder(String title, String activeTab) {
+        return page(title, header(activeTab) + "<div class=\"content\"><h1>" + escape(title) + "</h1></div>");
+    }
+
+    /**
+     * Add a loading spinner and extra elements to a page
+     * @param html Page
+     * @param spinnerMillis Time the spinner covers the page after it loads, 0 for none
+     * @param domNodes Number of extra elements, 0 for none
+     */
+    static String withLoad(String html, long spinnerMillis, int domNodes) {
+        if (spinnerMillis <= 0 && domNodes <= 0) {
+            return html;
+        }
+        StringBuilder extra = new StringBuilder();
+        if (domNodes > 0) {
+            extra.append("<div class=\"standin-filler\" aria-hidden=\"true\">");
+            for (int i = 0; i < domNodes; i++) {
+                extra.append("<div class=\"slds-grid\">Item ").append(i).append("</div>");
+            }
+            extra.append("</div>");
+        }
+        if (spinnerMillis > 0) {
+            extra.append("<div id=\"standin-spinner\" class=\"slds-spinner_container\">")
+                .append("<div role=\"status\" class=\"slds-spinner slds-spinner_medium\"></div></div>")
+                .append("<script>setTimeout(function(){document.getElementById('standin-spinner').remove();},")
+                .append(spinnerMillis).append(");</script>");
+        }
+        int end = html.lastIndexOf("</body>");
+        return html.substring(0, end) + extra + html.substring(end);
+    }
+
+    private static String header(String activeTab) {
+        StringBuilder header = new StringBuilder("<div class=\"header\">");
+        for (String tab : TABS) {
+            header.append("<a href=\"/").append(tab.toLowerCase()).append("\"")
+                .append(tab.equals(activeTab) ? " aria-current=\"page\"" : "")
+                .append("><span class=\"slds-truncate\">").append(tab).append("</span></a>");
+        }
+        return header
+            .append("<div class=\"userProfileCard\" style=\"margin-left:auto;cursor:pointer\"")
+            .append(" onclick=\"document.getElementById('userMenu').classList.toggle('open')\">User</div>")
+            .append("<div id=\"userMenu\" class=\"menu\">")
+            .append("<a href=\"/setup\"><span>Setup</span></a><br>")
+            .append("<a class=\"logout\" href=\"/logout\">Log Out</a>")
+            .append("</div></div>")
+            .toString();
+    }
+
+    private static String leadTable(List<StandInServer.Lead> leads) {
+        StringBuilder table = new StringBuilder("<table class=\"slds-table\"><thead><tr>")
+            .append("<th>Name</th><th>Company</th><th>Email</th><th>Phone</th></tr></thead><tbody>");
+        for (StandInServer.Lead lead : leads) {
+            String name = escape(lead.getName());
+            table.append("<tr data-row-key-value=\"").append(lead.getId()).append("\">")
+                .append("<th><a title=\"").append(name).append("\" href=\"/leads/").append(lead.getId()).append("\">")
+                .append(name).append("</a></th>")
+                .append("<td>").append(escape(lead.getCompany())).append("</td>")
+                .append("<td>").append(escape(lead.getEmail())).append("</td>")
+                .append("<td>").append(escape(lead.getPhone())).append("</td></tr>");
+        }
+        return table.append("</tbody></table>").toString();
+    }
+
+    private static String page(String title, String body) {
+        return "<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>" + escape(title) + "</title>" + STYLE
+            + "</head><body>" + body + "</body></html>";
+    }
+
+    static String escape(String text) {
+        return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+            .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+}
@@ -0,0 +1,411 @@
+package com.test.automation.standin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.test.automation.utils.Config;
+import com.test.automation.utils.Logger;
+
+/**
+ * Local stand-in for a Salesforce org, built on the JDK HTTP server, so page-object flows (login, tabs, lead
+ * creation and search) can run offline and reproducibly. Any non-empty username and password log in unless a
+ * password is set. Leads are kept in memory, newest first, up to {@link #MAX_LEADS}, and can also be created and
+ * deleted through the REST sObject Collections endpoints (see StandInDataApi) with any bearer token.
+ * Responses can be made slower and pages heavier to reproduce an org's cost: a fixed latency per response, a
+ * Lightning spinner covering each page for a while after it loads, extra DOM nodes and longer list views. These
+ * settings can be changed while the server runs.
+ */
+public class StandInServer implements AutoCloseable {
+    /**
+     * Maximum number of leads kept; older leads are dropped
+     */
+    public static final int MAX_LEADS = 1000;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Deque<Lead> leads = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger leadCount = new AtomicInteger();
+    private final AtomicLong nextLeadId = new AtomicLong(1);
+    private final AtomicLong requests = new AtomicLong();
+    private volatile long latencyMillis;
+    private volatile long spinnerMillis;
+    private volatile int domNodes;
+    private volatile int listSize = 50;
+    private volatile String password;
+
+    /**
+     * Start a server on localhost
+     * @param port Port to listen on, 0 for any free port
+     * @param threads Number of request threads
+     */
+    public StandInServer(int port, int threads) {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 128);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start stand-in server on port " + port, e);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stand-in-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        Logger.info("Stand-in server listening on " + getBaseUrl());
+    }
+
+    /**
+     * Apply the standin.* settings of a configuration (latency, spinner, DOM nodes, list size and password)
+     * @param config Configuration
+     * @return This server
+     */
+    public StandInServer configure(Config config) {
+        setLatency(config.getStandInLatency());
+        setSpinnerDuration(config.getStandInSpinner());
+        setDomNodes(config.getStandInDomNodes());
+        setListSize(config.getStandInListSize());
+        setPassword(config.getStandInPassword().isEmpty() ? null : config.getStandInPassword());
+        return this;
+    }
+
+    /**
+     * Delay every response, as the network and server time of an org would
+     * @param latency Delay per response, zero for none
+     */
+    public void setLatency(Duration latency) {
+        this.latencyMillis = latency.toMillis();
+    }
+
+    /**
+     * Cover every page after login with a Lightning spinner that disappears after a while
+     * @param duration Time the spinner is shown, zero for no spinner
+     */
+    public void setSpinnerDuration(Duration duration) {
+        this.spinnerMillis = duration.toMillis();
+    }
+
+    /**
+     * Add elements to every page after login, to reproduce the DOM size of a Lightning page
+     * @param nodes Number of extra elements
+     */
+    public void setDomNodes(int nodes) {
+        this.domNodes = nodes;
+    }
+
+    /**
+     * Set the number of rows shown by list views and search results
+     * @param rows Maximum rows
+     */
+    public void setListSize(int rows) {
+        this.listSize = rows;
+    }
+
+    /**
+     * Only accept one password at login
+     * @param password Accepted password, null to accept any non-empty password
+     */
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    /**
+     * Get the URL of the login page
+     * @return Base URL, ending with '/'
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Get the number of requests served so far
+     * @return Request count
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Get the leads currently stored
+     * @return Leads, newest first
+     */
+    public List<Lead> getLeads() {
+        return new ArrayList<>(leads);
+    }
+
+    /**
+     * Store a lead as if it was saved through the form
+     * @param firstName First name
+     * @param lastName Last name
+     * @param company Company
+     * @param email Email address
+     * @param phone Phone number
+     * @return Stored lead
+     */
+    public Lead addLead(String firstName, String lastName, String company, String email, String phone) {
+        Lead lead = new Lead(nextLeadId.getAndIncrement(), firstName, lastName, company, email, phone);
+        leads.addFirst(lead);
+        if (leadCount.incrementAndGet() > MAX_LEADS && leads.pollLast() != null) {
+            leadCount.decrementAndGet();
+        }
+        return lead;
+    }
+
+    /**
+     * Delete a lead as if it was deleted from its row actions
+     * @param id Lead id
+     * @return true if the lead existed
+     */
+    public boolean deleteLead(long id) {
+        boolean removed = leads.removeIf(lead -> lead.getId() == id);
+        if (removed) {
+            leadCount.decrementAndGet();
+        }
+        return removed;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        Logger.info("Stand-in server stopped after " + requests.get() + " requests");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            String path = exchange.getRequestURI().getPath();
+            if (path.startsWith(StandInDataApi.PATH_PREFIX)) {
+                StandInDataApi.handle(this, exchange, path);
+                return;
+            }
+            boolean post = "POST".equalsIgnoreCase(exchange.getRequestMethod());
+            Map<String, String> parameters = parse(exchange.getRequestURI().getRawQuery());
+            if (post) {
+                try (InputStream body = exchange.getRequestBody()) {
+                    parameters.putAll(parse(new String(body.readAllBytes(), StandardCharsets.UTF_8)));
+                }
+            }
+            route(exchange, path, post, parameters);
+        } catch (RuntimeException e) {
+            Logger.warn("Stand-in server failed to handle " + exchange.getRequestURI(), e);
+            respond(exchange, 500, "<h1>Internal error</h1>");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Serve one request; override to add pages
+     * @param exchange Request exchange
+     * @param path Request path
+     * @param post true for a POST request
+     * @param parameters Query and form parameters
+     */
+    protected void route(HttpExchange exchange, String path, boolean post, Map<String, String> parameters)
+        throws IOException {
+        switch (path) {
+            case "/":
+            case "/login":
+            case "/logout":
+                if (post) {
+                    String given = parameters.getOrDefault("password", "");
+                    boolean valid = !parameters.getOrDefault("username", "").isEmpty() && !given.isEmpty()
+                        && (password == null || password.equals(given));
+                    if (valid) {
+                        redirect(exchange, "/home");
+                    } else {
+                        respond(exchange, 200, StandInPages.login("Please check your username and password."));
+                    }
+                } else {
+                    respond(exchange, 200, StandInPages.login(null));
+                }
+                break;
+            case "/home":
+                respondPage(exchange, StandInPages.home(null, List.of()));
+                break;
+            case "/search":
+                String term = parameters.getOrDefault("q", "");
+                respondPage(exchange, StandInPages.home(term, findLeads(term)));
+                break;
+            case "/leads":
+                if (post) {
+                    addLead(parameters.get("firstName"), parameters.get("lastName"), parameters.get("Company"),
+                        parameters.get("Email"), parameters.get("Phone"));
+                    redirect(exchange, "/leads");
+                } else {
+                    String filter = parameters.get("q");
+                    respondPage(exchange, StandInPages.leads(filter, findLeads(filter)));
+                }
+                break;
+            case "/leads/new":
+                respondPage(exchange, StandInPages.newLead());
+                break;
+            case "/contacts":
+            case "/accounts":
+            case "/opportunities":
+            case "/setup":
+                String name = path.substring(1);
+                respondPage(exchange, StandInPages.placeholder(
+                    Character.toUpperCase(name.charAt(0)) + name.substring(1), "Home"));
+                break;
+            default:
+                if (path.startsWith("/leads/")) {
+                    Lead lead = findLead(path.substring("/leads/".length()));
+                    if (lead != null) {
+                        respondPage(exchange, StandInPages.placeholder(lead.getName(), "Leads"));
+                        break;
+                    }
+                }
+                respond(exchange, 404, "<h1>Not found</h1>");
+                break;
+        }
+    }
+
+    /**
+     * Write a page shown after login, with the configured spinner and extra DOM nodes
+     * @param exchange Request exchange
+     * @param html Page
+     */
+    protected void respondPage(HttpExchange exchange, String html) throws IOException {
+        respond(exchange, 200, StandInPages.withLoad(html, spinnerMillis, domNodes));
+    }
+
+    /**
+     * Write an HTML response
+     * @param exchange Request exchange
+     * @param status HTTP status
+     * @param html Response body
+     */
+    protected static void respond(HttpExchange exchange, int status, String html) throws IOException {
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Redirect to another page after a form post
+     * @param exchange Request exchange
+     * @param location Path to redirect to
+     */
+    protected static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(303, -1);
+    }
+
+    private List<Lead> findLeads(String term) {
+        String needle = term == null ? "" : term.trim().toLowerCase(Locale.ROOT);
+        List<Lead> found = new ArrayList<>();
+        int rows = listSize;
+        for (Iterator<Lead> it = leads.iterator(); it.hasNext() && found.size() < rows; ) {
+            Lead lead = it.next();
+            if (needle.isEmpty() || lead.getName().toLowerCase(Locale.ROOT).contains(needle)
+                || lead.getCompany().toLowerCase(Locale.ROOT).contains(needle)) {
+                found.add(lead);
+            }
+        }
+        return found;
+    }
+
+    private Lead findLead(String id) {
+        for (Lead lead : leads) {
+            if (String.valueOf(lead.getId()).equals(id)) {
+                return lead;
+            }
+        }
+        return null;
+    }
+
+    static Map<String, String> parse(String encoded) {
+        Map<String, String> parameters = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : encoded.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+            String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            parameters.put(key, value);
+        }
+        return parameters;
+    }
+
+    /**
+     * Lead stored by the stand-in server
+     */
+    public static final class Lead {
+        private final long id;
+        private final String firstName;
+        private final String lastName;
+        private final String company;
+        private final String email;
+        private final String phone;
+
+        private Lead(long id, String firstName, String lastName, String company, String email, String phone) {
+            this.id = id;
+            this.firstName = firstName == null ? "" : firstName;
+            this.lastName = lastName == null ? "" : lastName;
+            this.company = company == null ? "" : company;
+            this.email = email == null ? "" : email;
+            this.phone = phone == null ? "" : phone;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return (firstName + " " + lastName).trim();
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public String getCompany() {
+            return company;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPhone() {
+            return phone;
+        }
+    }
+}
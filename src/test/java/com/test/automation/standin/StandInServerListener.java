@@ -0,0 +1,53 @@
+package com.test.automation.standin;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import com.test.automation.utils.Config;
+import com.test.automation.utils.ConfigReader;
+import com.test.automation.utils.Logger;
+
+/**
+ * TestNG listener that runs the local stand-in server for the suite when standin.enabled is set (see the standin
+ * configuration profile, which also points base.url at it), so suites and benchmarks run offline against a
+ * reproducible org.
+ * Register in the suite xml: &lt;listener class-name="com.test.automation.standin.StandInServerListener"/&gt;
+ */
+public class StandInServerListener implements ISuiteListener {
+    private static final Object LOCK = new Object();
+    private static StandInServer server;
+
+    /**
+     * Get the stand-in server started for the running suite
+     * @return Server, null if none is running
+     */
+    public static StandInServer getServer() {
+        synchronized (LOCK) {
+            return server;
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        Config config = ConfigReader.get();
+        if (!config.isStandInEnabled()) {
+            return;
+        }
+        synchronized (LOCK) {
+            if (server == null) {
+                server = new StandInServer(config.getStandInPort(), config.getStandInThreads()).configure(config);
+                Logger.info("Suite " + suite.getName() + " runs against the stand-in server at " + server.getBaseUrl());
+            }
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        synchronized (LOCK) {
+            if (server != null) {
+                server.close();
+                server = null;
+            }
+        }
+    }
+}
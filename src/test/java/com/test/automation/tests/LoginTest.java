@@ -1,6 +1,7 @@
 package com.test.automation.tests;
 
 import com.test.automation.base.BaseTest;
+import com.test.automation.base.Pages;
 import com.test.automation.pages.LoginPage;
 import com.test.automation.utils.ConfigReader;
 import com.test.automation.utils.Logger;
@@ -17,20 +18,20 @@ public class LoginTest extends BaseTest {
             Assert.assertNotNull(driver, "WebDriver is null in test method");
             
             // Navigate to the URL first
-            String url = ConfigReader.getProperty("base.url");
+            String url = ConfigReader.get().getBaseUrl();
             Logger.info("Navigating to: " + url);
             WebDriverManager.navigateTo(url);
             
             // Then create the page object
-            LoginPage loginPage = new LoginPage();
+            LoginPage loginPage = Pages.create(LoginPage.class);
             
             // Verify the login page loaded
             Assert.assertTrue(loginPage.isPageLoaded(), "Login page did not load");
             
             // Perform login with valid credentials
             loginPage.login(
-                ConfigReader.getProperty("test.username"),
-                ConfigReader.getProperty("test.password")
+                ConfigReader.get().getTestUsername(),
+                ConfigReader.get().getTestPassword()
             );
             
             // Add assertions here based on your application's behavior
@@ -48,12 +49,12 @@ public class LoginTest extends BaseTest {
             Assert.assertNotNull(driver, "WebDriver is null in test method");
             
             // Navigate to the URL first
-            String url = ConfigReader.getProperty("base.url");
+            String url = ConfigReader.get().getBaseUrl();
             Logger.info("Navigating to: " + url);
             WebDriverManager.navigateTo(url);
             
             // Then create the page object
-            LoginPage loginPage = new LoginPage();
+            LoginPage loginPage = Pages.create(LoginPage.class);
             
             // Verify the login page loaded
             Assert.assertTrue(loginPage.isPageLoaded(), "Login page did not load");
@@ -6,6 +6,7 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import com.test.automation.base.Pages;
 import com.test.automation.pages.LoginPage;
 import com.test.automation.pages.SalesforceHomePage;
 import com.test.automation.utils.ConfigReader;
@@ -29,7 +30,7 @@ public class SingleLoginTest {
             WebDriverManager.initDriver();
             
             // Initialize login page
-            loginPage = new LoginPage();
+            loginPage = Pages.create(LoginPage.class);
             
             Logger.info("Test setup completed successfully");
         } catch (Exception e) {
@@ -50,7 +51,7 @@ public class SingleLoginTest {
             Logger.step("Testing successful Salesforce login");
             
             // Navigate to Salesforce login
-            String url = ConfigReader.getProperty("base.url");
+            String url = ConfigReader.get().getBaseUrl();
             Logger.info("Navigating to Salesforce: " + url);
             WebDriverManager.navigateTo(url);
             
@@ -59,8 +60,8 @@ public class SingleLoginTest {
             
             // Perform login with valid credentials
             loginPage.login(
-                ConfigReader.getProperty("test.username"),
-                ConfigReader.getProperty("test.password")
+                ConfigReader.get().getTestUsername(),
+                ConfigReader.get().getTestPassword()
             );
             
             // Verify successful login
@@ -68,7 +69,7 @@ public class SingleLoginTest {
                 "Should be logged in to Salesforce successfully");
             
             // Create homepage instance and verify we can navigate
-            SalesforceHomePage homePage = new SalesforceHomePage();
+            SalesforceHomePage homePage = Pages.create(SalesforceHomePage.class);
             Assert.assertTrue(homePage.isPageLoaded(), "Home page should be loaded");
             
             // Perform logout
@@ -88,7 +89,7 @@ public class SingleLoginTest {
             Logger.step("Testing failed Salesforce login");
             
             // Navigate to Salesforce login
-            String url = ConfigReader.getProperty("base.url");
+            String url = ConfigReader.get().getBaseUrl();
             Logger.info("Navigating to Salesforce: " + url);
             WebDriverManager.navigateTo(url);
             
@@ -0,0 +1,190 @@
+package com.test.automation.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+
+/**
+ * Logging backend shared by {@link Logger} and {@link LightLogger}.
+ * Callers publish events into a lock-free bounded ring buffer (multi-producer, single consumer) and return;
+ * a daemon thread drains the buffer into the log4j2 configuration (log4j2.xml), keeping the original
+ * thread name and timestamp of every event. A shutdown hook drains what is left before log4j2 stops.
+ */
+final class AsyncLogDispatcher {
+    static final Level STEP = Level.forName("STEP", 350);
+    static final Level ELEMENT = Level.forName("ELEMENT", 380);
+
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final long SHUTDOWN_DRAIN_MILLIS = 5000;
+    private static final AsyncLogDispatcher INSTANCE =
+        new AsyncLogDispatcher(Integer.getInteger("logging.buffer.size", DEFAULT_CAPACITY));
+
+    private final int capacity;
+    private final int mask;
+    private final LogRecord[] slots;
+    // Slot i is free for producer position p when sequences[i] == p, and holds p's event when it is p + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private volatile boolean running = true;
+    private final Thread drainer;
+    private final LoggerContext context = LoggerContext.getContext(false);
+
+    private AsyncLogDispatcher(int requestedCapacity) {
+        capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1) << 1);
+        mask = capacity - 1;
+        slots = new LogRecord[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        drainer = new Thread(this::drainLoop, "logger-drain");
+        drainer.setDaemon(true);
+        drainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "logger-shutdown"));
+    }
+
+    static AsyncLogDispatcher get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enqueue an event; waits only while the buffer is full
+     * @param loggerName log4j2 logger name used to pick the logger configuration
+     * @param level Event level
+     * @param message Formatted message
+     * @param thrown Exception whose stack trace is written with the message, may be null
+     */
+    void publish(String loggerName, Level level, String message, Throwable thrown) {
+        Thread thread = Thread.currentThread();
+        LogRecord record = new LogRecord(loggerName, level, message, thrown, thread.getName(), thread.getId(),
+            System.currentTimeMillis());
+        if (!running) {
+            write(record, true);
+            return;
+        }
+        int attempts = 0;
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = record;
+                    sequences.lazySet(index, position + 1);
+                    return;
+                }
+            } else if (difference < 0) {
+                // Buffer full: let the drain thread catch up
+                LockSupport.unpark(drainer);
+                if (++attempts > 100) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+
+    /**
+     * Block until every event published before this call has been written
+     */
+    void flush() {
+        long target = tail.get();
+        while (head < target && drainer.isAlive()) {
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    private void drainLoop() {
+        int idleRounds = 0;
+        while (running || head < tail.get()) {
+            if (drainAvailable() > 0) {
+                idleRounds = 0;
+            } else {
+                idleRounds++;
+                LockSupport.parkNanos(idleRounds < 100 ? TimeUnit.MICROSECONDS.toNanos(50) : TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+    }
+
+    private int drainAvailable() {
+        int drained = 0;
+        while (true) {
+            long position = head;
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                return drained;
+            }
+            LogRecord record = slots[index];
+            slots[index] = null;
+            sequences.lazySet(index, position + capacity);
+            head = position + 1;
+            // Appenders flush at the end of a batch instead of after every event
+            boolean endOfBatch = sequences.get((int) ((position + 1) & mask)) != position + 2;
+            write(record, endOfBatch);
+            drained++;
+        }
+    }
+
+    private void shutdown() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(SHUTDOWN_DRAIN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LogManager.shutdown();
+    }
+
+    private void write(LogRecord record, boolean endOfBatch) {
+        try {
+            // The configuration is looked up per event so reconfiguration takes effect
+            LoggerConfig config = context.getConfiguration().getLoggerConfig(record.loggerName);
+            config.log(Log4jLogEvent.newBuilder()
+                .setLoggerName(record.loggerName)
+                .setLoggerFqcn(record.loggerName)
+                .setLevel(record.level)
+                .setMessage(new SimpleMessage(record.message))
+                .setThrown(record.thrown)
+                .setThreadName(record.threadName)
+                .setThreadId(record.threadId)
+                .setTimeMillis(record.timeMillis)
+                .setEndOfBatch(endOfBatch)
+                .build());
+        } catch (Exception e) {
+            System.err.println("Failed to write log event: " + record.message + " - " + e.getMessage());
+        }
+    }
+
+    private static final class LogRecord {
+        private final String loggerName;
+        private final Level level;
+        private final String message;
+        private final Throwable thrown;
+        private final String threadName;
+        private final long threadId;
+        private final long timeMillis;
+
+        private LogRecord(String loggerName, Level level, String message, Throwable thrown, String threadName,
+                          long threadId, long timeMillis) {
+            this.loggerName = loggerName;
+            this.level = level;
+            this.message = message;
+            this.thrown = thrown;
+            this.threadName = threadName;
+            this.threadId = threadId;
+            this.timeMillis = timeMillis;
+        }
+    }
+}
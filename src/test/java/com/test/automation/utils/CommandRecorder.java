@@ -0,0 +1,238 @@
+package com.test.automation.utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+
+/**
+ * Records each driver and element command with its duration, and its exception if it failed, in the event journal,
+ * and attributes its time to driver round-trips in the step timer. Drivers are wrapped in JDK dynamic proxies
+ * implementing the interfaces of the wrapped object; returned elements, lists of elements and helpers such as
+ * navigate() or switchTo() are wrapped the same way. The JDK generates one proxy class per set of interfaces and
+ * reuses it, so wrapping an element costs an allocation, not a class definition as with Selenium's
+ * EventFiringDecorator.
+ */
+final class CommandRecorder {
+    private static final Map<Method, String> COMMAND_NAMES = new ConcurrentHashMap<>();
+    private static final ClassValue<Class<?>[]> PROXY_INTERFACES = new ClassValue<Class<?>[]>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            return proxyInterfaces(type);
+        }
+    };
+    // Calls that only return a local helper object and never reach the browser
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "timeouts",
+        "window", "logs");
+
+    private final WebDriver driver;
+    private final WebDriver proxy;
+    // Start times and step timer tokens of the commands in progress (commands can nest, e.g. manage().timeouts())
+    private final long[] startNanos = new long[16];
+    private final long[] timerTokens = new long[16];
+    private int depth;
+
+    /**
+     * Serialized form of a wrapped element: Selenium's JSON output calls toJson(), so wrapped elements can be
+     * passed inside actions and script arguments
+     */
+    public interface JsonElement {
+        Object toJson();
+    }
+
+    private CommandRecorder(WebDriver driver) {
+        this.driver = driver;
+        this.proxy = (WebDriver) wrap(driver);
+    }
+
+    /**
+     * Wrap a driver so its commands and those of its elements are recorded
+     * @param driver Driver to wrap
+     * @return Wrapped driver
+     */
+    static WebDriver record(WebDriver driver) {
+        return new CommandRecorder(driver).proxy;
+    }
+
+    private Object wrap(Object target) {
+        Class<?>[] interfaces = PROXY_INTERFACES.get(target.getClass());
+        return Proxy.newProxyInstance(CommandRecorder.class.getClassLoader(), interfaces, new Handler(target));
+    }
+
+    /**
+     * Dispatches the calls on one wrapped object
+     */
+    private final class Handler implements InvocationHandler {
+        private final Object target;
+
+        private Handler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+            Class<?> declaringClass = method.getDeclaringClass();
+            if (declaringClass == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return target.equals(unwrap(args[0]));
+                    case "hashCode":
+                        return target.hashCode();
+                    default:
+                        return target.toString();
+                }
+            }
+            if (declaringClass == WrapsDriver.class) {
+                return driver;
+            }
+            if (declaringClass == WrapsElement.class) {
+                return target;
+            }
+            if (declaringClass == JsonElement.class) {
+                return toJson(target);
+            }
+            begin(method);
+            Object result;
+            try {
+                result = method.invoke(target, unwrapAll(args));
+            } catch (InvocationTargetException e) {
+                end(method, e.getTargetException());
+                throw e.getTargetException();
+            }
+            end(method, null);
+            return wrapResult(method, result);
+        }
+    }
+
+    private void begin(Method method) {
+        if (depth < startNanos.length) {
+            timerTokens[depth] = LOCAL_CALLS.contains(method.getName()) ? -1 : StepTimer.begin(StepTimer.Category.DRIVER);
+            startNanos[depth] = System.nanoTime();
+        }
+        depth++;
+    }
+
+    private void end(Method method, Throwable error) {
+        if (depth == 0) {
+            return;
+        }
+        depth--;
+        long duration = 0;
+        if (depth < startNanos.length) {
+            duration = System.nanoTime() - startNanos[depth];
+            StepTimer.end(timerTokens[depth]);
+        }
+        String name = COMMAND_NAMES.computeIfAbsent(method,
+            m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+        EventJournal.command(name, duration, error);
+    }
+
+    private Object wrapResult(Method method, Object result) {
+        if (result == null) {
+            return null;
+        }
+        if (result == driver) {
+            return proxy;
+        }
+        if (result instanceof WebElement) {
+            return wrap(result);
+        }
+        if (result instanceof List) {
+            List<?> items = (List<?>) result;
+            if (items.isEmpty() || !(items.get(0) instanceof WebElement)) {
+                return result;
+            }
+            List<Object> wrapped = new ArrayList<>(items.size());
+            for (Object item : items) {
+                wrapped.add(item instanceof WebElement ? wrap(item) : item);
+            }
+            return wrapped;
+        }
+        Class<?> returnType = method.getReturnType();
+        // Helpers such as navigate(), switchTo() and manage().timeouts() send their own commands
+        if (returnType.isInterface() && returnType.getName().startsWith("org.openqa.selenium.")) {
+            return wrap(result);
+        }
+        return result;
+    }
+
+    private static Object[] unwrapAll(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] unwrapped = null;
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            Object plain = arg instanceof Object[] ? unwrapAll((Object[]) arg) : unwrap(arg);
+            if (plain != arg) {
+                if (unwrapped == null) {
+                    unwrapped = args.clone();
+                }
+                unwrapped[i] = plain;
+            }
+        }
+        return unwrapped != null ? unwrapped : args;
+    }
+
+    private static Object unwrap(Object arg) {
+        if (arg != null && Proxy.isProxyClass(arg.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(arg);
+            if (handler instanceof Handler) {
+                return ((Handler) handler).target;
+            }
+        }
+        return arg;
+    }
+
+    private static Object toJson(Object element) throws Throwable {
+        Method toJson;
+        try {
+            toJson = element.getClass().getMethod("toJson");
+        } catch (NoSuchMethodException e) {
+            return element;
+        }
+        try {
+            return toJson.invoke(element);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Collect the public interfaces of a class and its superclasses, plus the wrapper interfaces
+     */
+    private static Class<?>[] proxyInterfaces(Class<?> type) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            collectInterfaces(current, interfaces);
+        }
+        if (WebDriver.class.isAssignableFrom(type)) {
+            interfaces.add(WrapsDriver.class);
+        }
+        if (WebElement.class.isAssignableFrom(type)) {
+            interfaces.add(WrapsElement.class);
+            interfaces.add(JsonElement.class);
+        }
+        return interfaces.toArray(new Class<?>[0]);
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+        for (Class<?> candidate : type.getInterfaces()) {
+            if (Modifier.isPublic(candidate.getModifiers()) && interfaces.add(candidate)) {
+                collectInterfaces(candidate, interfaces);
+            }
+        }
+    }
+}
@@ -0,0 +1,870 @@
+package com.test.automation.utils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, typed snapshot of the framework configuration, resolved and validated once by {@link ConfigReader}.
+ * Getters return precomputed values, so they are cheap enough for element and page constructors.
+ */
+public final class Config {
+    private static final List<String> BROWSERS = List.of("chrome", "firefox", "edge");
+    private static final List<String> SCREENSHOT_FORMATS = List.of("jpg", "png");
+    private static final List<String> PAGE_METRICS_FORMATS = List.of("jsonl", "csv");
+    private static final List<String> LOAD_TARGETS = List.of("standin", "org");
+    private static final List<String> BASELINE_ACTIONS = List.of("flag", "fail");
+    private static final Pattern SHARD = Pattern.compile("([0-9]{1,4})/([0-9]{1,4})");
+
+    private final Map<String, String> values;
+    private final List<String> profiles;
+    private final String baseUrl;
+    private final Duration implicitWait;
+    private final Duration explicitWait;
+    private final Duration pageLoadTimeout;
+    private final long elementSnapshotCacheMillis;
+    private final long tableStreamIdleMillis;
+    private final String inputEntryStrategy;
+    private final boolean eventJournalEnabled;
+    private final String eventJournalDir;
+    private final String testUsername;
+    private final String testPassword;
+    private final boolean headlessMode;
+    private final String browserType;
+    private final boolean lightningMode;
+    private final String orgInstance;
+    private final String screenshotDir;
+    private final String screenshotFormat;
+    private final float screenshotQuality;
+    private final int screenshotMaxWidth;
+    private final int screenshotDedupDistance;
+    private final long screenshotDiskCapBytes;
+    private final int screenshotThreads;
+    private final int screenshotQueueSize;
+    private final boolean screenshotOnStep;
+    private final String reportDir;
+    private final int reportChunkSize;
+    private final int reportMaxEntries;
+    private final boolean pageMetricsEnabled;
+    private final String pageMetricsDir;
+    private final String pageMetricsFormat;
+    private final int loadUsers;
+    private final Duration loadRampUp;
+    private final Duration loadThinkTime;
+    private final Duration loadDuration;
+    private final String loadTarget;
+    private final boolean stepTimingEnabled;
+    private final String stepTimingDir;
+    private final String benchmarkResultsDir;
+    private final boolean standInEnabled;
+    private final int standInPort;
+    private final int standInThreads;
+    private final Duration standInLatency;
+    private final Duration standInSpinner;
+    private final int standInDomNodes;
+    private final int standInListSize;
+    private final String standInPassword;
+    private final boolean fixtureWorkerScope;
+    private final String dataApiUrl;
+    private final String dataApiVersion;
+    private final String dataApiToken;
+    private final int dataBatchSize;
+    private final int dataPoolBatchSize;
+    private final int dataPoolLowWater;
+    private final Duration dataPoolDeleteInterval;
+    private final int shardIndex;
+    private final int shardCount;
+    private final String shardDurations;
+    private final boolean baselineEnabled;
+    private final String baselineDir;
+    private final int baselineWindow;
+    private final int baselineMinRuns;
+    private final double baselineTolerance;
+    private final int baselineMadFactor;
+    private final long baselineMinDeltaMillis;
+    private final String baselineAction;
+
+    /**
+     * Build and validate a snapshot; every invalid or missing setting is reported in one exception
+     * @param values Resolved settings by key
+     * @param profiles Active profiles in the order they were applied
+     * @throws IllegalStateException if a setting is missing or invalid
+     */
+    Config(Map<String, String> values, List<String> profiles) {
+        this.values = Collections.unmodifiableMap(values);
+        this.profiles = Collections.unmodifiableList(new ArrayList<>(profiles));
+        Parser parser = new Parser(values);
+        this.baseUrl = parser.string("base.url");
+        this.implicitWait = Duration.ofSeconds(parser.nonNegative("implicit.wait"));
+        this.explicitWait = Duration.ofSeconds(parser.nonNegative("explicit.wait"));
+        this.pageLoadTimeout = Duration.ofSeconds(parser.nonNegative("page.load.timeout"));
+        this.elementSnapshotCacheMillis = parser.nonNegative("element.snapshot.cache.ms");
+        this.tableStreamIdleMillis = parser.nonNegative("table.stream.idle.ms");
+        this.inputEntryStrategy = parser.string("input.entry.strategy").toUpperCase(Locale.ROOT);
+        this.eventJournalEnabled = parser.bool("event.journal.enabled");
+        this.eventJournalDir = parser.string("event.journal.dir");
+        this.testUsername = parser.string("test.username");
+        this.testPassword = parser.string("test.password");
+        this.headlessMode = parser.bool("headless.mode");
+        this.browserType = parser.oneOf("browser.type", BROWSERS);
+        this.lightningMode = parser.bool("lightning.mode");
+        this.orgInstance = parser.string("org.instance");
+        this.screenshotDir = parser.string("screenshot.dir");
+        this.screenshotFormat = parser.oneOf("screenshot.format", SCREENSHOT_FORMATS);
+        this.screenshotQuality = (float) parser.fraction("screenshot.quality");
+        this.screenshotMaxWidth = (int) parser.range("screenshot.max.width", 1, Integer.MAX_VALUE);
+        this.screenshotDedupDistance = (int) parser.range("screenshot.dedup.distance", -1, 256);
+        this.screenshotDiskCapBytes = parser.range("screenshot.disk.cap.mb", 1, Integer.MAX_VALUE) * 1024 * 1024;
+        this.screenshotThreads = (int) parser.range("screenshot.threads", 1, 64);
+        this.screenshotQueueSize = (int) parser.range("screenshot.queue.size", 1, Integer.MAX_VALUE);
+        this.screenshotOnStep = parser.bool("screenshot.on.step");
+        this.reportDir = parser.string("report.dir");
+        this.reportChunkSize = (int) parser.range("report.chunk.size", 1, Integer.MAX_VALUE);
+        this.reportMaxEntries = (int) parser.range("report.max.entries", 0, Integer.MAX_VALUE);
+        this.pageMetricsEnabled = parser.bool("page.metrics.enabled");
+        this.pageMetricsDir = parser.string("page.metrics.dir");
+        this.pageMetricsFormat = parser.oneOf("page.metrics.format", PAGE_METRICS_FORMATS);
+        this.loadUsers = (int) parser.range("load.users", 1, 1000);
+        this.loadRampUp = Duration.ofSeconds(parser.nonNegative("load.ramp.up.seconds"));
+        this.loadThinkTime = Duration.ofMillis(parser.nonNegative("load.think.time.ms"));
+        this.loadDuration = Duration.ofSeconds(parser.nonNegative("load.duration.seconds"));
+        this.loadTarget = parser.oneOf("load.target", LOAD_TARGETS);
+        this.stepTimingEnabled = parser.bool("step.timing.enabled");
+        this.stepTimingDir = parser.string("step.timing.dir");
+        this.benchmarkResultsDir = parser.string("benchmark.results.dir");
+        this.standInEnabled = parser.bool("standin.enabled");
+        this.standInPort = (int) parser.range("standin.port", 0, 65535);
+        this.standInThreads = (int) parser.range("standin.threads", 1, 256);
+        this.standInLatency = Duration.ofMillis(parser.nonNegative("standin.latency.ms"));
+        this.standInSpinner = Duration.ofMillis(parser.nonNegative("standin.spinner.ms"));
+        this.standInDomNodes = (int) parser.range("standin.dom.nodes", 0, 1_000_000);
+        this.standInListSize = (int) parser.range("standin.list.size", 1, 1000);
+        this.standInPassword = values.getOrDefault("standin.password", "").trim();
+        this.fixtureWorkerScope = parser.bool("fixture.worker.scope");
+        this.dataApiUrl = values.getOrDefault("data.api.url", "").trim();
+        this.dataApiVersion = parser.string("data.api.version");
+        this.dataApiToken = values.getOrDefault("data.api.token", "").trim();
+        if (!dataApiToken.isEmpty()) {
+            validateDataApiUrl(parser, dataApiUrl.isEmpty() ? baseUrl : dataApiUrl, dataApiUrl.isEmpty());
+        }
+        this.dataBatchSize = (int) parser.range("data.batch.size", 1, 200);
+        this.dataPoolBatchSize = (int) parser.range("data.pool.batch.size", 1, 1000);
+        this.dataPoolLowWater = (int) parser.range("data.pool.low.water", 0, 1000);
+        this.dataPoolDeleteInterval = Duration.ofMillis(parser.range("data.pool.delete.interval.ms", 1,
+            Integer.MAX_VALUE));
+        String shard = values.getOrDefault("shard", "").trim();
+        Matcher shardMatcher = SHARD.matcher(shard);
+        if (shard.isEmpty()) {
+            this.shardIndex = 1;
+            this.shardCount = 1;
+        } else if (shardMatcher.matches() && Integer.parseInt(shardMatcher.group(1)) >= 1
+            && Integer.parseInt(shardMatcher.group(1)) <= Integer.parseInt(shardMatcher.group(2))) {
+            this.shardIndex = Integer.parseInt(shardMatcher.group(1));
+            this.shardCount = Integer.parseInt(shardMatcher.group(2));
+        } else {
+            parser.errors.add("shard must be i/N with 1 <= i <= N: " + shard);
+            this.shardIndex = 1;
+            this.shardCount = 1;
+        }
+        this.shardDurations = values.getOrDefault("shard.durations", "").trim();
+        this.baselineEnabled = parser.bool("baseline.enabled");
+        this.baselineDir = parser.string("baseline.dir");
+        this.baselineWindow = (int) parser.range("baseline.window", 1, 100);
+        this.baselineMinRuns = (int) parser.range("baseline.min.runs", 1, 100);
+        this.baselineTolerance = parser.fraction("baseline.tolerance");
+        this.baselineMadFactor = (int) parser.range("baseline.mad.factor", 0, 100);
+        this.baselineMinDeltaMillis = parser.nonNegative("baseline.min.delta.ms");
+        this.baselineAction = parser.oneOf("baseline.action", BASELINE_ACTIONS);
+        if (!parser.errors.isEmpty()) {
+            throw new IllegalStateException("Invalid configuration (profiles " + profiles + "):\n  "
+                + String.join("\n  ", parser.errors));
+        }
+    }
+
+    /**
+     * Get a setting by key
+     * @param key Setting key
+     * @return Value, null if not set
+     */
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Get all resolved settings
+     * @return Unmodifiable map of settings by key
+     */
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    /**
+     * Get the active configuration profiles
+     * @return Profiles in the order they were applied
+     */
+    public List<String> getProfiles() {
+        return profiles;
+    }
+
+    /**
+     * Get the Salesforce base URL
+     * @return Base URL
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Get the driver implicit wait
+     * @return Implicit wait
+     */
+    public Duration getImplicitWait() {
+        return implicitWait;
+    }
+
+    /**
+     * Get the default explicit wait of elements, pages and waits
+     * @return Explicit wait
+     */
+    public Duration getExplicitWait() {
+        return explicitWait;
+    }
+
+    /**
+     * Get the page load timeout
+     * @return Page load timeout
+     */
+    public Duration getPageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+
+    /**
+     * Get how long an element snapshot may be reused, 0 if not cached
+     * @return Snapshot reuse time in milliseconds
+     */
+    public long getElementSnapshotCacheMillis() {
+        return elementSnapshotCacheMillis;
+    }
+
+    /**
+     * Get how long streamed tables wait at the bottom for more rows
+     * @return Idle time in milliseconds
+     */
+    public long getTableStreamIdleMillis() {
+        return tableStreamIdleMillis;
+    }
+
+    /**
+     * Get the default text entry strategy of Input fields
+     * @return Upper-case strategy name
+     */
+    public String getInputEntryStrategy() {
+        return inputEntryStrategy;
+    }
+
+    /**
+     * Check if the event journal records events
+     * @return true if the journal is enabled
+     */
+    public boolean isEventJournalEnabled() {
+        return eventJournalEnabled;
+    }
+
+    /**
+     * Get the directory holding event journal runs
+     * @return Journal directory
+     */
+    public String getEventJournalDir() {
+        return eventJournalDir;
+    }
+
+    /**
+     * Get the test user name
+     * @return User name
+     */
+    public String getTestUsername() {
+        return testUsername;
+    }
+
+    /**
+     * Get the test user password
+     * @return Password
+     */
+    public String getTestPassword() {
+        return testPassword;
+    }
+
+    /**
+     * Check if browsers run headless
+     * @return true for headless browsers
+     */
+    public boolean isHeadlessMode() {
+        return headlessMode;
+    }
+
+    /**
+     * Get the browser to run
+     * @return Lower-case browser type (chrome, firefox or edge)
+     */
+    public String getBrowserType() {
+        return browserType;
+    }
+
+    /**
+     * Check if the org uses Lightning Experience
+     * @return true for Lightning
+     */
+    public boolean isLightningMode() {
+        return lightningMode;
+    }
+
+    /**
+     * Get the Salesforce org instance
+     * @return Org instance
+     */
+    public String getOrgInstance() {
+        return orgInstance;
+    }
+
+    /**
+     * Get the directory holding screenshot runs
+     * @return Screenshot directory
+     */
+    public String getScreenshotDir() {
+        return screenshotDir;
+    }
+
+    /**
+     * Get the format screenshots are stored in
+     * @return "jpg" or "png"
+     */
+    public String getScreenshotFormat() {
+        return screenshotFormat;
+    }
+
+    /**
+     * Get the JPEG quality of stored screenshots
+     * @return Quality between 0 and 1
+     */
+    public float getScreenshotQuality() {
+        return screenshotQuality;
+    }
+
+    /**
+     * Get the width screenshots are downscaled to
+     * @return Maximum width in pixels
+     */
+    public int getScreenshotMaxWidth() {
+        return screenshotMaxWidth;
+    }
+
+    /**
+     * Get how many perceptual hash bits a screenshot may differ from the previous one and still be dropped
+     * as a duplicate
+     * @return Hamming distance, -1 disables deduplication
+     */
+    public int getScreenshotDedupDistance() {
+        return screenshotDedupDistance;
+    }
+
+    /**
+     * Get the disk space screenshots may use before the oldest are deleted
+     * @return Cap in bytes
+     */
+    public long getScreenshotDiskCapBytes() {
+        return screenshotDiskCapBytes;
+    }
+
+    /**
+     * Get the number of background threads encoding and writing screenshots
+     * @return Thread count
+     */
+    public int getScreenshotThreads() {
+        return screenshotThreads;
+    }
+
+    /**
+     * Get the number of screenshots that may wait for encoding before step screenshots are dropped
+     * @return Queue size
+     */
+    public int getScreenshotQueueSize() {
+        return screenshotQueueSize;
+    }
+
+    /**
+     * Check if a screenshot is captured for every logged test step
+     * @return true to capture on every step
+     */
+    public boolean isScreenshotOnStep() {
+        return screenshotOnStep;
+    }
+
+    /**
+     * Get the directory holding test report runs
+     * @return Report directory
+     */
+    public String getReportDir() {
+        return reportDir;
+    }
+
+    /**
+     * Get the number of tests written to one report page
+     * @return Tests per page
+     */
+    public int getReportChunkSize() {
+        return reportChunkSize;
+    }
+
+    /**
+     * Get the number of log entries kept per test in the report
+     * @return Maximum entries per test
+     */
+    public int getReportMaxEntries() {
+        return reportMaxEntries;
+    }
+
+    /**
+     * Check if page metrics are recorded after navigations
+     * @return true if page metrics are enabled
+     */
+    public boolean isPageMetricsEnabled() {
+        return pageMetricsEnabled;
+    }
+
+    /**
+     * Get the directory holding the page metrics file
+     * @return Page metrics directory
+     */
+    public String getPageMetricsDir() {
+        return pageMetricsDir;
+    }
+
+    /**
+     * Get the format of the page metrics file
+     * @return "jsonl" or "csv"
+     */
+    public String getPageMetricsFormat() {
+        return pageMetricsFormat;
+    }
+
+    /**
+     * Get the number of concurrent virtual users of a load run
+     * @return User count
+     */
+    public int getLoadUsers() {
+        return loadUsers;
+    }
+
+    /**
+     * Get the time over which the virtual users of a load run start
+     * @return Ramp-up time
+     */
+    public Duration getLoadRampUp() {
+        return loadRampUp;
+    }
+
+    /**
+     * Get the pause of virtual users after each step
+     * @return Think time
+     */
+    public Duration getLoadThinkTime() {
+        return loadThinkTime;
+    }
+
+    /**
+     * Get how long virtual users keep starting journey iterations
+     * @return Load run duration
+     */
+    public Duration getLoadDuration() {
+        return loadDuration;
+    }
+
+    /**
+     * Get what a load run targets
+     * @return "standin" for the local stand-in server, "org" for base.url
+     */
+    public String getLoadTarget() {
+        return loadTarget;
+    }
+
+    /**
+     * Check if page-object methods created through Pages are timed
+     * @return true if step timing is enabled
+     */
+    public boolean isStepTimingEnabled() {
+        return stepTimingEnabled;
+    }
+
+    /**
+     * Get the directory the step timing reports are written to
+     * @return Step timing directory
+     */
+    public String getStepTimingDir() {
+        return stepTimingDir;
+    }
+
+    /**
+     * Get the directory the framework overhead benchmarks write their JSON results to
+     * @return Benchmark results directory
+     */
+    public String getBenchmarkResultsDir() {
+        return benchmarkResultsDir;
+    }
+
+    /**
+     * Check if StandInServerListener starts the local stand-in server for the suite
+     * @return true if the stand-in server is enabled
+     */
+    public boolean isStandInEnabled() {
+        return standInEnabled;
+    }
+
+    /**
+     * Get the port of the stand-in server started for the suite
+     * @return Port, 0 for any free port
+     */
+    public int getStandInPort() {
+        return standInPort;
+    }
+
+    /**
+     * Get the number of request threads of the stand-in server
+     * @return Thread count
+     */
+    public int getStandInThreads() {
+        return standInThreads;
+    }
+
+    /**
+     * Get the delay the stand-in server adds to every response
+     * @return Latency per response
+     */
+    public Duration getStandInLatency() {
+        return standInLatency;
+    }
+
+    /**
+     * Get how long the stand-in server's spinner covers each page
+     * @return Spinner duration, zero for no spinner
+     */
+    public Duration getStandInSpinner() {
+        return standInSpinner;
+    }
+
+    /**
+     * Get the number of extra elements on each stand-in page
+     * @return Extra DOM nodes
+     */
+    public int getStandInDomNodes() {
+        return standInDomNodes;
+    }
+
+    /**
+     * Get the number of rows in stand-in list views
+     * @return Rows per list
+     */
+    public int getStandInListSize() {
+        return standInListSize;
+    }
+
+    /**
+     * Get the only password the stand-in server accepts
+     * @return Password, empty to accept any non-empty password
+     */
+    public String getStandInPassword() {
+        return standInPassword;
+    }
+
+    /**
+     * Check if test classes declaring the worker fixture scope share one signed-in browser per worker thread
+     * @return true to share, false to give every test a fresh browser
+     */
+    public boolean isFixtureWorkerScope() {
+        return fixtureWorkerScope;
+    }
+
+    /**
+     * Get the URL of the org the test data API calls go to
+     * @return Instance URL, empty to use base.url
+     */
+    public String getDataApiUrl() {
+        return dataApiUrl;
+    }
+
+    /**
+     * Get the version of the test data API
+     * @return API version, e.g. "v59.0"
+     */
+    public String getDataApiVersion() {
+        return dataApiVersion;
+    }
+
+    /**
+     * Get the OAuth access token of the test data API
+     * @return Access token, empty if not set
+     */
+    public String getDataApiToken() {
+        return dataApiToken;
+    }
+
+    /**
+     * Check whether the test data API is configured; without a token tests set up their records through the UI
+     * @return true if data.api.token is set
+     */
+    public boolean isDataApiEnabled() {
+        return !dataApiToken.isEmpty();
+    }
+
+    /**
+     * Get the number of records created or deleted per test data API request
+     * @return Records per request
+     */
+    public int getDataBatchSize() {
+        return dataBatchSize;
+    }
+
+    /**
+     * Get the number of records a record pool creates at a time
+     * @return Records per batch
+     */
+    public int getDataPoolBatchSize() {
+        return dataPoolBatchSize;
+    }
+
+    /**
+     * Get the number of available records below which a record pool creates the next batch
+     * @return Low-water mark
+     */
+    public int getDataPoolLowWater() {
+        return dataPoolLowWater;
+    }
+
+    /**
+     * Get the time between batched deletions of released pool records
+     * @return Delete interval
+     */
+    public Duration getDataPoolDeleteInterval() {
+        return dataPoolDeleteInterval;
+    }
+
+    /**
+     * Check if this run executes one shard of the suites
+     * @return true if a shard is set
+     */
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * Get the shard this run executes
+     * @return Shard number, 1 to {@link #getShardCount()}
+     */
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    /**
+     * Get the number of shards the suites are split into
+     * @return Shard count, 1 if not sharded
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Get the committed file of expected test durations the shards are balanced by (see {@link ShardDurations})
+     * @return Path of the durations file, empty to count every test the same
+     */
+    public String getShardDurations() {
+        return shardDurations;
+    }
+
+    /**
+     * Check if test timings are recorded and compared against the performance baseline
+     * @return true if the regression gate is enabled
+     */
+    public boolean isBaselineEnabled() {
+        return baselineEnabled;
+    }
+
+    /**
+     * Get the directory of the performance baseline runs
+     * @return Baseline directory
+     */
+    public String getBaselineDir() {
+        return baselineDir;
+    }
+
+    /**
+     * Get the number of recent runs kept as the baseline
+     * @return Run count
+     */
+    public int getBaselineWindow() {
+        return baselineWindow;
+    }
+
+    /**
+     * Get the number of baseline runs a test needs before it is compared
+     * @return Run count
+     */
+    public int getBaselineMinRuns() {
+        return baselineMinRuns;
+    }
+
+    /**
+     * Get the fraction the baseline median may be exceeded by
+     * @return Tolerance, e.g. 0.25 for 25%
+     */
+    public double getBaselineTolerance() {
+        return baselineTolerance;
+    }
+
+    /**
+     * Get the number of robust standard deviations the baseline median may be exceeded by
+     * @return Factor applied to the scaled median absolute deviation
+     */
+    public int getBaselineMadFactor() {
+        return baselineMadFactor;
+    }
+
+    /**
+     * Get the smallest slowdown that counts as a regression
+     * @return Milliseconds
+     */
+    public long getBaselineMinDeltaMillis() {
+        return baselineMinDeltaMillis;
+    }
+
+    /**
+     * Get what the regression gate does with a regressed test
+     * @return "flag" to report it, "fail" to also fail the test
+     */
+    public String getBaselineAction() {
+        return baselineAction;
+    }
+
+    @Override
+    public String toString() {
+        return "Config{profiles=" + profiles + ", baseUrl=" + baseUrl + ", browserType=" + browserType
+            + ", headlessMode=" + headlessMode + ", explicitWait=" + explicitWait.getSeconds() + "s}";
+    }
+
+    /**
+     * Check that the test data API calls go to an instance URL: Lightning hosts (*.lightning.force.com) do not
+     * serve the REST API, so a base.url of the Lightning UI cannot be used for it
+     */
+    private static void validateDataApiUrl(Parser parser, String url, boolean fromBaseUrl) {
+        String key = fromBaseUrl ? "data.api.url (empty, so base.url)" : "data.api.url";
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            parser.errors.add(key + " is not a URL: " + url);
+            return;
+        }
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        if (!(scheme.equals("http") || scheme.equals("https")) || host.isEmpty()) {
+            parser.errors.add(key + " must be an http(s) URL: " + url);
+        } else if (host.endsWith(".lightning.force.com")) {
+            parser.errors.add(key + " must be the instance URL serving the REST API (e.g. https://"
+                + host.substring(0, host.length() - ".lightning.force.com".length())
+                + ".my.salesforce.com), not a Lightning URL: " + url);
+        }
+    }
+
+    /**
+     * Parses settings, collecting errors instead of stopping at the first one
+     */
+    private static final class Parser {
+        private final Map<String, String> values;
+        private final List<String> errors = new ArrayList<>();
+
+        private Parser(Map<String, String> values) {
+            this.values = values;
+        }
+
+        private String string(String key) {
+            String value = values.get(key);
+            if (value == null || value.trim().isEmpty()) {
+                errors.add(key + " is not specified");
+                return "";
+            }
+            return value.trim();
+        }
+
+        private long nonNegative(String key) {
+            String value = string(key);
+            if (value.isEmpty()) {
+                return 0;
+            }
+            try {
+                long number = Long.parseLong(value);
+                if (number < 0) {
+                    errors.add(key + " must not be negative: " + value);
+                }
+                return number;
+            } catch (NumberFormatException e) {
+                errors.add(key + " is not a number: " + value);
+                return 0;
+            }
+        }
+
+        private long range(String key, long min, long max) {
+            String value = string(key);
+            if (value.isEmpty()) {
+                return min;
+            }
+            try {
+                long number = Long.parseLong(value);
+                if (number < min || number > max) {
+                    errors.add(key + " must be between " + min + " and " + max + ": " + value);
+                }
+                return number;
+            } catch (NumberFormatException e) {
+                errors.add(key + " is not a number: " + value);
+                return min;
+            }
+        }
+
+        private double fraction(String key) {
+            String value = string(key);
+            if (value.isEmpty()) {
+                return 1;
+            }
+            try {
+                double number = Double.parseDouble(value);
+                if (!(number > 0 && number <= 1)) {
+                    errors.add(key + " must be greater than 0 and at most 1: " + value);
+                }
+                return number;
+            } catch (NumberFormatException e) {
+                errors.add(key + " is not a number: " + value);
+                return 1;
+            }
+        }
+
+        private boolean bool(String key) {
+            String value = string(key);
+            if (!value.isEmpty() && !"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+                errors.add(key + " must be true or false: " + value);
+            }
+            return Boolean.parseBoolean(value);
+        }
+
+        private String oneOf(String key, List<String> allowed) {
+            String value = string(key).toLowerCase(Locale.ROOT);
+            if (!value.isEmpty() && !allowed.contains(value)) {
+                errors.add(key + " must be one of " + allowed + ": " + value);
+            }
+            return value;
+        }
+    }
+}
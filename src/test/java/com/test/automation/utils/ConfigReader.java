@@ -1,27 +1,44 @@
 package com.test.automation.utils;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 
+/**
+ * Resolves the framework configuration once, at class initialization, into an immutable {@link Config}.
+ * Layers, each overriding the previous one:
+ * <ol>
+ *   <li>config.properties on the classpath (required)</li>
+ *   <li>config-&lt;profile&gt;.properties on the classpath for each profile in config.profiles
+ *       (comma-separated; taken from -Dconfig.profiles, the CONFIG_PROFILES environment variable or the file)</li>
+ *   <li>environment variables named after the key in upper case with dots as underscores (BASE_URL)</li>
+ *   <li>system properties with the same key (-Dbase.url=...)</li>
+ * </ol>
+ * Only keys defined by the files are overridden. Files are read from the classpath, so the suite works from a
+ * packaged jar or any working directory.
+ */
 public class ConfigReader {
-    private static Properties properties;
-    private static final String CONFIG_PATH = "src/test/resources/config.properties";
-
-    static {
-        try {
-            properties = new Properties();
-            FileInputStream fis = new FileInputStream(CONFIG_PATH);
-            properties.load(fis);
-            fis.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-            throw new RuntimeException("Failed to load config.properties file");
-        }
+    private static final String CONFIG_FILE = "config.properties";
+    private static final String PROFILES_KEY = "config.profiles";
+
+    private static final Config CONFIG = load();
+
+    /**
+     * Get the configuration snapshot
+     * @return Typed configuration
+     */
+    public static Config get() {
+        return CONFIG;
     }
 
     public static String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = CONFIG.get(key);
         if (value == null) {
             throw new RuntimeException(key + " not specified in config.properties file");
         }
@@ -35,4 +52,50 @@ public class ConfigReader {
     public static boolean getBooleanProperty(String key) {
         return Boolean.parseBoolean(getProperty(key));
     }
-} 
\ No newline at end of file
+
+    private static Config load() {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (!readResource(CONFIG_FILE, values)) {
+            throw new IllegalStateException(CONFIG_FILE + " not found on the classpath");
+        }
+        List<String> profiles = new ArrayList<>();
+        for (String profile : override(PROFILES_KEY, values.getOrDefault(PROFILES_KEY, "")).split(",")) {
+            if (!profile.trim().isEmpty()) {
+                String file = "config-" + profile.trim() + ".properties";
+                if (!readResource(file, values)) {
+                    throw new IllegalStateException("Profile " + profile.trim() + " has no " + file + " on the classpath");
+                }
+                profiles.add(profile.trim());
+            }
+        }
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            entry.setValue(override(entry.getKey(), entry.getValue()));
+        }
+        return new Config(values, profiles);
+    }
+
+    /**
+     * Apply the environment variable and then the system property for a key
+     */
+    private static String override(String key, String value) {
+        String fromEnvironment = System.getenv(key.toUpperCase(Locale.ROOT).replace('.', '_'));
+        String fromProperty = System.getProperty(key);
+        return fromProperty != null ? fromProperty : fromEnvironment != null ? fromEnvironment : value;
+    }
+
+    private static boolean readResource(String name, Map<String, String> values) {
+        try (InputStream in = ConfigReader.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                return false;
+            }
+            Properties properties = new Properties();
+            properties.load(in);
+            for (String key : properties.stringPropertyNames()) {
+                values.put(key, properties.getProperty(key));
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + name, e);
+        }
+    }
+}
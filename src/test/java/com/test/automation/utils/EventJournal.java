@@ -0,0 +1,310 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Structured binary journal of test, step, driver command and error events.
+ * Every worker thread appends to its own memory-mapped file under event.journal.dir/&lt;run&gt;, so recording an
+ * event takes no lock, makes no system call and (apart from error stack traces) allocates nothing. Events carry
+ * the microseconds since the worker's journal was opened and the ordinal of the test running on the worker;
+ * the file header holds the thread and the wall-clock start. Use {@link EventJournalReader} to print per-test
+ * timelines.
+ *
+ * File layout (little endian): header = magic, version, thread id, start epoch micros, thread name;
+ * record = int length (0 marks the end), byte type, int test ordinal, long micros, long duration nanos,
+ * name, detail; strings are an int byte count followed by UTF-8 bytes.
+ */
+public final class EventJournal {
+    static final int MAGIC = 0x4A564545; // "EEVJ"
+    static final int VERSION = 1;
+    static final String FILE_SUFFIX = ".journal";
+
+    private static final int SEGMENT_BYTES = 4 * 1024 * 1024;
+    private static final int MAX_STRING_CHARS = 256 * 1024;
+    private static final int RECORD_HEADER_BYTES = 4 + 1 + 4 + 8 + 8;
+
+    /**
+     * Kinds of journal events
+     */
+    public enum Type {
+        TEST_START, TEST_END, STEP, COMMAND, LOG, ERROR;
+
+        private static final Type[] VALUES = values();
+
+        static Type fromCode(int code) {
+            return VALUES[code];
+        }
+    }
+
+    private static final boolean ENABLED = ConfigReader.get().isEventJournalEnabled();
+    private static final Path RUN_DIRECTORY = Paths.get(ConfigReader.get().getEventJournalDir(),
+        new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-" + ProcessHandle.current().pid());
+    private static final List<Writer> WRITERS = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Writer> WRITER = ThreadLocal.withInitial(EventJournal::openWriter);
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(EventJournal::closeAll, "journal-shutdown"));
+        }
+    }
+
+    private EventJournal() {
+    }
+
+    /**
+     * Check if events are being recorded
+     * @return true if the journal is enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Get the directory holding this run's journal files
+     * @return Run directory
+     */
+    public static Path getRunDirectory() {
+        return RUN_DIRECTORY;
+    }
+
+    /**
+     * Record the start of a test on the current worker; later events of the worker belong to it
+     * until the next test starts (so @AfterMethod teardown stays with the test it cleans up)
+     * @param testId Test identifier (class#method, or the class while only its setup is known)
+     */
+    public static void testStarted(String testId) {
+        if (ENABLED) {
+            Writer writer = WRITER.get();
+            writer.testOrdinal++;
+            writer.append(Type.TEST_START, 0, testId, null);
+        }
+    }
+
+    /**
+     * Record the result of the test running on the current worker; a failure cause is recorded as an
+     * ERROR event before it
+     * @param testId Test identifier (class#method)
+     * @param status Result status (e.g. PASSED, FAILED, SKIPPED)
+     * @param error Failure cause, may be null
+     */
+    public static void testFinished(String testId, String status, Throwable error) {
+        if (ENABLED) {
+            if (error != null) {
+                error(testId + " " + status, error);
+            }
+            WRITER.get().append(Type.TEST_END, 0, testId, status);
+        }
+    }
+
+    /**
+     * Record a test step
+     * @param description Step description
+     */
+    public static void step(String description) {
+        if (ENABLED) {
+            WRITER.get().append(Type.STEP, 0, description, null);
+        }
+    }
+
+    /**
+     * Record a completed driver command
+     * @param name Command name (e.g. WebDriver.get)
+     * @param durationNanos Command duration in nanoseconds
+     * @param error Failure cause, null if the command succeeded
+     */
+    public static void command(String name, long durationNanos, Throwable error) {
+        if (ENABLED) {
+            WRITER.get().append(Type.COMMAND, durationNanos, name, error != null ? stackTrace(error) : null);
+        }
+    }
+
+    /**
+     * Record a log message
+     * @param level Level name
+     * @param message Message
+     */
+    public static void log(String level, String message) {
+        if (ENABLED) {
+            WRITER.get().append(Type.LOG, 0, level, message);
+        }
+    }
+
+    /**
+     * Record a log message with the full stack trace of its cause
+     * @param level Level name
+     * @param message Message
+     * @param error Cause, null if none
+     */
+    public static void log(String level, String message, Throwable error) {
+        if (ENABLED) {
+            WRITER.get().append(Type.LOG, 0, level, error != null ? message + "\n" + stackTrace(error) : message);
+        }
+    }
+
+    /**
+     * Record an error with its full stack trace
+     * @param message Error message
+     * @param error Cause
+     */
+    public static void error(String message, Throwable error) {
+        if (ENABLED) {
+            WRITER.get().append(Type.ERROR, 0, message, error != null ? stackTrace(error) : null);
+        }
+    }
+
+    private static String stackTrace(Throwable error) {
+        StringWriter out = new StringWriter();
+        error.printStackTrace(new PrintWriter(out));
+        return out.toString();
+    }
+
+    private static Writer openWriter() {
+        Thread thread = Thread.currentThread();
+        String fileName = "worker-" + thread.getName().replaceAll("[^A-Za-z0-9_.-]", "_") + "-" + thread.getId() + FILE_SUFFIX;
+        try {
+            Files.createDirectories(RUN_DIRECTORY);
+            Writer writer = new Writer(RUN_DIRECTORY.resolve(fileName), thread);
+            WRITERS.add(writer);
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event journal " + fileName, e);
+        }
+    }
+
+    private static void closeAll() {
+        for (Writer writer : WRITERS) {
+            writer.close();
+        }
+    }
+
+    /**
+     * Append-only writer owned by one worker thread
+     */
+    private static final class Writer {
+        private final Path path;
+        private final FileChannel channel;
+        private final long startNanos = System.nanoTime();
+        private MappedByteBuffer buffer;
+        private long segmentStart;
+        private int testOrdinal;
+        private volatile boolean closed;
+
+        private Writer(Path path, Thread thread) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            map(0);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(thread.getId());
+            buffer.putLong(System.currentTimeMillis() * 1000);
+            putString(thread.getName());
+        }
+
+        private void append(Type type, long durationNanos, String name, String detail) {
+            if (closed) {
+                return;
+            }
+            name = truncate(name);
+            detail = truncate(detail);
+            // Worst case three UTF-8 bytes per char; the next mapping starts where this record would have
+            long worstCase = RECORD_HEADER_BYTES + 8 + 3L * (length(name) + length(detail));
+            if (worstCase > buffer.remaining()) {
+                roll();
+            }
+            int start = buffer.position();
+            buffer.position(start + 4);
+            buffer.put((byte) type.ordinal());
+            buffer.putInt(testOrdinal);
+            buffer.putLong((System.nanoTime() - startNanos) / 1000);
+            buffer.putLong(durationNanos);
+            putString(name);
+            putString(detail);
+            // Publish the record by writing its length last
+            buffer.putInt(start, buffer.position() - start);
+        }
+
+        private void roll() {
+            try {
+                map(segmentStart + buffer.position());
+            } catch (IOException e) {
+                closed = true;
+                throw new UncheckedIOException("Failed to extend event journal " + path, e);
+            }
+        }
+
+        private void map(long position) throws IOException {
+            segmentStart = position;
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, SEGMENT_BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        private static String truncate(String value) {
+            return value != null && value.length() > MAX_STRING_CHARS ? value.substring(0, MAX_STRING_CHARS) : value;
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+
+        /**
+         * Write a string as a byte count and UTF-8 bytes without allocating; null is written as -1
+         */
+        private void putString(String value) {
+            if (value == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            int lengthPosition = buffer.position();
+            buffer.position(lengthPosition + 4);
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer.put((byte) c);
+                } else if (c < 0x800) {
+                    buffer.put((byte) (0xC0 | (c >> 6)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else {
+                    buffer.put((byte) (0xE0 | (c >> 12)));
+                    buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+            buffer.putInt(lengthPosition, buffer.position() - lengthPosition - 4);
+        }
+
+        private synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close event journal " + path + " - " + e.getMessage());
+            }
+        }
+    }
+}
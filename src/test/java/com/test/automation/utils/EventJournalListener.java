@@ -0,0 +1,57 @@
+package com.test.automation.utils;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener that gives event journal records their test identity.
+ * A test starts with its first @BeforeMethod (or the test method itself) and its events run until the next test
+ * starts on the same worker, so setup and teardown commands are part of the test's timeline.
+ * Register in the suite xml: &lt;listener class-name="com.test.automation.utils.EventJournalListener"/&gt;
+ */
+public class EventJournalListener implements IInvokedMethodListener {
+    private static final ThreadLocal<Boolean> TEST_RUNNING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        boolean startsTest = method.isTestMethod() || testMethod.isBeforeMethodConfiguration();
+        if (startsTest && !TEST_RUNNING.get()) {
+            EventJournal.testStarted(method.isTestMethod() ? testId(testMethod) : testMethod.getRealClass().getSimpleName());
+            TEST_RUNNING.set(Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            EventJournal.testFinished(testId(method.getTestMethod()), statusName(testResult.getStatus()),
+                testResult.getThrowable());
+            TEST_RUNNING.set(Boolean.FALSE);
+        } else if (method.getTestMethod().isBeforeMethodConfiguration() && testResult.getStatus() == ITestResult.FAILURE) {
+            // The test method will be skipped without being invoked
+            EventJournal.testFinished(method.getTestMethod().getRealClass().getSimpleName(), "SETUP FAILED",
+                testResult.getThrowable());
+            TEST_RUNNING.set(Boolean.FALSE);
+        }
+    }
+
+    private static String testId(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "#" + method.getMethodName();
+    }
+
+    private static String statusName(int status) {
+        switch (status) {
+            case ITestResult.SUCCESS:
+                return "PASSED";
+            case ITestResult.FAILURE:
+                return "FAILED";
+            case ITestResult.SKIP:
+                return "SKIPPED";
+            default:
+                return "STATUS_" + status;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads {@link EventJournal} files and reconstructs per-test timelines.
+ * Run with: java -cp &lt;test classpath&gt; com.test.automation.utils.EventJournalReader [run directory or file] [test filter]
+ * (defaults to the latest run under event.journal.dir)
+ */
+public final class EventJournalReader {
+
+    private EventJournalReader() {
+    }
+
+    /**
+     * One journal event
+     */
+    public static final class Event {
+        private final EventJournal.Type type;
+        private final String worker;
+        private final int testOrdinal;
+        private final long epochMicros;
+        private final long durationNanos;
+        private final String name;
+        private final String detail;
+
+        private Event(EventJournal.Type type, String worker, int testOrdinal, long epochMicros, long durationNanos,
+                      String name, String detail) {
+            this.type = type;
+            this.worker = worker;
+            this.testOrdinal = testOrdinal;
+            this.epochMicros = epochMicros;
+            this.durationNanos = durationNanos;
+            this.name = name;
+            this.detail = detail;
+        }
+
+        /**
+         * Get the kind of event
+         * @return Event type
+         */
+        public EventJournal.Type getType() {
+            return type;
+        }
+
+        /**
+         * Get the name of the worker thread that recorded the event
+         * @return Thread name
+         */
+        public String getWorker() {
+            return worker;
+        }
+
+        /**
+         * Get the ordinal of the test that was running on the worker, 0 before the first test
+         * @return Test ordinal within the worker
+         */
+        public int getTestOrdinal() {
+            return testOrdinal;
+        }
+
+        /**
+         * Get the wall-clock time of the event
+         * @return Microseconds since the epoch
+         */
+        public long getEpochMicros() {
+            return epochMicros;
+        }
+
+        /**
+         * Get the duration of a command event
+         * @return Duration in nanoseconds, 0 for other events
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * Get the event name: test id, step description, command name or log level
+         * @return Event name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the event detail: test status, log message or stack trace
+         * @return Detail, null if none
+         */
+        public String getDetail() {
+            return detail;
+        }
+    }
+
+    /**
+     * Read all events of one journal file in recording order
+     * @param file Journal file
+     * @return Events
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    public static List<Event> read(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < 8 || buffer.getInt() != EventJournal.MAGIC || buffer.getInt() != EventJournal.VERSION) {
+            throw new IOException("Not an event journal (or unsupported version): " + file);
+        }
+        buffer.getLong(); // thread id
+        long startMicros = buffer.getLong();
+        String worker = getString(buffer);
+        List<Event> events = new ArrayList<>();
+        while (buffer.remaining() >= 4) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining() + 4) {
+                // Zero marks the end; a partial record means the writer stopped mid-append
+                break;
+            }
+            EventJournal.Type type = EventJournal.Type.fromCode(buffer.get());
+            int testOrdinal = buffer.getInt();
+            long micros = buffer.getLong();
+            long durationNanos = buffer.getLong();
+            String name = getString(buffer);
+            String detail = getString(buffer);
+            events.add(new Event(type, worker, testOrdinal, startMicros + micros, durationNanos, name, detail));
+            buffer.position(start + length);
+        }
+        return events;
+    }
+
+    /**
+     * Group the events of a run (directory) or a single journal file by test.
+     * Keys are "test id [worker]"; events recorded outside any test are keyed "(no test) [worker]".
+     * @param path Run directory or journal file
+     * @return Timelines ordered by start time, each in recording order
+     * @throws IOException if a journal cannot be read
+     */
+    public static Map<String, List<Event>> timelines(Path path) throws IOException {
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> listing = Files.list(path)) {
+                files = listing.filter(p -> p.getFileName().toString().endsWith(EventJournal.FILE_SUFFIX))
+                    .sorted().collect(Collectors.toList());
+            }
+        } else {
+            files = List.of(path);
+        }
+        List<List<Event>> groups = new ArrayList<>();
+        for (Path file : files) {
+            List<Event> current = null;
+            int ordinal = -1;
+            for (Event event : read(file)) {
+                if (current == null || event.testOrdinal != ordinal) {
+                    current = new ArrayList<>();
+                    groups.add(current);
+                    ordinal = event.testOrdinal;
+                }
+                current.add(event);
+            }
+        }
+        groups.sort(Comparator.comparingLong(group -> group.get(0).epochMicros));
+        Map<String, List<Event>> timelines = new LinkedHashMap<>();
+        for (List<Event> group : groups) {
+            Event first = group.get(0);
+            String test = first.type == EventJournal.Type.TEST_START ? first.name : "(no test)";
+            for (Event event : group) {
+                // The start may only name the class when it was recorded by setup
+                if (event.type == EventJournal.Type.TEST_END) {
+                    test = event.name;
+                }
+            }
+            String key = test + " [" + first.worker + "]";
+            // Repeated runs of a test on the same worker (retries, data providers) stay separate
+            String unique = key;
+            for (int run = 2; timelines.containsKey(unique); run++) {
+                unique = key + " #" + run;
+            }
+            timelines.put(unique, group);
+        }
+        return timelines;
+    }
+
+    /**
+     * Print timelines with times relative to the start of each test
+     * @param timelines Timelines from {@link #timelines(Path)}
+     * @param filter Only print tests whose key contains this text, null for all
+     * @param out Output stream
+     */
+    public static void print(Map<String, List<Event>> timelines, String filter, PrintStream out) {
+        for (Map.Entry<String, List<Event>> timeline : timelines.entrySet()) {
+            if (filter != null && !timeline.getKey().contains(filter)) {
+                continue;
+            }
+            List<Event> events = timeline.getValue();
+            long start = events.get(0).epochMicros;
+            Event last = events.get(events.size() - 1);
+            String status = "NOT FINISHED";
+            for (Event event : events) {
+                if (event.type == EventJournal.Type.TEST_END) {
+                    status = event.detail;
+                }
+            }
+            out.println("== " + timeline.getKey() + " " + status + " at " + Instant.ofEpochSecond(0, start * 1000)
+                + ", " + String.format("%.1f ms", (last.epochMicros - start) / 1000.0));
+            for (Event event : events) {
+                StringBuilder line = new StringBuilder(String.format("  %+10.3f ms  %-10s %s",
+                    (event.epochMicros - start) / 1000.0, event.type, event.name));
+                if (event.type == EventJournal.Type.COMMAND) {
+                    line.append(String.format(" (%.3f ms)", event.durationNanos / 1_000_000.0));
+                }
+                if (event.detail != null) {
+                    line.append(event.detail.contains("\n") ? "\n      " + event.detail.trim().replace("\n", "\n      ")
+                        : " " + event.detail);
+                }
+                out.println(line);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = args.length > 0 ? Paths.get(args[0]) : latestRun();
+        print(timelines(path), args.length > 1 ? args[1] : null, System.out);
+    }
+
+    private static Path latestRun() throws IOException {
+        Path root = Paths.get(ConfigReader.get().getEventJournalDir());
+        try (Stream<Path> runs = Files.list(root)) {
+            return runs.filter(Files::isDirectory)
+                .max(Comparator.comparing((Path run) -> run.toFile().lastModified()))
+                .orElseThrow(() -> new IOException("No journal runs under " + root));
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,40 @@
+package com.test.automation.utils;
+
+/**
+ * JSON string literals for the hand-written JSON lines of the reports, metrics and benchmark results
+ */
+public final class JsonStrings {
+
+    private JsonStrings() {
+    }
+
+    /**
+     * Quote and escape a string as a JSON string literal
+     * @param text Text to quote
+     * @return JSON string literal
+     */
+    public static String quote(String text) {
+        return append(new StringBuilder(text.length() + 2), text).toString();
+    }
+
+    /**
+     * Append a string as a JSON string literal
+     * @param json Builder to append to
+     * @param text Text to quote
+     * @return The builder
+     */
+    public static StringBuilder append(StringBuilder json, String text) {
+        json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"');
+    }
+}
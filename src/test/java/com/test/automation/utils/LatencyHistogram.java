@@ -0,0 +1,102 @@
+package com.test.automation.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent latency histogram with HdrHistogram-style log-linear buckets: values up to 128 microseconds are exact, larger
+ * values fall into one of 64 buckets per power of two, so every recorded latency (up to about 38 hours) is kept
+ * with at most 1.6% relative error in a fixed 2 K-slot array. Recording is lock-free.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int MAX_BUCKET = 30;
+    private static final long MAX_MICROS = (2L * SUB_BUCKETS << MAX_BUCKET) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(2 * SUB_BUCKETS + MAX_BUCKET * SUB_BUCKETS);
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record one latency
+     * @param nanos Latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.min(Math.max(nanos / 1000, 0), MAX_MICROS);
+        counts.incrementAndGet(index(micros));
+        totalMicros.add(micros);
+        count.incrementAndGet();
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Get the number of recorded latencies
+     * @return Count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Get the mean latency
+     * @return Mean in milliseconds, 0 if nothing was recorded
+     */
+    public double getMeanMillis() {
+        long recorded = count.get();
+        return recorded == 0 ? 0 : totalMicros.sum() / 1000.0 / recorded;
+    }
+
+    /**
+     * Get the highest recorded latency
+     * @return Maximum in milliseconds
+     */
+    public double getMaxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * Get the latency at a percentile, i.e. the smallest latency that at least that share of recordings do not
+     * exceed
+     * @param percentile Percentile between 0 and 100
+     * @return Latency in milliseconds (upper bound of its bucket), 0 if nothing was recorded
+     */
+    public double getPercentileMillis(double percentile) {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), maxMicros.get()) / 1000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    private static int index(long micros) {
+        if (micros < 2 * SUB_BUCKETS) {
+            return (int) micros;
+        }
+        // Bucket b holds [64 << b, 128 << b) in 64 steps of 1 << b
+        int bucket = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return 2 * SUB_BUCKETS + (bucket - 1) * SUB_BUCKETS + (int) ((micros >> bucket) - SUB_BUCKETS);
+    }
+
+    private static long highestEquivalent(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int bucket = (index - 2 * SUB_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = (index - 2 * SUB_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << bucket) - 1;
+    }
+}
@@ -1,59 +1,268 @@
 package com.test.automation.utils;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 
 /**
  * Simple lightweight logger for the framework
  * Provides basic logging functionality with minimal overhead
+ * Messages are queued and written to the log4j2 appenders by a background thread
+ * Parameterized ("{}" placeholders) and Supplier overloads build the message only when the level is enabled;
+ * levels can be set per package with -Dlogging.level.&lt;package&gt;=&lt;level&gt;
  */
 public class LightLogger {
     
-    private static final boolean DEBUG_ENABLED = Boolean.parseBoolean(System.getProperty("debug.logging", "false"));
-    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final String LOGGER_NAME = LightLogger.class.getName();
+    
+    /**
+     * Check if debug messages are logged for the calling class
+     * @return true if debug logging is enabled
+     */
+    public static boolean isDebugEnabled() {
+        return LogLevels.isEnabled(Level.DEBUG);
+    }
     
     /**
      * Log an info message
      */
     public static void info(String message) {
-        log("INFO", message);
+        if (LogLevels.isEnabled(Level.INFO)) {
+            log(Level.INFO, message);
+        }
+    }
+    
+    /**
+     * Log an info message, replacing the "{}" placeholder with the argument
+     */
+    public static void info(String pattern, Object arg) {
+        if (LogLevels.isEnabled(Level.INFO)) {
+            log(Level.INFO, ParameterizedMessage.format(pattern, new Object[] {arg}));
+        }
+    }
+    
+    /**
+     * Log an info message, replacing the "{}" placeholders with the arguments
+     */
+    public static void info(String pattern, Object arg1, Object arg2) {
+        if (LogLevels.isEnabled(Level.INFO)) {
+            log(Level.INFO, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2}));
+        }
+    }
+    
+    /**
+     * Log an info message, replacing the "{}" placeholders with the arguments
+     */
+    public static void info(String pattern, Object arg1, Object arg2, Object arg3) {
+        if (LogLevels.isEnabled(Level.INFO)) {
+            log(Level.INFO, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2, arg3}));
+        }
+    }
+    
+    /**
+     * Log an info message, calling the supplier only if the level is enabled
+     */
+    public static void info(Supplier<String> message) {
+        if (LogLevels.isEnabled(Level.INFO)) {
+            log(Level.INFO, message.get());
+        }
     }
     
     /**
      * Log a warning message
      */
     public static void warn(String message) {
-        log("WARN", message);
+        if (LogLevels.isEnabled(Level.WARN)) {
+            log(Level.WARN, message);
+        }
+    }
+    
+    /**
+     * Log a warning message, replacing the "{}" placeholder with the argument
+     */
+    public static void warn(String pattern, Object arg) {
+        if (LogLevels.isEnabled(Level.WARN)) {
+            log(Level.WARN, ParameterizedMessage.format(pattern, new Object[] {arg}));
+        }
+    }
+    
+    /**
+     * Log a warning message, replacing the "{}" placeholders with the arguments
+     */
+    public static void warn(String pattern, Object arg1, Object arg2) {
+        if (LogLevels.isEnabled(Level.WARN)) {
+            log(Level.WARN, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2}));
+        }
+    }
+    
+    /**
+     * Log a warning message, replacing the "{}" placeholders with the arguments
+     */
+    public static void warn(String pattern, Object arg1, Object arg2, Object arg3) {
+        if (LogLevels.isEnabled(Level.WARN)) {
+            log(Level.WARN, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2, arg3}));
+        }
+    }
+    
+    /**
+     * Log a warning message, calling the supplier only if the level is enabled
+     */
+    public static void warn(Supplier<String> message) {
+        if (LogLevels.isEnabled(Level.WARN)) {
+            log(Level.WARN, message.get());
+        }
     }
     
     /**
      * Log an error message
      */
     public static void error(String message) {
-        log("ERROR", message);
+        if (LogLevels.isEnabled(Level.ERROR)) {
+            log(Level.ERROR, message);
+        }
+    }
+    
+    /**
+     * Log an error message, replacing the "{}" placeholder with the argument
+     */
+    public static void error(String pattern, Object arg) {
+        if (LogLevels.isEnabled(Level.ERROR)) {
+            log(Level.ERROR, ParameterizedMessage.format(pattern, new Object[] {arg}));
+        }
+    }
+    
+    /**
+     * Log an error message, replacing the "{}" placeholders with the arguments
+     */
+    public static void error(String pattern, Object arg1, Object arg2) {
+        if (LogLevels.isEnabled(Level.ERROR)) {
+            log(Level.ERROR, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2}));
+        }
+    }
+    
+    /**
+     * Log an error message, replacing the "{}" placeholders with the arguments
+     */
+    public static void error(String pattern, Object arg1, Object arg2, Object arg3) {
+        if (LogLevels.isEnabled(Level.ERROR)) {
+            log(Level.ERROR, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2, arg3}));
+        }
     }
     
     /**
-     * Log an error message with exception
+     * Log an error message, calling the supplier only if the level is enabled
+     */
+    public static void error(Supplier<String> message) {
+        if (LogLevels.isEnabled(Level.ERROR)) {
+            log(Level.ERROR, message.get());
+        }
+    }
+    
+    /**
+     * Log an error message with exception (the stack trace is written to the log and the event journal)
      */
     public static void error(String message, Throwable e) {
-        log("ERROR", message + " - " + e.getMessage());
+        if (LogLevels.isEnabled(Level.ERROR)) {
+            EventJournal.error(message, e);
+            ReportContext.record(Level.ERROR.name(), message + " - " + e, null);
+            AsyncLogDispatcher.get().publish(LOGGER_NAME, Level.ERROR, message + " - " + e.getMessage(), e);
+        }
     }
     
     /**
      * Log a debug message (only if debug logging is enabled)
      */
     public static void debug(String message) {
-        if (DEBUG_ENABLED) {
-            log("DEBUG", message);
+        if (LogLevels.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, message);
         }
     }
     
     /**
-     * Log a message with the specified level
+     * Log a debug message (only if debug logging is enabled), replacing the "{}" placeholder with the argument
      */
-    private static void log(String level, String message) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        System.out.println(timestamp + " [" + level + "] " + message);
+    public static void debug(String pattern, Object arg) {
+        if (LogLevels.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, ParameterizedMessage.format(pattern, new Object[] {arg}));
+        }
+    }
+    
+    /**
+     * Log a debug message (only if debug logging is enabled), replacing the "{}" placeholders with the arguments
+     */
+    public static void debug(String pattern, Object arg1, Object arg2) {
+        if (LogLevels.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2}));
+        }
+    }
+    
+    /**
+     * Log a debug message (only if debug logging is enabled), replacing the "{}" placeholders with the arguments
+     */
+    public static void debug(String pattern, Object arg1, Object arg2, Object arg3) {
+        if (LogLevels.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2, arg3}));
+        }
+    }
+    
+    /**
+     * Log a debug message (only if debug logging is enabled), replacing the "{}" placeholder with the argument;
+     * the argument is only boxed when the message is logged
+     */
+    public static void debug(String pattern, int arg) {
+        if (LogLevels.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, ParameterizedMessage.format(pattern, new Object[] {arg}));
+        }
+    }
+    
+    /**
+     * Log a debug message (only if debug logging is enabled), replacing the "{}" placeholders with the arguments;
+     * the arguments are only boxed when the message is logged
+     */
+    public static void debug(String pattern, int arg1, int arg2) {
+        if (LogLevels.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2}));
+        }
+    }
+    
+    /**
+     * Log a debug message (only if debug logging is enabled), replacing the "{}" placeholders with the arguments;
+     * the numbers are only boxed when the message is logged (e.g. a cell position and its text)
+     */
+    public static void debug(String pattern, int arg1, int arg2, Object arg3) {
+        if (LogLevels.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, ParameterizedMessage.format(pattern, new Object[] {arg1, arg2, arg3}));
+        }
+    }
+    
+    /**
+     * Log a debug message, calling the supplier only if debug logging is enabled
+     */
+    public static void debug(Supplier<String> message) {
+        if (LogLevels.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, message.get());
+        }
+    }
+    
+    /**
+     * Wait until every message logged so far has been written to the log4j2 appenders
+     */
+    public static void flush() {
+        AsyncLogDispatcher.get().flush();
+    }
+    
+    /**
+     * Queue a message with the specified level for the background log writer; warnings and errors are also
+     * recorded in the event journal, and info and above in the test report
+     */
+    private static void log(Level level, String message) {
+        if (level.isMoreSpecificThan(Level.WARN)) {
+            EventJournal.log(level.name(), message);
+        }
+        if (level.isMoreSpecificThan(Level.INFO) && level != AsyncLogDispatcher.STEP) {
+            ReportContext.record(level.name(), message, null);
+        }
+        AsyncLogDispatcher.get().publish(LOGGER_NAME, level, message, null);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.test.automation.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.logging.log4j.Level;
+
+/**
+ * Level thresholds shared by {@link Logger} and {@link LightLogger}.
+ * The root threshold is INFO, DEBUG with -Ddebug.logging=true, or any level given by -Dlogging.level;
+ * package thresholds are given by -Dlogging.level.&lt;package&gt;=&lt;level&gt; and apply to that package and its
+ * sub-packages. Checks are static comparisons unless package thresholds make the answer depend on the caller,
+ * in which case the calling class is found with a StackWalker and its threshold cached per class.
+ */
+final class LogLevels {
+    private static final String PROPERTY_PREFIX = "logging.level";
+
+    private static final Level ROOT = Level.toLevel(System.getProperty(PROPERTY_PREFIX),
+        Boolean.getBoolean("debug.logging") ? Level.DEBUG : Level.INFO);
+    private static final Map<String, Level> PACKAGE_LEVELS = readPackageLevels();
+    // Levels at or above the strictest threshold are always enabled; levels below the loosest never are
+    private static final int STRICTEST = strictest();
+    private static final int LOOSEST = loosest();
+
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final ClassValue<Level> CLASS_LEVELS = new ClassValue<Level>() {
+        @Override
+        protected Level computeValue(Class<?> type) {
+            return levelForPackage(type.getPackageName());
+        }
+    };
+
+    private LogLevels() {
+    }
+
+    /**
+     * Check if a level is enabled for the class calling the logger
+     * @param level Level to check
+     * @return true if messages at this level should be logged
+     */
+    static boolean isEnabled(Level level) {
+        int value = level.intLevel();
+        if (value <= STRICTEST) {
+            return true;
+        }
+        if (value > LOOSEST) {
+            return false;
+        }
+        return value <= CLASS_LEVELS.get(callerClass()).intLevel();
+    }
+
+    private static Class<?> callerClass() {
+        return WALKER.walk(frames -> frames
+            .map(StackWalker.StackFrame::getDeclaringClass)
+            .filter(type -> type != LogLevels.class && type != Logger.class && type != LightLogger.class)
+            .findFirst()
+            .orElse(LogLevels.class));
+    }
+
+    private static Level levelForPackage(String packageName) {
+        // Longest configured prefix wins
+        String name = packageName;
+        while (true) {
+            Level level = PACKAGE_LEVELS.get(name);
+            if (level != null) {
+                return level;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return ROOT;
+            }
+            name = name.substring(0, dot);
+        }
+    }
+
+    private static Map<String, Level> readPackageLevels() {
+        Map<String, Level> levels = new TreeMap<>();
+        String prefix = PROPERTY_PREFIX + ".";
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(prefix) && name.length() > prefix.length()) {
+                Level level = Level.getLevel(System.getProperty(name).trim().toUpperCase());
+                if (level == null) {
+                    throw new IllegalArgumentException("Unknown log level for " + name + ": " + System.getProperty(name));
+                }
+                levels.put(name.substring(prefix.length()), level);
+            }
+        }
+        return levels;
+    }
+
+    private static int strictest() {
+        int strictest = ROOT.intLevel();
+        for (Level level : PACKAGE_LEVELS.values()) {
+            strictest = Math.min(strictest, level.intLevel());
+        }
+        return strictest;
+    }
+
+    private static int loosest() {
+        int loosest = ROOT.intLevel();
+        for (Level level : PACKAGE_LEVELS.values()) {
+            loosest = Math.max(loosest, level.intLevel());
+        }
+        return loosest;
+    }
+}
@@ -0,0 +1,141 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Records Navigation Timing, Web Vitals (LCP, CLS, INP-style interaction latency), a resource timing summary and
+ * Lightning EPT after page transitions, with one script call per navigation.
+ * Each record is tagged with the run, test, page object and current step, and appended as one line to
+ * page.metrics.dir/page-metrics.jsonl (or .csv), which is shared by all runs so metrics can be trended over time.
+ * Metrics are best-effort: a failure is logged and never fails the test.
+ */
+public final class PageMetrics {
+    private static final List<String> COLUMNS = List.of("time", "run", "test", "page", "step", "navigation", "url",
+        "sinceMs", "ttfbMs", "domContentLoadedMs", "loadMs", "fcpMs", "lcpMs", "cls", "inpMs", "eptMs",
+        "documentBytes", "resourceCount", "resourceBytes", "resourceEndMs", "slowestResourceMs", "slowestResource",
+        "collectMs");
+    private static final String RUN = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-"
+        + ProcessHandle.current().pid();
+
+    private static final Object LOCK = new Object();
+    private static FileChannel channel;
+
+    private PageMetrics() {
+    }
+
+    /**
+     * Collect the metrics of the page transition that just completed and append them to the metrics file
+     * @param driver Driver that navigated
+     * @param page Page object and destination, e.g. "SalesforceHomePage Leads"
+     * @return Recorded metrics by column, null if disabled or the metrics could not be collected
+     */
+    public static Map<String, Object> record(WebDriver driver, String page) {
+        Config config = ConfigReader.get();
+        if (!config.isPageMetricsEnabled() || !(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        try {
+            long start = System.nanoTime();
+            Object result = ((JavascriptExecutor) driver).executeScript(PageMetricsScripts.COLLECT);
+            long collectNanos = System.nanoTime() - start;
+            if (!(result instanceof Map)) {
+                Logger.debug("Page metrics are not available for {}", page);
+                return null;
+            }
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("time", Instant.now().toString());
+            metrics.put("run", RUN);
+            metrics.put("test", ReportContext.currentTestId());
+            metrics.put("page", page);
+            metrics.put("step", ReportContext.currentStep());
+            for (String column : COLUMNS) {
+                if (!metrics.containsKey(column)) {
+                    metrics.put(column, ((Map<?, ?>) result).get(column));
+                }
+            }
+            metrics.put("collectMs", collectNanos / 100_000 / 10.0);
+            append(config, metrics);
+            Logger.debug("Page metrics for {}: {}", page, metrics);
+            return metrics;
+        } catch (IOException | RuntimeException e) {
+            Logger.warn("Failed to record page metrics for " + page, e);
+            return null;
+        }
+    }
+
+    private static void append(Config config, Map<String, Object> metrics) throws IOException {
+        boolean csv = "csv".equals(config.getPageMetricsFormat());
+        String line = csv ? csvLine(metrics) : jsonLine(metrics);
+        synchronized (LOCK) {
+            if (channel == null) {
+                Path file = Paths.get(config.getPageMetricsDir(), "page-metrics." + config.getPageMetricsFormat());
+                Files.createDirectories(file.getParent());
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+                if (csv && channel.size() == 0) {
+                    write(String.join(",", COLUMNS) + "\n");
+                }
+                Logger.info("Writing page metrics to " + file);
+            }
+            // One write per line, so lines from parallel runs appending to the same file are not interleaved
+            write(line);
+        }
+    }
+
+    private static void write(String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static String jsonLine(Map<String, Object> metrics) {
+        StringBuilder line = new StringBuilder("{");
+        for (Map.Entry<String, Object> entry : metrics.entrySet()) {
+            if (line.length() > 1) {
+                line.append(',');
+            }
+            line.append('"').append(entry.getKey()).append("\":");
+            Object value = entry.getValue();
+            if (value == null || value instanceof Number || value instanceof Boolean) {
+                line.append(value);
+            } else {
+                JsonStrings.append(line, value.toString());
+            }
+        }
+        return line.append("}\n").toString();
+    }
+
+    private static String csvLine(Map<String, Object> metrics) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            Object value = metrics.get(COLUMNS.get(i));
+            if (value instanceof String) {
+                String text = (String) value;
+                line.append(text.matches("[^,\"\\r\\n]*") ? text : "\"" + text.replace("\"", "\"\"") + "\"");
+            } else if (value != null) {
+                line.append(value);
+            }
+        }
+        return line.append('\n').toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.test.automation.utils;
+
+/**
+ * JavaScript used by {@link PageMetrics} to read all timing metrics of a page transition in one call
+ */
+final class PageMetricsScripts {
+
+    /**
+     * Collects the metrics of the transition since the previous collection on this document.
+     * The first collection on a document is a "hard" navigation and reports Navigation Timing, paint timing and LCP;
+     * later ones are "soft" (Lightning client-side) navigations and report what happened after the previous
+     * collection. Buffered PerformanceObserver entries are read synchronously with takeRecords(), so no observer
+     * has to be installed before the page loads.
+     * Returns a map of metric name to number (milliseconds, bytes or counts; null if not available).
+     */
+    static final String COLLECT =
+        "var perf = window.performance;" +
+        "if (!perf || !perf.getEntriesByType) { return null; }" +
+        "var since = window.__pageMetricsMark || 0, hard = !window.__pageMetricsMark;" +
+        "var now = perf.now();" +
+        "window.__pageMetricsMark = now;" +
+        "function round(v) { return v === null || v === undefined || isNaN(v) ? null : Math.round(v * 10) / 10; }" +
+        "function buffered(type) {" +
+        "  try {" +
+        "    var observer = new PerformanceObserver(function() {});" +
+        "    observer.observe({type: type, buffered: true});" +
+        "    var records = observer.takeRecords();" +
+        "    observer.disconnect();" +
+        "    return records;" +
+        "  } catch (e) { return []; }" +
+        "}" +
+        "var m = {navigation: hard ? 'hard' : 'soft', sinceMs: round(now - since)};" +
+        "var nav = hard ? perf.getEntriesByType('navigation')[0] : null;" +
+        "if (nav) {" +
+        "  m.ttfbMs = round(nav.responseStart);" +
+        "  m.domContentLoadedMs = round(nav.domContentLoadedEventEnd);" +
+        "  m.loadMs = round(nav.loadEventEnd || null);" +
+        "  m.documentBytes = nav.transferSize;" +
+        "}" +
+        "var fcp = hard ? perf.getEntriesByName('first-contentful-paint')[0] : null;" +
+        "m.fcpMs = fcp ? round(fcp.startTime) : null;" +
+        "var lcp = hard ? buffered('largest-contentful-paint') : [];" +
+        "m.lcpMs = lcp.length ? round(lcp[lcp.length - 1].startTime) : null;" +
+        // Layout shifts and interactions since the previous collection, excluding shifts right after input
+        "var cls = 0;" +
+        "buffered('layout-shift').forEach(function(e) {" +
+        "  if (e.startTime >= since && !e.hadRecentInput) { cls += e.value; }" +
+        "});" +
+        "m.cls = Math.round(cls * 10000) / 10000;" +
+        "var inp = null;" +
+        "buffered('event').concat(buffered('first-input')).forEach(function(e) {" +
+        "  if (e.startTime >= since && e.interactionId !== 0) { inp = Math.max(inp || 0, e.duration); }" +
+        "});" +
+        "m.inpMs = round(inp);" +
+        // Resources requested since the previous collection
+        "var count = 0, bytes = 0, end = 0, slowest = null;" +
+        "perf.getEntriesByType('resource').forEach(function(e) {" +
+        "  if (e.startTime < since) { return; }" +
+        "  count++;" +
+        "  bytes += e.transferSize || 0;" +
+        "  end = Math.max(end, e.responseEnd);" +
+        "  if (!slowest || e.duration > slowest.duration) { slowest = e; }" +
+        "});" +
+        "m.resourceCount = count;" +
+        "m.resourceBytes = bytes;" +
+        "m.resourceEndMs = count ? round(end - since) : null;" +
+        "m.slowestResourceMs = slowest ? round(slowest.duration) : null;" +
+        "m.slowestResource = slowest ? slowest.name.split('?')[0].slice(-120) : null;" +
+        // Lightning experienced page time: latest EPT measure or page transaction, where the org exposes one
+        "var ept = null;" +
+        "perf.getEntriesByType('measure').forEach(function(e) {" +
+        "  if (e.startTime + e.duration >= since && /(^|[^a-z])ept([^a-z]|$)|pageView/i.test(e.name)) { ept = e.duration; }" +
+        "});" +
+        "try {" +
+        "  var metrics = window.$A && window.$A.metricsService;" +
+        "  var transaction = metrics && metrics.getCurrentPageTransaction && metrics.getCurrentPageTransaction();" +
+        "  var value = transaction && (transaction.ept || (transaction.context && transaction.context.ept));" +
+        "  if (ept === null && typeof value === 'number') { ept = value; }" +
+        "} catch (e) {}" +
+        "m.eptMs = round(ept);" +
+        "m.url = location.href.split('?')[0];" +
+        "return m;";
+
+    private PageMetricsScripts() {
+    }
+}
@@ -0,0 +1,444 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+/**
+ * Local store of per-test timings from recent runs, and the statistics that decide whether a test got slower.
+ * Each run (or each shard of a run) is one run-&lt;id&gt;.jsonl file in the baseline directory (one line per passed
+ * test, with its steps); each test keeps its newest baseline.window measurements, so the baseline rolls forward with
+ * the suite, and run files no test needs any more are deleted.
+ * A duration counts as regressed when it exceeds the median of the baseline runs by the tolerance, by
+ * baseline.mad.factor robust standard deviations (scaled median absolute deviation) and by at least
+ * baseline.min.delta.ms, so noisy tests and tiny absolute changes are not flagged. Round-trips are compared the
+ * same way with a fixed minimum increase.
+ */
+public class PerformanceBaseline {
+    private static final String RUN_PREFIX = "run-";
+    private static final String RUN_SUFFIX = ".jsonl";
+    private static final double MAD_TO_SIGMA = 1.4826;
+    private static final long MIN_ROUND_TRIP_DELTA = 5;
+    // Run files read per window run, so runs split into shard files still fill the window
+    private static final int MAX_FILES_PER_RUN = 16;
+    private static final Json JSON = new Json();
+
+    private final Path directory;
+    private final int window;
+    private final int minRuns;
+    private final double tolerance;
+    private final double madFactor;
+    private final long minDeltaMillis;
+    private final Map<String, List<Measurement>> history = new HashMap<>();
+    private int runCount;
+
+    /**
+     * Load the baseline with the baseline.* settings of the configuration
+     */
+    public PerformanceBaseline() {
+        this(Paths.get(ConfigReader.get().getBaselineDir()), ConfigReader.get().getBaselineWindow(),
+            ConfigReader.get().getBaselineMinRuns(), ConfigReader.get().getBaselineTolerance(),
+            ConfigReader.get().getBaselineMadFactor(), ConfigReader.get().getBaselineMinDeltaMillis());
+    }
+
+    /**
+     * Load the newest runs of a baseline directory
+     * @param directory Directory of the run files, created when the first run is saved
+     * @param window Number of runs kept and compared against
+     * @param minRuns Runs a test needs before it is compared
+     * @param tolerance Fraction the median may be exceeded by
+     * @param madFactor Robust standard deviations the median may be exceeded by
+     * @param minDeltaMillis Smallest slowdown that counts as a regression
+     */
+    public PerformanceBaseline(Path directory, int window, int minRuns, double tolerance, double madFactor,
+                               long minDeltaMillis) {
+        this.directory = directory;
+        this.window = window;
+        this.minRuns = minRuns;
+        this.tolerance = tolerance;
+        this.madFactor = madFactor;
+        this.minDeltaMillis = minDeltaMillis;
+        runCount = load(runFiles(), history).size();
+    }
+
+    /**
+     * Get the number of run files the baseline was loaded from
+     * @return Run file count
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Get the tests with baseline measurements
+     * @return Test identifiers (class#method), sorted
+     */
+    public Set<String> getTestIds() {
+        return Collections.unmodifiableSet(new TreeSet<>(history.keySet()));
+    }
+
+    /**
+     * Get the baseline measurements of a test
+     * @param testId Test identifier (class#method)
+     * @return Measurements, oldest first; empty if the test has no baseline
+     */
+    public List<Measurement> getHistory(String testId) {
+        return Collections.unmodifiableList(history.getOrDefault(testId, List.of()));
+    }
+
+    /**
+     * Get the typical duration of a test
+     * @param testId Test identifier
+     * @return Median duration in milliseconds of the baseline runs, -1 if the test has no baseline
+     */
+    public long getMedianMillis(String testId) {
+        long[] durations = values(getHistory(testId), null, false);
+        return durations.length == 0 ? -1 : Math.round(median(durations));
+    }
+
+    /**
+     * Check if a test has enough baseline runs to be compared
+     * @param testId Test identifier
+     * @return true if it has at least baseline.min.runs measurements
+     */
+    public boolean hasBaseline(String testId) {
+        return getHistory(testId).size() >= minRuns;
+    }
+
+    /**
+     * Compare a test run against its baseline
+     * @param testId Test identifier
+     * @param current Measurement of the run
+     * @return Regressions and improvements of the test duration, its steps and its round-trips; empty if nothing
+     *     changed significantly or the test has no baseline yet
+     */
+    public List<Change> compare(String testId, Measurement current) {
+        List<Change> changes = new ArrayList<>();
+        List<Measurement> runs = getHistory(testId);
+        if (runs.size() < minRuns) {
+            return changes;
+        }
+        addChange(changes, testId, null, "duration", values(runs, null, false), current.getMillis(), minDeltaMillis);
+        addChange(changes, testId, null, "round-trips", values(runs, null, true), current.getRoundTrips(),
+            MIN_ROUND_TRIP_DELTA);
+        for (Map.Entry<String, Measurement> step : current.getSteps().entrySet()) {
+            long[] stepValues = values(runs, step.getKey(), false);
+            if (stepValues.length >= minRuns) {
+                addChange(changes, testId, step.getKey(), "duration", stepValues, step.getValue().getMillis(),
+                    minDeltaMillis);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Store a run and delete the run files that no test's window needs any more
+     * @param runId Run identifier; run files sort by it, so it should start with a timestamp
+     * @param results Measurements of the passed tests by test identifier
+     * @return The written run file
+     */
+    public Path save(String runId, Map<String, Measurement> results) {
+        Path file = directory.resolve(RUN_PREFIX + runId + RUN_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Measurement> result : results.entrySet()) {
+                    Map<String, Object> line = new LinkedHashMap<>();
+                    line.put("test", result.getKey());
+                    line.putAll(result.getValue().toMap());
+                    StringBuilder json = new StringBuilder();
+                    try (JsonOutput output = JSON.newOutput(json)) {
+                        output.setPrettyPrint(false).write(line);
+                    }
+                    writer.write(json.append('\n').toString());
+                }
+            }
+            List<Path> runs = runFiles();
+            runs.removeAll(load(runs, new HashMap<>()));
+            for (Path old : runs) {
+                Files.deleteIfExists(old);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save the performance baseline run " + file, e);
+        }
+        return file;
+    }
+
+    private void addChange(List<Change> changes, String testId, String step, String metric, long[] values,
+                           long current, long minDelta) {
+        if (values.length == 0) {
+            return;
+        }
+        double median = median(values);
+        double spread = madFactor * MAD_TO_SIGMA * medianAbsoluteDeviation(values, median);
+        if (current - median >= minDelta && current > median * (1 + tolerance) && current > median + spread) {
+            changes.add(new Change(testId, step, metric, median, current, true));
+        } else if (median - current >= minDelta && current < median * (1 - tolerance)
+            && current < median - spread) {
+            changes.add(new Change(testId, step, metric, median, current, false));
+        }
+    }
+
+    /**
+     * Get a metric of the baseline runs: the test or step duration, or the test's round-trips
+     */
+    private static long[] values(List<Measurement> runs, String step, boolean roundTrips) {
+        List<Long> values = new ArrayList<>();
+        for (Measurement run : runs) {
+            Measurement measurement = step == null ? run : run.getSteps().get(step);
+            if (measurement != null) {
+                values.add(roundTrips ? measurement.getRoundTrips() : measurement.getMillis());
+            }
+        }
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    private static double medianAbsoluteDeviation(long[] values, double median) {
+        double[] deviations = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            deviations[i] = Math.abs(values[i] - median);
+        }
+        Arrays.sort(deviations);
+        int middle = deviations.length / 2;
+        return deviations.length % 2 == 1 ? deviations[middle] : (deviations[middle - 1] + deviations[middle]) / 2;
+    }
+
+    private List<Path> runFiles() {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(RUN_PREFIX) && name.endsWith(RUN_SUFFIX);
+            }).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list the performance baseline in " + directory, e);
+        }
+    }
+
+    /**
+     * Read run files newest first, adding each test's measurements until it has a full window
+     * @param runs Run files, oldest first
+     * @param into Measurements by test, oldest first
+     * @return Run files that contributed a measurement
+     */
+    private List<Path> load(List<Path> runs, Map<String, List<Measurement>> into) {
+        List<Path> contributing = new ArrayList<>();
+        int oldest = Math.max(0, runs.size() - window * MAX_FILES_PER_RUN);
+        for (int i = runs.size() - 1; i >= oldest; i--) {
+            if (read(runs.get(i), into)) {
+                contributing.add(runs.get(i));
+            }
+        }
+        return contributing;
+    }
+
+    private boolean read(Path run, Map<String, List<Measurement>> into) {
+        boolean contributed = false;
+        try {
+            for (String line : Files.readAllLines(run, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, Object> values = JSON.toType(line, Json.MAP_TYPE);
+                List<Measurement> measurements = into.computeIfAbsent(String.valueOf(values.get("test")),
+                    test -> new ArrayList<>());
+                if (measurements.size() < window) {
+                    measurements.add(0, Measurement.fromMap(values));
+                    contributed = true;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Logger.warn("Skipping unreadable performance baseline run " + run, e);
+        }
+        return contributed;
+    }
+
+    /**
+     * Duration, driver round-trips and waits of a test or step
+     */
+    public static final class Measurement {
+        private final long millis;
+        private final long roundTrips;
+        private final long waits;
+        private final long waitMillis;
+        private final Map<String, Measurement> steps = new LinkedHashMap<>();
+
+        /**
+         * Create a measurement
+         * @param millis Duration in milliseconds
+         * @param roundTrips Driver commands sent
+         * @param waits Explicit waits started
+         * @param waitMillis Time spent in explicit waits
+         */
+        public Measurement(long millis, long roundTrips, long waits, long waitMillis) {
+            this.millis = millis;
+            this.roundTrips = roundTrips;
+            this.waits = waits;
+            this.waitMillis = waitMillis;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public long getRoundTrips() {
+            return roundTrips;
+        }
+
+        public long getWaits() {
+            return waits;
+        }
+
+        public long getWaitMillis() {
+            return waitMillis;
+        }
+
+        /**
+         * Get the steps of a test measurement
+         * @return Mutable map of step measurements by step key, in the order the steps first ran
+         */
+        public Map<String, Measurement> getSteps() {
+            return steps;
+        }
+
+        /**
+         * Add up two measurements of the same step
+         * @param other Other measurement
+         * @return Sum, without steps
+         */
+        public Measurement plus(Measurement other) {
+            return new Measurement(millis + other.millis, roundTrips + other.roundTrips, waits + other.waits,
+                waitMillis + other.waitMillis);
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("millis", millis);
+            map.put("roundTrips", roundTrips);
+            map.put("waits", waits);
+            map.put("waitMillis", waitMillis);
+            if (!steps.isEmpty()) {
+                Map<String, Object> stepMaps = new LinkedHashMap<>();
+                steps.forEach((name, step) -> stepMaps.put(name, step.toMap()));
+                map.put("steps", stepMaps);
+            }
+            return map;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Measurement fromMap(Map<String, Object> map) {
+            Measurement measurement = new Measurement(number(map, "millis"), number(map, "roundTrips"),
+                number(map, "waits"), number(map, "waitMillis"));
+            Object steps = map.get("steps");
+            if (steps instanceof Map) {
+                ((Map<String, Object>) steps).forEach((name, step) ->
+                    measurement.steps.put(name, fromMap((Map<String, Object>) step)));
+            }
+            return measurement;
+        }
+
+        private static long number(Map<String, Object> map, String key) {
+            Object value = map.get(key);
+            return value instanceof Number ? ((Number) value).longValue() : 0;
+        }
+    }
+
+    /**
+     * Significant change of a test, step or round-trip count against the baseline median
+     */
+    public static final class Change {
+        private final String testId;
+        private final String step;
+        private final String metric;
+        private final double baseline;
+        private final long current;
+        private final boolean regression;
+
+        private Change(String testId, String step, String metric, double baseline, long current, boolean regression) {
+            this.testId = testId;
+            this.step = step;
+            this.metric = metric;
+            this.baseline = baseline;
+            this.current = current;
+            this.regression = regression;
+        }
+
+        public String getTestId() {
+            return testId;
+        }
+
+        /**
+         * Get the step that changed
+         * @return Step key, null for the whole test
+         */
+        public String getStep() {
+            return step;
+        }
+
+        /**
+         * Get what changed
+         * @return "duration" (milliseconds) or "round-trips"
+         */
+        public String getMetric() {
+            return metric;
+        }
+
+        public double getBaseline() {
+            return baseline;
+        }
+
+        public long getCurrent() {
+            return current;
+        }
+
+        /**
+         * Check if the change is a slowdown
+         * @return true for a regression, false for an improvement
+         */
+        public boolean isRegression() {
+            return regression;
+        }
+
+        /**
+         * Check if the change is a slowdown of the whole test, which the gate can fail the test for
+         * @return true for a regression of the test duration
+         */
+        public boolean isTestRegression() {
+            return regression && step == null && metric.equals("duration");
+        }
+
+        @Override
+        public String toString() {
+            String unit = metric.equals("duration") ? " ms" : "";
+            return String.format("%s%s %d%s vs median %.0f%s (%+.0f%%)", step == null ? "" : "step \"" + step + "\" ",
+                metric, current, unit, baseline, unit, baseline == 0 ? 100.0 : (current - baseline) * 100 / baseline);
+        }
+    }
+}
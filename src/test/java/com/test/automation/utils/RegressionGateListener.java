@@ -0,0 +1,139 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener that gates test timings against the performance baseline (see {@link PerformanceBaseline}).
+ * Every test method is timed with its {@link Logger#step} steps, driver round-trips and waits; setup and teardown
+ * are not included. Each passed test is compared against the recent runs, and a test that got significantly slower
+ * is flagged in the log, or failed when baseline.action is fail. After the suite the run is added to the baseline
+ * and a compact summary of regressions and improvements is logged and written to latest-summary.txt in
+ * baseline.dir.
+ * Register in the suite xml: &lt;listener class-name="com.test.automation.utils.RegressionGateListener"/&gt;
+ */
+public class RegressionGateListener implements IInvokedMethodListener, ISuiteListener {
+    private final Object lock = new Object();
+    private final Map<String, PerformanceBaseline.Measurement> results = new LinkedHashMap<>();
+    private final List<PerformanceBaseline.Change> changes = new ArrayList<>();
+    private PerformanceBaseline baseline;
+    private int compared;
+    private int added;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ConfigReader.get().isBaselineEnabled()) {
+            return;
+        }
+        synchronized (lock) {
+            if (baseline == null) {
+                baseline = new PerformanceBaseline();
+                Logger.info("Loaded performance baseline of " + baseline.getRunCount() + " run files from "
+                    + ConfigReader.get().getBaselineDir());
+            }
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && isActive()) {
+            TestTimings.begin();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        PerformanceBaseline.Measurement measurement = TestTimings.end();
+        if (measurement == null || testResult.getStatus() != ITestResult.SUCCESS) {
+            return;
+        }
+        String testId = testId(method.getTestMethod());
+        List<PerformanceBaseline.Change> testChanges;
+        synchronized (lock) {
+            results.put(testId, measurement);
+            if (!baseline.hasBaseline(testId)) {
+                added++;
+                return;
+            }
+            compared++;
+            testChanges = baseline.compare(testId, measurement);
+            changes.addAll(testChanges);
+        }
+        for (PerformanceBaseline.Change change : testChanges) {
+            if (change.isTestRegression()) {
+                Logger.warn("Performance regression in " + testId + ": " + change);
+                if ("fail".equals(ConfigReader.get().getBaselineAction())) {
+                    testResult.setStatus(ITestResult.FAILURE);
+                    testResult.setThrowable(new AssertionError("Performance regression: " + change));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        String summary;
+        synchronized (lock) {
+            if (baseline == null || results.isEmpty()) {
+                return;
+            }
+            summary = summary(suite.getName());
+            try {
+                Path run = baseline.save(new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-"
+                    + ProcessHandle.current().pid() + "-" + suite.getName().replaceAll("[^A-Za-z0-9]+", "_")
+                    + ShardingListener.runSuffix(), results);
+                Files.write(run.resolveSibling("latest-summary.txt"), summary.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException | RuntimeException e) {
+                Logger.warn("Failed to update the performance baseline in " + ConfigReader.get().getBaselineDir(), e);
+            }
+            results.clear();
+            changes.clear();
+            compared = 0;
+            added = 0;
+        }
+        Logger.info(summary);
+    }
+
+    private boolean isActive() {
+        synchronized (lock) {
+            return baseline != null;
+        }
+    }
+
+    /**
+     * Build the summary: one line for the run, then one line per regression or improvement
+     */
+    private String summary(String suiteName) {
+        long regressed = changes.stream().filter(PerformanceBaseline.Change::isTestRegression).count();
+        StringBuilder summary = new StringBuilder(String.format("Performance gate of suite %s: %d tests compared "
+            + "against %d run files, %d without baseline yet, %d regressed (%s)%n", suiteName, compared,
+            baseline.getRunCount(), added, regressed, ConfigReader.get().getBaselineAction()));
+        for (PerformanceBaseline.Change change : changes) {
+            summary.append(String.format("  %-9s %s %s%n", change.isRegression() ? "SLOWER" : "FASTER",
+                change.getTestId(), change));
+        }
+        return summary.toString();
+    }
+
+    private static String testId(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "#" + method.getMethodName();
+    }
+}
@@ -0,0 +1,143 @@
+package com.test.automation.utils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Step log of the test running on the current thread, collected for {@link StreamingReportListener}.
+ * Holds at most report.max.entries entries; later entries are only counted, so one chatty test cannot grow the
+ * heap without bound.
+ */
+final class ReportContext {
+    private static final ThreadLocal<ReportContext> CURRENT = new ThreadLocal<>();
+
+    private String testId;
+    // true while only the @BeforeMethod setup of a test is known
+    private boolean setup;
+    private final long startMillis = System.currentTimeMillis();
+    private final int maxEntries;
+    private final List<Entry> entries = new ArrayList<>();
+    private int omitted;
+    private String currentStep;
+
+    private ReportContext(String testId, int maxEntries) {
+        this.testId = testId;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Start collecting for the @BeforeMethod setup of a test on the current thread, under the class name until the
+     * test method starts; further setup methods of the same test add to the context, any other unfinished context
+     * is replaced
+     * @param classId Simple name of the test class
+     * @param maxEntries Maximum number of entries kept
+     */
+    static void beginSetup(String classId, int maxEntries) {
+        ReportContext context = CURRENT.get();
+        if (context == null || !context.setup) {
+            context = new ReportContext(classId, maxEntries);
+            context.setup = true;
+            CURRENT.set(context);
+        }
+    }
+
+    /**
+     * Start collecting for a test method on the current thread: the context of its setup is taken over under the
+     * test's id, any other unfinished context is replaced
+     * @param testId Test identifier (class#method)
+     * @param maxEntries Maximum number of entries kept
+     */
+    static void beginTest(String testId, int maxEntries) {
+        ReportContext context = CURRENT.get();
+        if (context == null || !context.setup) {
+            context = new ReportContext(testId, maxEntries);
+            CURRENT.set(context);
+        }
+        context.testId = testId;
+        context.setup = false;
+    }
+
+    /**
+     * Stop collecting on the current thread
+     * @return The finished context, null if none was active
+     */
+    static ReportContext end() {
+        ReportContext context = CURRENT.get();
+        CURRENT.remove();
+        return context;
+    }
+
+    /**
+     * Add an entry to the current thread's test, if one is being collected
+     * @param level Level name (INFO, STEP, WARN, ERROR...)
+     * @param message Message
+     * @param screenshot Screenshot stored for the entry, may be null
+     */
+    static void record(String level, String message, CompletableFuture<Path> screenshot) {
+        ReportContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        if (AsyncLogDispatcher.STEP.name().equals(level)) {
+            context.currentStep = message;
+        }
+        if (context.entries.size() < context.maxEntries) {
+            context.entries.add(new Entry(System.currentTimeMillis(), level, message, screenshot));
+        } else {
+            context.omitted++;
+        }
+    }
+
+    /**
+     * Get the test being collected on the current thread
+     * @return Test identifier, null if none is active
+     */
+    static String currentTestId() {
+        ReportContext context = CURRENT.get();
+        return context != null ? context.testId : null;
+    }
+
+    /**
+     * Get the last step logged by the test being collected on the current thread
+     * @return Step message, null if none is active or no step was logged yet
+     */
+    static String currentStep() {
+        ReportContext context = CURRENT.get();
+        return context != null ? context.currentStep : null;
+    }
+
+    String getTestId() {
+        return testId;
+    }
+
+    long getStartMillis() {
+        return startMillis;
+    }
+
+    List<Entry> getEntries() {
+        return entries;
+    }
+
+    int getOmitted() {
+        return omitted;
+    }
+
+    /**
+     * One step log entry
+     */
+    static final class Entry {
+        final long timeMillis;
+        final String level;
+        final String message;
+        final CompletableFuture<Path> screenshot;
+
+        private Entry(long timeMillis, String level, String message, CompletableFuture<Path> screenshot) {
+            this.timeMillis = timeMillis;
+            this.level = level;
+            this.message = message;
+            this.screenshot = screenshot;
+        }
+    }
+}
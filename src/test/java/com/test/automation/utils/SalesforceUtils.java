@@ -25,7 +25,7 @@ public class SalesforceUtils {
             
             // Try to switch to Lightning
             By switchToLightningLink = By.linkText("Switch to Lightning Experience");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = new TimedWait(driver, Duration.ofSeconds(10));
             WebElement element = wait.until(ExpectedConditions.elementToBeClickable(switchToLightningLink));
             element.click();
             
@@ -55,19 +55,14 @@ public class SalesforceUtils {
      * @param driver WebDriver instance
      */
     public static void waitForLightningPageLoad(WebDriver driver) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(
-            ConfigReader.getIntProperty("page.load.timeout")));
+        WebDriverWait wait = new TimedWait(driver, ConfigReader.get().getPageLoadTimeout());
             
         // Wait for the Lightning spinner to disappear
         By spinnerLocator = By.xpath("//div[contains(@class, 'slds-spinner')]");
         wait.until(ExpectedConditions.invisibilityOfElementLocated(spinnerLocator));
         
         // Additional wait for page stability
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        WaitUtils.sleep(1000);
     }
     
     /**
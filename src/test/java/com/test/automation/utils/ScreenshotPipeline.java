@@ -0,0 +1,361 @@
+package com.test.automation.utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Screenshot capture pipeline. Only the driver call runs on the test thread; decoding, perceptual hashing,
+ * downscaling, encoding and writing run on a small background pool. Frames of one test thread are processed in
+ * capture order, so a frame that is nearly identical to the previous one (difference hash within
+ * screenshot.dedup.distance bits) resolves to the previous file instead of being written again. The screenshot
+ * directory is capped at screenshot.disk.cap.mb across runs by deleting the oldest files first; a file that a
+ * deduplicated frame resolved to since it was queued gets a second chance, so it ages from its latest use.
+ */
+public final class ScreenshotPipeline {
+    private static final long SHUTDOWN_DRAIN_MILLIS = 10000;
+    private static final int MAX_LABEL_CHARS = 60;
+    private static final int HASH_SIZE = 16;
+
+    private static final ScreenshotPipeline INSTANCE = new ScreenshotPipeline(ConfigReader.get());
+
+    private final Config config;
+    private final Path root;
+    private final Path runDirectory;
+    private final ExecutorService executor;
+    private final int queueSize;
+    private final Semaphore slots;
+    private final Map<Long, CompletableFuture<Frame>> lastFrames = new ConcurrentHashMap<>();
+    private final Deque<StoredFile> storedFiles = new ConcurrentLinkedDeque<>();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    private ScreenshotPipeline(Config config) {
+        this.config = config;
+        this.root = Paths.get(config.getScreenshotDir());
+        this.runDirectory = root.resolve(new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-"
+            + ProcessHandle.current().pid());
+        this.queueSize = config.getScreenshotQueueSize();
+        this.slots = new Semaphore(queueSize);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(config.getScreenshotThreads(), task -> {
+            Thread thread = new Thread(task, "screenshot-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        indexExistingFiles();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> drain(SHUTDOWN_DRAIN_MILLIS), "screenshot-shutdown"));
+    }
+
+    /**
+     * Get the shared pipeline
+     * @return Screenshot pipeline
+     */
+    public static ScreenshotPipeline get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Capture a screenshot on the current thread and store it in the background.
+     * Unless the screenshot must be kept, it is dropped when screenshot.queue.size screenshots are already waiting,
+     * and it is deduplicated against the previous screenshot of this thread.
+     * @param driver Driver to capture
+     * @param label Short description used in the file name
+     * @param keep true to wait for room in the queue and always write the screenshot (e.g. on failure)
+     * @return Future of the stored file (an earlier file for a duplicate, null if dropped or failed)
+     */
+    public CompletableFuture<Path> capture(WebDriver driver, String label, boolean keep) {
+        if (keep) {
+            slots.acquireUninterruptibly();
+        } else if (!slots.tryAcquire()) {
+            dropped.incrementAndGet();
+            Logger.debug("Screenshot queue full, dropping screenshot: {}", label);
+            return CompletableFuture.completedFuture(null);
+        }
+        byte[] png;
+        try {
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (RuntimeException e) {
+            slots.release();
+            Logger.warn("Failed to capture screenshot: " + label, e);
+            return CompletableFuture.completedFuture(null);
+        }
+        String fileName = String.format("%06d-%s.%s", sequence.incrementAndGet(), sanitize(label),
+            config.getScreenshotFormat());
+        long threadId = Thread.currentThread().getId();
+        // Chain on the previous frame of this thread so frames are deduplicated in capture order
+        CompletableFuture<Frame> previous = lastFrames.getOrDefault(threadId, CompletableFuture.completedFuture(null));
+        CompletableFuture<Frame> frame = previous.handleAsync(
+            (last, error) -> store(png, fileName, keep ? null : last), executor);
+        lastFrames.put(threadId, frame);
+        frame.whenComplete((stored, error) -> slots.release());
+        return frame.handle((stored, error) -> {
+            if (error != null) {
+                Logger.warn("Failed to store screenshot " + fileName, error);
+                return null;
+            }
+            return stored.path;
+        });
+    }
+
+    /**
+     * Capture a best-effort screenshot of the current thread's driver, if it has one
+     * @param label Short description used in the file name
+     * @return Future of the stored file, null if no driver is running on this thread
+     */
+    public CompletableFuture<Path> captureCurrent(String label) {
+        WebDriver driver = WebDriverManager.getCurrentDriver();
+        return driver != null ? capture(driver, label, false) : null;
+    }
+
+    /**
+     * Wait until queued screenshots are written
+     * @param timeoutMillis Maximum time to wait
+     * @return true if the queue drained in time
+     */
+    public boolean drain(long timeoutMillis) {
+        try {
+            if (slots.tryAcquire(queueSize, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                slots.release(queueSize);
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Get the directory this run writes to
+     * @return Run directory
+     */
+    public Path getRunDirectory() {
+        return runDirectory;
+    }
+
+    @Override
+    public String toString() {
+        return "ScreenshotPipeline{written=" + written + ", deduplicated=" + deduplicated + ", dropped=" + dropped
+            + ", evicted=" + evicted + ", storedMB=" + storedBytes.get() / (1024 * 1024) + "}";
+    }
+
+    private Frame store(byte[] png, String fileName, Frame last) {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(png));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode screenshot " + fileName, e);
+        }
+        long[] hash = differenceHash(image);
+        int maxDistance = config.getScreenshotDedupDistance();
+        if (last != null && maxDistance >= 0 && distance(hash, last.hash) <= maxDistance && reuse(last.file)) {
+            deduplicated.incrementAndGet();
+            return new Frame(hash, last.path, last.file);
+        }
+        Path path = runDirectory.resolve(fileName);
+        StoredFile file;
+        try {
+            Files.createDirectories(runDirectory);
+            try (OutputStream out = Files.newOutputStream(path)) {
+                encode(downscale(image), out);
+            }
+            file = new StoredFile(path, Files.size(path));
+            storedFiles.addLast(file);
+            storedBytes.addAndGet(file.size);
+            written.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write screenshot " + path, e);
+        }
+        evictOldest(file);
+        return new Frame(hash, path, file);
+    }
+
+    /**
+     * Mark a stored file as used by another frame, unless it was already evicted
+     * @return true if the file can be reused
+     */
+    private synchronized boolean reuse(StoredFile file) {
+        if (file == null || file.deleted) {
+            return false;
+        }
+        file.referenced = true;
+        return true;
+    }
+
+    /**
+     * 256-bit difference hash: signs of horizontal brightness gradients of a 17x16 grayscale thumbnail
+     */
+    private static long[] differenceHash(BufferedImage image) {
+        BufferedImage thumbnail = new BufferedImage(HASH_SIZE + 1, HASH_SIZE, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, HASH_SIZE + 1, HASH_SIZE, null);
+        graphics.dispose();
+        long[] hash = new long[HASH_SIZE * HASH_SIZE / 64];
+        int bit = 0;
+        for (int y = 0; y < HASH_SIZE; y++) {
+            for (int x = 0; x < HASH_SIZE; x++, bit++) {
+                if (thumbnail.getRaster().getSample(x, y, 0) > thumbnail.getRaster().getSample(x + 1, y, 0)) {
+                    hash[bit / 64] |= 1L << (bit % 64);
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static int distance(long[] first, long[] second) {
+        int distance = 0;
+        for (int i = 0; i < first.length; i++) {
+            distance += Long.bitCount(first[i] ^ second[i]);
+        }
+        return distance;
+    }
+
+    private BufferedImage downscale(BufferedImage image) {
+        int width = Math.min(image.getWidth(), config.getScreenshotMaxWidth());
+        int height = Math.max(1, (int) ((long) image.getHeight() * width / image.getWidth()));
+        // Always redraw into RGB: JPEG has no alpha channel
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    private void encode(BufferedImage image, OutputStream out) throws IOException {
+        if ("png".equals(config.getScreenshotFormat())) {
+            ImageIO.write(image, "png", out);
+            return;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(config.getScreenshotQuality());
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Delete the oldest files until the directory is within the cap
+     * @param newest File just written, which is always kept; null if none
+     */
+    private synchronized void evictOldest(StoredFile newest) {
+        while (storedBytes.get() > config.getScreenshotDiskCapBytes() && storedFiles.peekFirst() != storedFiles.peekLast()) {
+            StoredFile oldest = storedFiles.pollFirst();
+            if (oldest == newest || oldest.referenced) {
+                // Used by a deduplicated frame since it was queued: requeue once, as if just written
+                oldest.referenced = false;
+                storedFiles.addLast(oldest);
+                continue;
+            }
+            oldest.deleted = true;
+            try {
+                Files.deleteIfExists(oldest.path);
+                Path directory = oldest.path.getParent();
+                if (!directory.equals(runDirectory)) {
+                    Files.deleteIfExists(directory);
+                }
+            } catch (DirectoryNotEmptyException e) {
+                // Older run still has screenshots
+            } catch (IOException e) {
+                Logger.warn("Failed to delete old screenshot " + oldest.path, e);
+            }
+            storedBytes.addAndGet(-oldest.size);
+            evicted.incrementAndGet();
+        }
+    }
+
+    /**
+     * Account for screenshots of earlier runs so the cap covers the whole screenshot directory
+     */
+    private void indexExistingFiles() {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(Files::isRegularFile)
+                .map(path -> new StoredFile(path, path.toFile().length()))
+                .sorted(Comparator.comparingLong(file -> file.path.toFile().lastModified()))
+                .forEach(file -> {
+                    storedFiles.addLast(file);
+                    storedBytes.addAndGet(file.size);
+                });
+        } catch (IOException e) {
+            Logger.warn("Failed to index existing screenshots under " + root, e);
+        }
+        evictOldest(null);
+    }
+
+    private static String sanitize(String label) {
+        String name = label == null ? "screenshot" : label.replaceAll("[^A-Za-z0-9_-]+", "_");
+        return name.length() > MAX_LABEL_CHARS ? name.substring(0, MAX_LABEL_CHARS) : name;
+    }
+
+    private static final class Frame {
+        private final long[] hash;
+        private final Path path;
+        private final StoredFile file;
+
+        private Frame(long[] hash, Path path, StoredFile file) {
+            this.hash = hash;
+            this.path = path;
+            this.file = file;
+        }
+    }
+
+    private static final class StoredFile {
+        private final Path path;
+        private final long size;
+        // Guarded by the pipeline: set when a deduplicated frame resolves to this file, and once deleted
+        private boolean referenced;
+        private boolean deleted;
+
+        private StoredFile(Path path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+    }
+}
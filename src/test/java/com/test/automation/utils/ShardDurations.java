@@ -0,0 +1,92 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Expected test durations that {@link ShardingListener} balances the shards by: a committed properties file of
+ * class#method=milliseconds (shard.durations), so every shard of a run reads the same durations and computes the
+ * same split, whatever its local baseline holds. Regenerate it from a baseline after the suite changed noticeably,
+ * and commit it before the next sharded run.
+ * Run with: java -cp &lt;test classpath&gt; com.test.automation.utils.ShardDurations [durations file]
+ * (defaults to shard.durations; the durations are the medians of baseline.dir)
+ */
+public final class ShardDurations {
+
+    private ShardDurations() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : ConfigReader.get().getShardDurations());
+        PerformanceBaseline baseline = new PerformanceBaseline();
+        Map<String, Long> durations = new TreeMap<>();
+        for (String testId : baseline.getTestIds()) {
+            durations.put(testId, baseline.getMedianMillis(testId));
+        }
+        if (durations.isEmpty()) {
+            System.err.println("No test durations in " + ConfigReader.get().getBaselineDir());
+            System.exit(2);
+        }
+        write(file, durations);
+        System.out.println("Wrote " + durations.size() + " test durations from " + baseline.getRunCount()
+            + " baseline runs to " + file);
+    }
+
+    /**
+     * Read a durations file
+     * @param file Durations file
+     * @return Milliseconds by test id, sorted by test id
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalStateException if a duration is not a non-negative number
+     */
+    public static Map<String, Long> read(Path file) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read shard durations from " + file, e);
+        }
+        Map<String, Long> durations = new TreeMap<>();
+        for (String testId : properties.stringPropertyNames()) {
+            String value = properties.getProperty(testId).trim();
+            try {
+                long millis = Long.parseLong(value);
+                if (millis < 0) {
+                    throw new NumberFormatException();
+                }
+                durations.put(testId, millis);
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("Invalid duration of " + testId + " in " + file + ": " + value);
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * Write a durations file, sorted by test id so regenerated files diff cleanly
+     * @param file Durations file
+     * @param durations Milliseconds by test id
+     */
+    public static void write(Path file, Map<String, Long> durations) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Expected test durations in milliseconds (class#method=ms) that ShardingListener\n"
+                + "# balances the shards by. Regenerate with:\n"
+                + "# java -cp <test classpath> com.test.automation.utils.ShardDurations\n");
+            for (Map.Entry<String, Long> duration : new TreeMap<>(durations).entrySet()) {
+                writer.write(duration.getKey() + "=" + duration.getValue() + "\n");
+            }
+        }
+    }
+}
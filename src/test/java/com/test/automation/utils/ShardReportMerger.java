@@ -0,0 +1,317 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+/**
+ * Merges the {@link StreamingReportListener} reports of the shards of a suite (see {@link ShardingListener}) into
+ * one index.html and results.jsonl, with a summary per shard. The merged index links to the chunk pages of the
+ * shard reports, so those stay in place. The results are checked against the suite's test list each shard wrote
+ * (suite-tests.txt): tests no shard ran, because a shard report is missing or the shards did not compute the same
+ * split, are listed, and so are tests reported by more than one shard. Exits with 1 if any test failed, any test of
+ * the suite was not run, or a shard report has no test list to check against.
+ * Run with: java -cp &lt;test classpath&gt; com.test.automation.utils.ShardReportMerger &lt;merged directory&gt;
+ * [shard report directories, or directories containing them]
+ * (defaults to the shard reports under report.dir)
+ */
+public final class ShardReportMerger {
+    private static final Json JSON = new Json();
+
+    private ShardReportMerger() {
+    }
+
+    /**
+     * Results of one shard
+     */
+    public static final class Shard {
+        private final Path directory;
+        private final List<Map<String, Object>> results;
+        private final List<String> suiteTests;
+
+        private Shard(Path directory, List<Map<String, Object>> results, List<String> suiteTests) {
+            this.directory = directory;
+            this.results = results;
+            this.suiteTests = suiteTests;
+        }
+
+        public String getName() {
+            return directory.getFileName().toString();
+        }
+
+        public List<Map<String, Object>> getResults() {
+            return results;
+        }
+
+        /**
+         * Get the ids of all test methods of the suite, including those other shards ran
+         * @return Test ids, null if the report has no test list
+         */
+        public List<String> getSuiteTests() {
+            return suiteTests;
+        }
+
+        /**
+         * Count the results with a status
+         * @param status PASSED, FAILED or SKIPPED
+         * @return Number of tests
+         */
+        public long count(String status) {
+            return results.stream().filter(result -> status.equals(result.get("status"))).count();
+        }
+
+        /**
+         * Get the time from the first test start to the last test end
+         * @return Span in milliseconds, 0 without results
+         */
+        public long getSpanMillis() {
+            long start = Long.MAX_VALUE;
+            long end = Long.MIN_VALUE;
+            for (Map<String, Object> result : results) {
+                long startMillis = number(result, "startMillis");
+                start = Math.min(start, startMillis);
+                end = Math.max(end, startMillis + number(result, "durationMillis"));
+            }
+            return results.isEmpty() ? 0 : end - start;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ShardReportMerger <merged directory> [shard report directories]");
+            System.exit(2);
+        }
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            inputs.add(Paths.get(args[i]));
+        }
+        if (inputs.isEmpty()) {
+            inputs.add(Paths.get(ConfigReader.get().getReportDir()));
+        }
+        List<Shard> shards = read(inputs);
+        if (shards.isEmpty()) {
+            System.err.println("No shard reports found in " + inputs);
+            System.exit(2);
+        }
+        Path merged = Paths.get(args[0]);
+        write(merged, shards);
+        print(shards, System.out);
+        List<String> duplicates = duplicates(shards);
+        if (!duplicates.isEmpty()) {
+            System.out.println("Tests run by more than one shard (shards did not compute the same split): "
+                + duplicates);
+        }
+        List<String> unchecked = shards.stream().filter(shard -> shard.suiteTests == null).map(Shard::getName)
+            .collect(Collectors.toList());
+        if (!unchecked.isEmpty()) {
+            System.out.println("Shard reports without " + StreamingReportListener.SUITE_TESTS
+                + ", missing tests cannot be checked: " + unchecked);
+        }
+        List<String> missing = missing(shards);
+        if (!missing.isEmpty()) {
+            System.out.println("Tests no shard ran: " + missing);
+        }
+        System.out.println("Merged report: " + merged.resolve("index.html"));
+        boolean failed = shards.stream().anyMatch(shard -> shard.count("FAILED") > 0);
+        System.exit(failed || !missing.isEmpty() || !unchecked.isEmpty() ? 1 : 0);
+    }
+
+    /**
+     * Read the shard reports; a directory without results.jsonl is searched one level down for reports named
+     * after a shard
+     * @param inputs Shard report directories, or directories containing them
+     * @return Shards in name order
+     */
+    public static List<Shard> read(List<Path> inputs) throws IOException {
+        List<Shard> shards = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isRegularFile(input.resolve("results.jsonl"))) {
+                shards.add(readShard(input));
+                continue;
+            }
+            try (Stream<Path> children = Files.list(input)) {
+                for (Path child : children.sorted().collect(Collectors.toList())) {
+                    if (Files.isRegularFile(child.resolve("results.jsonl"))
+                        && child.getFileName().toString().contains("-shard-")) {
+                        shards.add(readShard(child));
+                    }
+                }
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Write the merged index.html and results.jsonl; each result gets the shard it ran in
+     * @param directory Merged report directory
+     * @param shards Shards to merge
+     */
+    public static void write(Path directory, List<Shard> shards) throws IOException {
+        Files.createDirectories(directory);
+        Path absolute = directory.toAbsolutePath().normalize();
+        long wallMillis = shards.stream().mapToLong(Shard::getSpanMillis).max().orElse(0);
+        try (Writer index = Files.newBufferedWriter(directory.resolve("index.html"), StandardCharsets.UTF_8);
+             Writer results = Files.newBufferedWriter(directory.resolve("results.jsonl"), StandardCharsets.UTF_8)) {
+            index.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Merged shard report</title>\n"
+                + "<style>body{font-family:sans-serif}td{padding:2px 8px}.PASSED{color:#2e7d32}"
+                + ".FAILED{color:#c62828}.SKIPPED{color:#f9a825}</style></head><body>\n"
+                + "<h1>Merged shard report</h1>\n<table>\n<tr><th>Shard</th><th>Tests</th><th>Passed</th>"
+                + "<th>Failed</th><th>Skipped</th><th>Span</th></tr>\n");
+            for (Shard shard : shards) {
+                String link = absolute.relativize(shard.directory.toAbsolutePath().normalize().resolve("index.html")).toString()
+                    .replace('\\', '/');
+                index.write("<tr><td><a href=\"" + escapeHtml(link) + "\">" + escapeHtml(shard.getName())
+                    + "</a></td><td>" + shard.results.size() + "</td><td>" + shard.count("PASSED") + "</td><td>"
+                    + shard.count("FAILED") + "</td><td>" + shard.count("SKIPPED") + "</td><td>"
+                    + shard.getSpanMillis() + " ms</td></tr>\n");
+            }
+            index.write("</table>\n<p>" + summary(shards) + "</p>\n<table>\n<tr><th>Status</th><th>Test</th>"
+                + "<th>Shard</th><th>Duration</th><th>Error</th></tr>\n");
+            for (Shard shard : shards) {
+                for (Map<String, Object> result : shard.results) {
+                    String status = String.valueOf(result.get("status"));
+                    String page = (String) result.get("page");
+                    String link = page == null ? "" : absolute.relativize(shard.directory.toAbsolutePath()
+                        .normalize().resolve(page)).toString().replace('\\', '/');
+                    String error = result.get("error") == null ? "" : String.valueOf(result.get("error"));
+                    index.write("<tr class=\"" + escapeHtml(status) + "\"><td>" + escapeHtml(status)
+                        + "</td><td><a href=\"" + escapeHtml(link) + "\">" + escapeHtml((String) result.get("test"))
+                        + "</a></td><td>" + escapeHtml(shard.getName()) + "</td><td>"
+                        + number(result, "durationMillis") + " ms</td><td>"
+                        + escapeHtml(error.length() > 300 ? error.substring(0, 300) + "..." : error) + "</td></tr>\n");
+
+                    Map<String, Object> line = new LinkedHashMap<>(result);
+                    line.put("shard", shard.getName());
+                    line.put("page", link);
+                    StringBuilder json = new StringBuilder();
+                    try (JsonOutput output = JSON.newOutput(json)) {
+                        output.setPrettyPrint(false).write(line);
+                    }
+                    results.write(json.append('\n').toString());
+                }
+            }
+            index.write("</table>\n<p>Wall time " + wallMillis + " ms (slowest shard)</p>\n");
+            List<String> missing = missing(shards);
+            if (!missing.isEmpty()) {
+                index.write("<p class=\"FAILED\">Tests no shard ran: " + escapeHtml(String.join(", ", missing))
+                    + "</p>\n");
+            }
+            index.write("</body></html>\n");
+        }
+    }
+
+    /**
+     * Print one line per shard and the totals
+     * @param shards Merged shards
+     * @param out Output stream
+     */
+    public static void print(List<Shard> shards, PrintStream out) {
+        for (Shard shard : shards) {
+            out.printf("%-60s %4d tests %4d passed %4d failed %4d skipped %8d ms%n", shard.getName(),
+                shard.results.size(), shard.count("PASSED"), shard.count("FAILED"), shard.count("SKIPPED"),
+                shard.getSpanMillis());
+        }
+        out.println(summary(shards));
+    }
+
+    /**
+     * Build the totals line: tests by status, wall time of the slowest shard, and how far it is above the mean
+     */
+    private static String summary(List<Shard> shards) {
+        long tests = shards.stream().mapToLong(shard -> shard.results.size()).sum();
+        long wallMillis = shards.stream().mapToLong(Shard::getSpanMillis).max().orElse(0);
+        double meanMillis = shards.stream().mapToLong(Shard::getSpanMillis).average().orElse(0);
+        return String.format("%d shards, %d tests: %d passed, %d failed, %d skipped; wall time %d ms, "
+                + "slowest shard %.2fx the mean", shards.size(), tests,
+            shards.stream().mapToLong(shard -> shard.count("PASSED")).sum(),
+            shards.stream().mapToLong(shard -> shard.count("FAILED")).sum(),
+            shards.stream().mapToLong(shard -> shard.count("SKIPPED")).sum(), wallMillis,
+            meanMillis > 0 ? wallMillis / meanMillis : 1.0);
+    }
+
+    /**
+     * Find the tests reported by more than one shard
+     * @param shards Merged shards
+     * @return Test ids, empty if the shards are disjoint
+     */
+    public static List<String> duplicates(List<Shard> shards) {
+        Map<String, String> shardByTest = new LinkedHashMap<>();
+        List<String> duplicates = new ArrayList<>();
+        for (Shard shard : shards) {
+            for (Map<String, Object> result : shard.results) {
+                String test = (String) result.get("test");
+                String previous = shardByTest.putIfAbsent(test, shard.getName());
+                if (previous != null && !previous.equals(shard.getName()) && !duplicates.contains(test)) {
+                    duplicates.add(test);
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Find the tests of the suite that no shard reported, from the test lists of the shards
+     * @param shards Merged shards
+     * @return Test ids in suite order, empty if every listed test ran
+     */
+    public static List<String> missing(List<Shard> shards) {
+        Set<String> expected = new LinkedHashSet<>();
+        Set<String> reported = new HashSet<>();
+        for (Shard shard : shards) {
+            if (shard.suiteTests != null) {
+                expected.addAll(shard.suiteTests);
+            }
+            for (Map<String, Object> result : shard.results) {
+                reported.add((String) result.get("test"));
+            }
+        }
+        expected.removeAll(reported);
+        return new ArrayList<>(expected);
+    }
+
+    private static Shard readShard(Path directory) throws IOException {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String line : Files.readAllLines(directory.resolve("results.jsonl"), StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                results.add(JSON.toType(line, Json.MAP_TYPE));
+            }
+        }
+        Path testList = directory.resolve(StreamingReportListener.SUITE_TESTS);
+        List<String> suiteTests = null;
+        if (Files.isRegularFile(testList)) {
+            suiteTests = new ArrayList<>();
+            for (String line : Files.readAllLines(testList, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    suiteTests.add(line.trim());
+                }
+            }
+        }
+        return new Shard(directory, results, suiteTests);
+    }
+
+    private static long number(Map<String, Object> result, String key) {
+        Object value = result.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static String escapeHtml(String text) {
+        return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+            .replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,148 @@
+package com.test.automation.utils;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+/**
+ * TestNG listener that runs one shard of the suite when shard is set (mvn test -Dshard=2/4), so the suite can be
+ * spread over several build agents. All test methods of the suite are bin-packed into the shards by their expected
+ * duration from the committed shard.durations file (see {@link ShardDurations}; tests not in it count as the median
+ * of the others): the longest go first, each to the shard with the least expected time so far, ties by name. The
+ * split only depends on the suite and that file, never on local state such as the baseline, so every shard computes
+ * the same split and the shards together run each test once; the logged split id is equal across the shards.
+ * Classes with method or group dependencies stay in one shard. Shard reports and baseline runs are named after the
+ * shard; combine the reports with {@link ShardReportMerger}, which also fails on tests no shard ran.
+ * Register in the suite xml: &lt;listener class-name="com.test.automation.utils.ShardingListener"/&gt;
+ */
+public class ShardingListener implements ISuiteListener, IMethodInterceptor {
+    private volatile Set<String> shardTests;
+
+    /**
+     * Get the suffix that names the outputs of this run after its shard
+     * @return "-shard-i-of-N", empty if not sharded
+     */
+    static String runSuffix() {
+        Config config = ConfigReader.get();
+        return config.isSharded() ? "-shard-" + config.getShardIndex() + "-of-" + config.getShardCount() : "";
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        Config config = ConfigReader.get();
+        if (!config.isSharded()) {
+            return;
+        }
+        Map<String, Long> durations = config.getShardDurations().isEmpty() ? Map.of()
+            : ShardDurations.read(Paths.get(config.getShardDurations()));
+        Map<String, List<String>> units = units(suite.getAllMethods());
+        Map<String, Long> expected = new LinkedHashMap<>();
+        List<Long> known = new ArrayList<>();
+        for (Map.Entry<String, List<String>> unit : units.entrySet()) {
+            long millis = 0;
+            boolean complete = true;
+            for (String testId : unit.getValue()) {
+                Long duration = durations.get(testId);
+                complete &= duration != null;
+                millis += duration != null ? duration : 0;
+            }
+            expected.put(unit.getKey(), complete ? millis : -1);
+            if (complete) {
+                known.add(millis);
+            }
+        }
+        long fallback = known.isEmpty() ? 1 : known.stream().sorted().skip(known.size() / 2).findFirst().get();
+        expected.replaceAll((unit, millis) -> millis < 0 ? Math.max(fallback, 1) : millis);
+
+        List<String> ordered = new ArrayList<>(units.keySet());
+        ordered.sort(Comparator.comparing((String unit) -> expected.get(unit)).reversed()
+            .thenComparing(Comparator.naturalOrder()));
+        long[] loads = new long[config.getShardCount()];
+        Set<String> selected = new HashSet<>();
+        List<String> split = new ArrayList<>();
+        int selectedUnits = 0;
+        for (String unit : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < loads.length; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += expected.get(unit);
+            split.add(unit + "=" + lightest);
+            if (lightest == config.getShardIndex() - 1) {
+                selected.addAll(units.get(unit));
+                selectedUnits++;
+            }
+        }
+        shardTests = selected;
+        long total = Arrays.stream(loads).sum();
+        Logger.info(String.format("Shard %d/%d of suite %s (split %08x): %d of %d tests (%d units), expected %.1f s "
+                + "of %.1f s; %d units without a duration in %s counted as %d ms; expected shard times %s ms",
+            config.getShardIndex(), config.getShardCount(), suite.getName(), split.hashCode(), selected.size(),
+            suite.getAllMethods().size(), selectedUnits,
+            loads[config.getShardIndex() - 1] / 1000.0, total / 1000.0, units.size() - known.size(),
+            config.getShardDurations().isEmpty() ? "shard.durations" : config.getShardDurations(), fallback,
+            Arrays.toString(loads)));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Set<String> tests = shardTests;
+        if (tests == null) {
+            return methods;
+        }
+        List<IMethodInstance> kept = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (tests.contains(testId(method.getMethod()))) {
+                kept.add(method);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Group the test methods into the units distributed over the shards: single methods, or whole classes that
+     * have dependencies
+     * @return Test ids by unit, in suite order
+     */
+    private static Map<String, List<String>> units(List<ITestNGMethod> methods) {
+        Set<Class<?>> dependent = new HashSet<>();
+        for (ITestNGMethod method : methods) {
+            if (method.getMethodsDependedUpon().length > 0 || method.getGroupsDependedUpon().length > 0) {
+                dependent.add(method.getRealClass());
+            }
+        }
+        Map<String, List<String>> units = new LinkedHashMap<>();
+        for (ITestNGMethod method : methods) {
+            String testId = testId(method);
+            String unit = dependent.contains(method.getRealClass()) ? method.getRealClass().getName() : testId;
+            List<String> tests = units.computeIfAbsent(unit, key -> new ArrayList<>());
+            if (!tests.contains(testId)) {
+                tests.add(testId);
+            }
+        }
+        return units;
+    }
+
+    private static String testId(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "#" + method.getMethodName();
+    }
+}
@@ -0,0 +1,309 @@
+package com.test.automation.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times page-object methods and splits their time into driver round-trips, explicit waits, sleeps and the
+ * remaining client-side work.
+ * Timed page objects (see com.test.automation.base.Pages) call {@link #enter}/{@link #exit} around every public
+ * method; the driver listener, waits and sleeps bracket their time with {@link #begin}/{@link #end}. Time is
+ * attributed to the outermost category, so driver polls inside a wait count as waiting. Nested page-object calls
+ * are timed on their own and are also included in their caller. Statistics are aggregated per method for the
+ * whole run; per-thread frames are preallocated, so timing does not allocate. Each thread also keeps totals of
+ * its driver calls, waits and sleeps, which per-test measurements diff (see RegressionGateListener).
+ */
+public final class StepTimer {
+    /**
+     * Where time inside a page-object method goes
+     */
+    public enum Category {
+        DRIVER, WAIT, SLEEP
+    }
+
+    private static final boolean ENABLED = ConfigReader.get().isStepTimingEnabled();
+    private static final int MAX_DEPTH = 32;
+    private static final Map<String, MethodStats> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private StepTimer() {
+    }
+
+    /**
+     * Check if page-object methods are timed
+     * @return true if step timing is enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Start timing a page-object method on the current thread
+     * @param method Method name ("Class.method")
+     * @return Stack depth to pass to {@link #exit}
+     */
+    public static int enter(String method) {
+        if (!ENABLED) {
+            return -1;
+        }
+        State state = STATE.get();
+        int depth = state.depth++;
+        if (depth < MAX_DEPTH) {
+            state.frames[depth].start(STATS.computeIfAbsent(method, MethodStats::new));
+        }
+        return depth;
+    }
+
+    /**
+     * Stop timing the method started at a depth and record it
+     * @param depth Value returned by {@link #enter}
+     * @param failed true if the method threw
+     */
+    public static void exit(int depth, boolean failed) {
+        if (depth < 0) {
+            return;
+        }
+        State state = STATE.get();
+        state.depth = depth;
+        if (depth < MAX_DEPTH) {
+            Frame frame = state.frames[depth];
+            long now = System.nanoTime();
+            if (state.active != null) {
+                // A category still open (e.g. the method threw inside a wait) counts up to now
+                frame.categoryNanos[state.active.ordinal()] += now - Math.max(state.activeStart, frame.start);
+            }
+            frame.stats.record(now - frame.start, frame.categoryNanos, frame.driverCalls, failed);
+            frame.stats = null;
+        }
+    }
+
+    /**
+     * Start a driver call, wait or sleep on the current thread
+     * @param category Category of the time
+     * @return Token to pass to {@link #end}, -1 if timing is disabled or another category is already open
+     */
+    public static long begin(Category category) {
+        if (!ENABLED) {
+            return -1;
+        }
+        State state = STATE.get();
+        state.counts[category.ordinal()]++;
+        if (category == Category.DRIVER) {
+            for (int i = 0; i < Math.min(state.depth, MAX_DEPTH); i++) {
+                state.frames[i].driverCalls++;
+            }
+        }
+        if (state.active != null) {
+            return -1;
+        }
+        state.active = category;
+        state.activeStart = System.nanoTime();
+        return state.activeStart;
+    }
+
+    /**
+     * End a driver call, wait or sleep started with {@link #begin}
+     * @param token Value returned by {@link #begin}
+     */
+    public static void end(long token) {
+        if (token == -1) {
+            return;
+        }
+        State state = STATE.get();
+        if (state.active == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        int category = state.active.ordinal();
+        state.nanos[category] += now - token;
+        for (int i = 0; i < Math.min(state.depth, MAX_DEPTH); i++) {
+            Frame frame = state.frames[i];
+            frame.categoryNanos[category] += now - Math.max(token, frame.start);
+        }
+        state.active = null;
+    }
+
+    /**
+     * Get the number of driver calls, waits or sleeps started on the current thread so far, inside page-object
+     * methods or not; driver calls made by a wait are counted as well
+     * @param category Category
+     * @return Count since the thread started
+     */
+    public static long getThreadCount(Category category) {
+        return ENABLED ? STATE.get().counts[category.ordinal()] : 0;
+    }
+
+    /**
+     * Get the time spent in driver calls, waits or sleeps on the current thread so far
+     * @param category Category
+     * @return Nanoseconds since the thread started
+     */
+    public static long getThreadNanos(Category category) {
+        return ENABLED ? STATE.get().nanos[category.ordinal()] : 0;
+    }
+
+    /**
+     * Get the statistics of every timed method
+     * @return Statistics, most total time first
+     */
+    public static List<MethodStats> getStats() {
+        List<MethodStats> stats = new ArrayList<>(STATS.values());
+        stats.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+        return stats;
+    }
+
+    /**
+     * Forget all statistics recorded so far
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    /**
+     * Build the "where the time goes" report: methods ranked by total time, with latency percentiles and the
+     * share of driver round-trips, waits, sleeps and client-side work
+     * @return Report text, one line per method
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder(String.format("%-48s %6s %6s %9s %8s %8s %8s %7s %6s %6s %6s %6s%n",
+            "Method", "Calls", "Errors", "Total s", "p50 ms", "p95 ms", "p99 ms", "Trips", "Driver", "Wait",
+            "Sleep", "Client"));
+        for (MethodStats stats : getStats()) {
+            double total = Math.max(stats.getTotalNanos(), 1);
+            report.append(String.format("%-48s %6d %6d %9.2f %8.0f %8.0f %8.0f %7.1f %5.0f%% %5.0f%% %5.0f%% %5.0f%%%n",
+                stats.getName(), stats.getCalls(), stats.getErrors(), stats.getTotalNanos() / 1e9,
+                stats.getLatency().getPercentileMillis(50), stats.getLatency().getPercentileMillis(95),
+                stats.getLatency().getPercentileMillis(99), (double) stats.getDriverCalls() / stats.getCalls(),
+                100 * stats.getNanos(Category.DRIVER) / total, 100 * stats.getNanos(Category.WAIT) / total,
+                100 * stats.getNanos(Category.SLEEP) / total, 100 * stats.getClientNanos() / total));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Aggregated timing of one page-object method across the run
+     */
+    public static final class MethodStats {
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] categoryNanos = {new LongAdder(), new LongAdder(), new LongAdder()};
+        private final LongAdder driverCalls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private MethodStats(String method) {
+            // Timed wrappers are subclasses named <page>$Timed
+            this.name = method.substring(method.lastIndexOf('.', method.lastIndexOf('.') - 1) + 1)
+                .replace("$Timed", "");
+        }
+
+        private void record(long nanos, long[] categories, int calls, boolean failed) {
+            latency.record(nanos);
+            totalNanos.add(nanos);
+            for (int i = 0; i < categories.length; i++) {
+                categoryNanos[i].add(categories[i]);
+            }
+            driverCalls.add(calls);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        /**
+         * Get the method name
+         * @return "Page.method"
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the latency of all calls
+         * @return Latency histogram
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getCalls() {
+            return latency.getCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * Get the time spent in one category
+         * @param category Category
+         * @return Nanoseconds summed over all calls
+         */
+        public long getNanos(Category category) {
+            return categoryNanos[category.ordinal()].sum();
+        }
+
+        /**
+         * Get the time not spent in driver calls, waits or sleeps
+         * @return Nanoseconds summed over all calls
+         */
+        public long getClientNanos() {
+            long client = getTotalNanos();
+            for (LongAdder category : categoryNanos) {
+                client -= category.sum();
+            }
+            return Math.max(client, 0);
+        }
+
+        /**
+         * Get the number of driver round-trips
+         * @return Driver calls summed over all calls
+         */
+        public long getDriverCalls() {
+            return driverCalls.sum();
+        }
+    }
+
+    /**
+     * Timing stack of one thread
+     */
+    private static final class State {
+        private final Frame[] frames = new Frame[MAX_DEPTH];
+        // Totals of the thread, inside page-object methods or not
+        private final long[] counts = new long[Category.values().length];
+        private final long[] nanos = new long[Category.values().length];
+        private int depth;
+        private Category active;
+        private long activeStart;
+
+        private State() {
+            for (int i = 0; i < frames.length; i++) {
+                frames[i] = new Frame();
+            }
+        }
+    }
+
+    /**
+     * One method call being timed
+     */
+    private static final class Frame {
+        private final long[] categoryNanos = new long[Category.values().length];
+        private MethodStats stats;
+        private long start;
+        private int driverCalls;
+
+        private void start(MethodStats methodStats) {
+            stats = methodStats;
+            start = System.nanoTime();
+            driverCalls = 0;
+            Arrays.fill(categoryNanos, 0);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener that logs and writes the step timing report ("where the time goes") after each suite, to
+ * step-timing-&lt;timestamp&gt;-&lt;pid&gt;-&lt;suite&gt;.txt in step.timing.dir.
+ * Register in the suite xml: &lt;listener class-name="com.test.automation.utils.StepTimingListener"/&gt;
+ */
+public class StepTimingListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        StepTimer.reset();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!StepTimer.isEnabled() || StepTimer.getStats().isEmpty()) {
+            return;
+        }
+        String report = StepTimer.report();
+        Logger.info("Step timing of suite " + suite.getName() + "\n" + report);
+        Path file = Paths.get(ConfigReader.get().getStepTimingDir(), "step-timing-"
+            + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-" + ProcessHandle.current().pid()
+            + "-" + suite.getName().replaceAll("[^A-Za-z0-9]+", "_") + ".txt");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, report.getBytes(StandardCharsets.UTF_8));
+            Logger.info("Step timing report written to " + file);
+        } catch (IOException e) {
+            Logger.warn("Failed to write the step timing report to " + file, e);
+        }
+    }
+}
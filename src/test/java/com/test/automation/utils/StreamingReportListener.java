@@ -0,0 +1,358 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+
+/**
+ * TestNG listener that writes an ExtentReports report incrementally.
+ * Each test's step log ({@link Logger} messages and step screenshots) is collected while it runs and written to
+ * disk as soon as it finishes and its screenshots are stored (in the background, so the test thread does not
+ * wait): the test is added to the current Spark chunk page (report.chunk.size tests per page, then a fresh
+ * ExtentReports instance), and a row is appended to index.html and results.jsonl. Only the current chunk and the
+ * running tests are held in memory, and a crashed run still leaves every finished test on disk. Failed tests get a
+ * screenshot while the browser is still open. suite-tests.txt lists every test method of the suite.
+ * Register in the suite xml: &lt;listener class-name="com.test.automation.utils.StreamingReportListener"/&gt;
+ */
+public class StreamingReportListener implements IInvokedMethodListener, ITestListener, ISuiteListener {
+    /**
+     * File in the run directory listing the ids of all test methods of the suite, one per line
+     */
+    public static final String SUITE_TESTS = "suite-tests.txt";
+    private static final long SCREENSHOT_WAIT_MILLIS = 5000;
+
+    private final Object lock = new Object();
+    // Entries waiting for their screenshots to be stored
+    private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+    private Path runDirectory;
+    private Writer index;
+    private Writer results;
+    private ExtentReports chunk;
+    private int chunkNumber;
+    private int chunkTests;
+    private int passed;
+    private int failed;
+    private int skipped;
+
+    @Override
+    public void onStart(ISuite suite) {
+        open(suite.getName());
+        writeSuiteTests(suite);
+    }
+
+    /**
+     * Write suite-tests.txt, the ids of all test methods of the suite, including those other shards run; the
+     * merged shard reports are checked against it for tests no shard ran
+     */
+    private void writeSuiteTests(ISuite suite) {
+        Set<String> testIds = new LinkedHashSet<>();
+        for (ITestNGMethod method : suite.getAllMethods()) {
+            testIds.add(testId(method));
+        }
+        synchronized (lock) {
+            if (runDirectory == null) {
+                return;
+            }
+            try {
+                Files.write(runDirectory.resolve(SUITE_TESTS), testIds, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                Logger.warn("Failed to write the suite's test list to " + runDirectory, e);
+            }
+        }
+    }
+
+    /**
+     * Create the report directory and start the index, unless the report is already open
+     * @param name Run name shown in the index
+     */
+    public void open(String name) {
+        synchronized (lock) {
+            if (index != null) {
+                return;
+            }
+            Config config = ConfigReader.get();
+            runDirectory = Paths.get(config.getReportDir(), new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date())
+                + "-" + ProcessHandle.current().pid() + "-" + name.replaceAll("[^A-Za-z0-9]+", "_")
+                + ShardingListener.runSuffix());
+            try {
+                Files.createDirectories(runDirectory.resolve("chunks"));
+                index = Files.newBufferedWriter(runDirectory.resolve("index.html"), StandardCharsets.UTF_8);
+                results = Files.newBufferedWriter(runDirectory.resolve("results.jsonl"), StandardCharsets.UTF_8);
+                index.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>" + escapeHtml(name)
+                    + "</title>\n<style>body{font-family:sans-serif}td{padding:2px 8px}.PASSED{color:#2e7d32}"
+                    + ".FAILED{color:#c62828}.SKIPPED{color:#f9a825}</style></head><body>\n<h1>"
+                    + escapeHtml(name) + "</h1>\n<table>\n<tr><th>Status</th><th>Test</th><th>Duration</th>"
+                    + "<th>Error</th></tr>\n");
+                index.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create report in " + runDirectory, e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(this::close, "report-shutdown"));
+            Logger.info("Writing test report to " + runDirectory.resolve("index.html"));
+        }
+    }
+
+    /**
+     * Get the directory this report is written to
+     * @return Run directory, null before the suite starts
+     */
+    public Path getRunDirectory() {
+        return runDirectory;
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        close();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        // Setup entries are kept with the test; the test's own id applies once the test method starts
+        if (method.isTestMethod()) {
+            ReportContext.beginTest(testId(testMethod), ConfigReader.get().getReportMaxEntries());
+        } else if (testMethod.isBeforeMethodConfiguration()) {
+            ReportContext.beginSetup(testMethod.getRealClass().getSimpleName(), ConfigReader.get().getReportMaxEntries());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finish(result, "PASSED");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        WebDriver driver = WebDriverManager.getCurrentDriver();
+        if (driver != null) {
+            ReportContext.record("ERROR", "Screenshot at failure",
+                ScreenshotPipeline.get().capture(driver, "failure " + testId(result.getMethod()), true));
+        }
+        finish(result, "FAILED");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finish(result, "SKIPPED");
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        finish(result, "PASSED");
+    }
+
+    private void finish(ITestResult result, String status) {
+        ReportContext context = ReportContext.end();
+        String testId = testId(result.getMethod());
+        long startMillis = context != null ? context.getStartMillis() : result.getStartMillis();
+        long endMillis = Math.max(result.getEndMillis(), startMillis);
+        List<ReportContext.Entry> entries = context != null ? context.getEntries() : new ArrayList<>();
+        int omitted = context != null ? context.getOmitted() : 0;
+        // Screenshots are written in the background: write the entry once they are stored, off the test thread
+        List<CompletableFuture<Path>> screenshots = new ArrayList<>(entries.size());
+        for (ReportContext.Entry entry : entries) {
+            screenshots.add(stored(entry.screenshot));
+        }
+        CompletableFuture<Void> written = CompletableFuture.allOf(screenshots.toArray(new CompletableFuture<?>[0]))
+            .thenRun(() -> write(testId, status, result, startMillis, endMillis, entries, paths(screenshots), omitted));
+        pending.add(written);
+        written.whenComplete((ignored, error) -> pending.remove(written));
+    }
+
+    private void write(String testId, String status, ITestResult result, long startMillis, long endMillis,
+                       List<ReportContext.Entry> entries, List<Path> screenshots, int omitted) {
+        synchronized (lock) {
+            if (index == null) {
+                return;
+            }
+            try {
+                String chunkFile = writeToChunk(testId, status, result, startMillis, endMillis, entries, screenshots,
+                    omitted);
+                appendIndex(testId, status, result.getThrowable(), startMillis, endMillis, chunkFile, screenshots);
+            } catch (IOException | RuntimeException e) {
+                Logger.warn("Failed to write report entry for " + testId, e);
+            }
+        }
+    }
+
+    private String writeToChunk(String testId, String status, ITestResult result, long startMillis,
+                                       long endMillis, List<ReportContext.Entry> entries, List<Path> screenshots,
+                                       int omitted) {
+        Config config = ConfigReader.get();
+        if (chunk == null || chunkTests >= config.getReportChunkSize()) {
+            chunkNumber++;
+            chunkTests = 0;
+            chunk = new ExtentReports();
+            chunk.attachReporter(new ExtentSparkReporter(chunkPath().toFile()));
+        }
+        chunkTests++;
+        Path chunkDirectory = chunkPath().getParent();
+        ExtentTest test = chunk.createTest(testId, result.getMethod().getDescription());
+        test.assignCategory(result.getTestContext().getName());
+        test.getModel().setStartTime(new Date(startMillis));
+        for (int i = 0; i < entries.size(); i++) {
+            ReportContext.Entry entry = entries.get(i);
+            String message = new SimpleDateFormat("HH:mm:ss.SSS").format(new Date(entry.timeMillis)) + " ["
+                + entry.level + "] " + entry.message;
+            Status entryStatus = "ERROR".equals(entry.level) ? Status.FAIL : "WARN".equals(entry.level) ? Status.WARNING
+                : Status.INFO;
+            Path screenshot = screenshots.get(i);
+            if (screenshot != null) {
+                String relative = chunkDirectory.toAbsolutePath().relativize(screenshot.toAbsolutePath()).toString()
+                    .replace('\\', '/');
+                test.log(entryStatus, escapeHtml(message), MediaEntityBuilder.createScreenCaptureFromPath(relative).build());
+            } else {
+                test.log(entryStatus, escapeHtml(message));
+            }
+        }
+        if (omitted > 0) {
+            test.info(omitted + " more log entries omitted (report.max.entries)");
+        }
+        if ("PASSED".equals(status)) {
+            test.pass("Test passed");
+        } else if ("SKIPPED".equals(status)) {
+            test.skip(result.getThrowable() != null ? escapeHtml(String.valueOf(result.getThrowable())) : "Test skipped");
+        } else if (result.getThrowable() != null) {
+            test.fail(result.getThrowable());
+        } else {
+            test.fail("Test failed");
+        }
+        test.getModel().setEndTime(new Date(endMillis));
+        chunk.flush();
+        return "chunks/" + chunkPath().getFileName();
+    }
+
+    private void appendIndex(String testId, String status, Throwable error, long startMillis, long endMillis,
+                                    String chunkFile, List<Path> screenshots) throws IOException {
+        switch (status) {
+            case "PASSED":
+                passed++;
+                break;
+            case "FAILED":
+                failed++;
+                break;
+            default:
+                skipped++;
+                break;
+        }
+        String errorText = error != null ? String.valueOf(error) : "";
+        index.write("<tr class=\"" + status + "\"><td>" + status + "</td><td><a href=\"" + chunkFile + "\">"
+            + escapeHtml(testId) + "</a></td><td>" + (endMillis - startMillis) + " ms</td><td>"
+            + escapeHtml(errorText.length() > 300 ? errorText.substring(0, 300) + "..." : errorText) + "</td></tr>\n");
+        index.flush();
+        StringBuilder line = new StringBuilder("{\"test\":").append(JsonStrings.quote(testId))
+            .append(",\"status\":").append(JsonStrings.quote(status))
+            .append(",\"startMillis\":").append(startMillis)
+            .append(",\"durationMillis\":").append(endMillis - startMillis)
+            .append(",\"page\":").append(JsonStrings.quote(chunkFile))
+            .append(",\"error\":").append(error != null ? JsonStrings.quote(errorText) : "null")
+            .append(",\"screenshots\":[");
+        String separator = "";
+        for (Path screenshot : screenshots) {
+            if (screenshot != null) {
+                line.append(separator).append(JsonStrings.quote(screenshot.toString()));
+                separator = ",";
+            }
+        }
+        results.write(line.append("]}\n").toString());
+        results.flush();
+    }
+
+    /**
+     * Write the index footer and close the report; later results are not written
+     */
+    public void close() {
+        // Let the entries still waiting for screenshots be written first; each waits at most SCREENSHOT_WAIT_MILLIS
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                .get(SCREENSHOT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            Logger.warn("Report entries still pending at close: " + pending.size(), e);
+        }
+        synchronized (lock) {
+            if (index == null) {
+                return;
+            }
+            try {
+                index.write("</table>\n<p>" + passed + " passed, " + failed + " failed, " + skipped
+                    + " skipped</p>\n</body></html>\n");
+                index.close();
+                results.close();
+            } catch (IOException e) {
+                Logger.warn("Failed to close report in " + runDirectory, e);
+            }
+            index = null;
+            results = null;
+            chunk = null;
+        }
+    }
+
+    private Path chunkPath() {
+        return runDirectory.resolve("chunks").resolve(String.format("chunk-%04d.html", chunkNumber));
+    }
+
+    /**
+     * Get a copy of a screenshot future that completes with null if storing fails or takes longer than
+     * SCREENSHOT_WAIT_MILLIS, without completing the pipeline's own future
+     */
+    private static CompletableFuture<Path> stored(CompletableFuture<Path> screenshot) {
+        if (screenshot == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return screenshot.handle((path, error) -> error == null ? path : null)
+            .completeOnTimeout(null, SCREENSHOT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private static List<Path> paths(List<CompletableFuture<Path>> screenshots) {
+        List<Path> paths = new ArrayList<>(screenshots.size());
+        for (CompletableFuture<Path> screenshot : screenshots) {
+            paths.add(screenshot.join());
+        }
+        return paths;
+    }
+
+    private static String testId(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "#" + method.getMethodName();
+    }
+
+    private static String escapeHtml(String text) {
+        return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+            .replace("\"", "&quot;");
+    }
+}
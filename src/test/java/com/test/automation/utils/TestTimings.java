@@ -0,0 +1,91 @@
+package com.test.automation.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Timing of the test method running on the current thread, collected for {@link RegressionGateListener}: its
+ * duration, driver round-trips and waits, split by {@link Logger#step} into steps. Steps are keyed by their
+ * message up to the first ':' with digits replaced by '#', so steps logging test data ("Creating new lead: Jane
+ * Doe") match across runs; repeated steps are added up.
+ */
+final class TestTimings {
+    private static final ThreadLocal<TestTimings> CURRENT = new ThreadLocal<>();
+    private static final Pattern DIGITS = Pattern.compile("[0-9]+");
+    private static final int MAX_STEPS = 100;
+
+    private final Map<String, PerformanceBaseline.Measurement> steps = new LinkedHashMap<>();
+    private final long startNanos = System.nanoTime();
+    private final long startRoundTrips = StepTimer.getThreadCount(StepTimer.Category.DRIVER);
+    private final long startWaits = StepTimer.getThreadCount(StepTimer.Category.WAIT);
+    private final long startWaitNanos = StepTimer.getThreadNanos(StepTimer.Category.WAIT);
+    private String step;
+    private long stepNanos;
+    private long stepRoundTrips;
+    private long stepWaits;
+    private long stepWaitNanos;
+
+    private TestTimings() {
+    }
+
+    /**
+     * Start timing a test method on the current thread, replacing any unfinished timing
+     */
+    static void begin() {
+        CURRENT.set(new TestTimings());
+    }
+
+    /**
+     * Close the current step of the current thread's test, if one is timed, and start the next one
+     * @param message Step message
+     */
+    static void step(String message) {
+        TestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return;
+        }
+        timings.closeStep();
+        if (timings.steps.size() < MAX_STEPS) {
+            int colon = message.indexOf(':');
+            timings.step = DIGITS.matcher(colon > 0 ? message.substring(0, colon) : message).replaceAll("#").trim();
+            timings.stepNanos = System.nanoTime();
+            timings.stepRoundTrips = StepTimer.getThreadCount(StepTimer.Category.DRIVER);
+            timings.stepWaits = StepTimer.getThreadCount(StepTimer.Category.WAIT);
+            timings.stepWaitNanos = StepTimer.getThreadNanos(StepTimer.Category.WAIT);
+        }
+    }
+
+    /**
+     * Stop timing the current thread's test
+     * @return Measurement of the whole test, with its steps; null if no test was timed
+     */
+    static PerformanceBaseline.Measurement end() {
+        TestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return null;
+        }
+        CURRENT.remove();
+        timings.closeStep();
+        PerformanceBaseline.Measurement test = measure(timings.startNanos, timings.startRoundTrips, timings.startWaits,
+            timings.startWaitNanos);
+        test.getSteps().putAll(timings.steps);
+        return test;
+    }
+
+    private void closeStep() {
+        if (step == null) {
+            return;
+        }
+        PerformanceBaseline.Measurement current = measure(stepNanos, stepRoundTrips, stepWaits, stepWaitNanos);
+        steps.merge(step, current, PerformanceBaseline.Measurement::plus);
+        step = null;
+    }
+
+    private static PerformanceBaseline.Measurement measure(long startNanos, long roundTrips, long waits, long waitNanos) {
+        return new PerformanceBaseline.Measurement((System.nanoTime() - startNanos) / 1_000_000,
+            StepTimer.getThreadCount(StepTimer.Category.DRIVER) - roundTrips,
+            StepTimer.getThreadCount(StepTimer.Category.WAIT) - waits,
+            (StepTimer.getThreadNanos(StepTimer.Category.WAIT) - waitNanos) / 1_000_000);
+    }
+}
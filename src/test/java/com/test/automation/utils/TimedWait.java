@@ -0,0 +1,32 @@
+package com.test.automation.utils;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * WebDriverWait whose waiting time is attributed to waits by {@link StepTimer}, including the driver polls it makes
+ */
+public class TimedWait extends WebDriverWait {
+
+    /**
+     * Create a wait
+     * @param driver Driver to poll
+     * @param timeout Maximum time to wait
+     */
+    public TimedWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long token = StepTimer.begin(StepTimer.Category.WAIT);
+        try {
+            return super.until(isTrue);
+        } finally {
+            StepTimer.end(token);
+        }
+    }
+}
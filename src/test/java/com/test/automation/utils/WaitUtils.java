@@ -29,8 +29,8 @@ public class WaitUtils {
      */
     public WaitUtils(WebDriver driver) {
         this.driver = driver;
-        this.defaultTimeoutSeconds = ConfigReader.getIntProperty("explicit.wait");
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(defaultTimeoutSeconds));
+        this.defaultTimeoutSeconds = (int) ConfigReader.get().getExplicitWait().getSeconds();
+        this.wait = new TimedWait(driver, Duration.ofSeconds(defaultTimeoutSeconds));
         Logger.debug("WaitUtils initialized with default timeout: " + defaultTimeoutSeconds + " seconds");
     }
     
@@ -42,7 +42,7 @@ public class WaitUtils {
     public WaitUtils(WebDriver driver, int timeoutInSeconds) {
         this.driver = driver;
         this.defaultTimeoutSeconds = timeoutInSeconds;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        this.wait = new TimedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         Logger.debug("WaitUtils initialized with custom timeout: " + timeoutInSeconds + " seconds");
     }
     
@@ -210,6 +210,7 @@ public class WaitUtils {
                 .ignoring(NoSuchElementException.class)
                 .ignoring(StaleElementReferenceException.class);
         
+        long token = StepTimer.begin(StepTimer.Category.WAIT);
         try {
             WebElement element = fluentWait.until(driver -> driver.findElement(locator));
             Logger.debug("Element found with fluent wait: " + locator);
@@ -217,6 +218,8 @@ public class WaitUtils {
         } catch (TimeoutException e) {
             Logger.error("Element not found with fluent wait within timeout: " + locator, e);
             throw e;
+        } finally {
+            StepTimer.end(token);
         }
     }
     
@@ -303,12 +306,15 @@ public class WaitUtils {
      * @param milliseconds Time to sleep in milliseconds
      */
     public static void sleep(long milliseconds) {
+        long token = StepTimer.begin(StepTimer.Category.SLEEP);
         try {
             Thread.sleep(milliseconds);
             Logger.debug("Slept for " + milliseconds + " milliseconds");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             Logger.warn("Sleep interrupted", e);
+        } finally {
+            StepTimer.end(token);
         }
     }
 } 
\ No newline at end of file
@@ -35,13 +35,13 @@ public class WebDriverManager {
         options.addArguments("--disable-dev-shm-usage");   // Overcome limited resource problems
         
         // Set headless mode if configured
-        if (ConfigReader.getBooleanProperty("headless.mode")) {
+        if (ConfigReader.get().isHeadlessMode()) {
             options.addArguments("--headless=new");
             Logger.info("Running in Chrome headless mode");
         }
         
         WebDriver driver = new ChromeDriver(options);
-        driverThreadLocal.set(driver);
+        driverThreadLocal.set(instrumented(driver));
         Logger.info("Chrome WebDriver initialized");
     }
     
@@ -62,14 +62,14 @@ public class WebDriverManager {
         options.addArguments("--height=1080");
         
         // Set headless mode if configured
-        if (ConfigReader.getBooleanProperty("headless.mode")) {
+        if (ConfigReader.get().isHeadlessMode()) {
             options.addArguments("--headless");
             Logger.info("Running in Firefox headless mode");
         }
         
         WebDriver driver = new FirefoxDriver(options);
         driver.manage().window().maximize();
-        driverThreadLocal.set(driver);
+        driverThreadLocal.set(instrumented(driver));
         Logger.info("Firefox WebDriver initialized");
     }
     
@@ -88,22 +88,32 @@ public class WebDriverManager {
         options.addArguments("--disable-notifications");
         
         // Set headless mode if configured
-        if (ConfigReader.getBooleanProperty("headless.mode")) {
+        if (ConfigReader.get().isHeadlessMode()) {
             options.addArguments("--headless=new");
             Logger.info("Running in headless mode");
         }
         
         WebDriver driver = new EdgeDriver(options);
         driver.manage().window().maximize();
-        driverThreadLocal.set(driver);
+        driverThreadLocal.set(instrumented(driver));
         Logger.info("Edge WebDriver initialized");
     }
     
+    /**
+     * Wrap a driver so every driver and element command is recorded in the event journal and timed as a driver
+     * round-trip by the step timer
+     * @param driver Driver to wrap
+     * @return Wrapped driver, or the driver itself if both are disabled
+     */
+    private static WebDriver instrumented(WebDriver driver) {
+        return EventJournal.isEnabled() || StepTimer.isEnabled() ? CommandRecorder.record(driver) : driver;
+    }
+    
     /**
      * Initialize a WebDriver based on the browser specified in config
      */
     public static void initDriver() {
-        String browser = ConfigReader.getProperty("browser.type").toLowerCase();
+        String browser = ConfigReader.get().getBrowserType();
         initDriver(browser);
     }
     
@@ -140,6 +150,18 @@ public class WebDriverManager {
         }
     }
     
+    /**
+     * Use an existing driver on the current thread (e.g. a remote session or an in-process stub), quitting the
+     * previous one; it is instrumented like the drivers created here
+     * @param driver Driver to use
+     */
+    public static synchronized void setDriver(WebDriver driver) {
+        if (driverThreadLocal.get() != null) {
+            quitDriver();
+        }
+        driverThreadLocal.set(instrumented(driver));
+    }
+    
     /**
      * Get the WebDriver instance
      * @return WebDriver instance
@@ -171,6 +193,14 @@ public class WebDriverManager {
         }
     }
     
+    /**
+     * Get the WebDriver instance of the current thread without initializing one
+     * @return WebDriver instance, null if none is running on this thread
+     */
+    public static WebDriver getCurrentDriver() {
+        return driverThreadLocal.get();
+    }
+    
     /**
      * Quit the WebDriver instance for the current thread
      */
@@ -223,6 +253,7 @@ public class WebDriverManager {
                 
                 // Final check
                 currentUrl = driver.getCurrentUrl();
+                PageMetrics.record(driver, "WebDriverManager navigateTo");
                 Logger.info("Navigation complete. Current URL: " + currentUrl);
                 
             } catch (Exception e) {